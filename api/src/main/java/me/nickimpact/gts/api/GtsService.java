@@ -7,11 +7,14 @@ import com.google.gson.JsonSerializer;
 import com.nickimpact.impactor.api.registry.BuilderRegistry;
 import me.nickimpact.gts.api.deprecated.OldAdapter;
 import me.nickimpact.gts.api.enums.CommandResults;
+import me.nickimpact.gts.api.events.MarketEvent;
+import me.nickimpact.gts.api.events.MarketSubscription;
 import me.nickimpact.gts.api.holders.EntryRegistry;
 import me.nickimpact.gts.api.holders.ServiceInstance;
 import me.nickimpact.gts.api.listings.ListingManager;
 import me.nickimpact.gts.api.listings.entries.Entry;
 import me.nickimpact.gts.api.listings.entries.EntryUI;
+import me.nickimpact.gts.api.metrics.Metrics;
 import me.nickimpact.gts.api.searching.Searcher;
 import me.nickimpact.gts.api.storage.IGtsStorage;
 import me.nickimpact.gts.api.util.TriFunction;
@@ -19,7 +22,9 @@ import me.nickimpact.gts.api.util.TriFunction;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 public interface GtsService {
 
@@ -82,4 +87,47 @@ public interface GtsService {
 	<T> void addMinPriceOption(Class<? extends Entry<?, T, ?, ?, ?>> type, Function<T, Double> function);
 
 	<T> List<Function<T, Double>> getMinPriceOptionsForEntryType(Class<? extends Entry<?, T, ?, ?, ?>> type);
+
+	/**
+	 * Registers the blacklist for an entry type. The given check is expected to be cheap, typically a lookup
+	 * into a set compiled when the owning config was loaded, as it is consulted on every attempt to sell an element.
+	 * Registering a second blacklist for the same type replaces the first.
+	 *
+	 * @param type The entry type the blacklist applies to
+	 * @param blacklist Tests whether an element is blacklisted
+	 */
+	<T> void registerBlacklist(Class<? extends Entry<?, T, ?, ?, ?>> type, Predicate<T> blacklist);
+
+	/**
+	 * Checks whether the given element is blacklisted from being sold as the given entry type.
+	 *
+	 * @param type The entry type the element would be sold as
+	 * @param element The element to check
+	 * @return <code>true</code> if the element is blacklisted, <code>false</code> if it isn't or the entry type
+	 * has no blacklist
+	 */
+	<T> boolean isBlacklisted(Class<? extends Entry<?, T, ?, ?, ?>> type, T element);
+
+	/**
+	 * Fetches the metrics GTS records about itself. Extensions may register their own metrics here to have them
+	 * reported alongside GTS's.
+	 *
+	 * @return The metrics registry
+	 * @since 5.2.0
+	 */
+	Metrics getMetrics();
+
+	/**
+	 * Subscribes to the stream of changes made to the market, such as listings being added or sold. Events are
+	 * published once a change has been made, and are delivered in order on a thread dedicated to the subscriber,
+	 * so the consumer is free to block, such as to write to a database or call out to a web service.
+	 *
+	 * <p>The market never waits on a subscriber. A consumer which falls too far behind will miss events, which it
+	 * may detect through gaps in {@link MarketEvent#getSequence()}.</p>
+	 *
+	 * @param consumer Receives each event
+	 * @return The subscription, which may be used to stop receiving events
+	 * @since 5.2.0
+	 */
+	MarketSubscription subscribe(Consumer<MarketEvent> consumer);
 }
@@ -0,0 +1,91 @@
+package me.nickimpact.gts.api.events;
+
+import com.google.common.collect.ImmutableList;
+import lombok.Getter;
+import me.nickimpact.gts.api.GtsService;
+import me.nickimpact.gts.api.listings.Listing;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * A change to the market which has already taken place, as delivered to subscribers of
+ * {@link GtsService#subscribe(java.util.function.Consumer)}. Unlike {@link ListEvent} and {@link PurchaseEvent},
+ * these events can't be cancelled, and are delivered off of the server thread.
+ *
+ * <p>As such, an event only holds a snapshot of its listing, taken at the time of the change, rather than the
+ * listing itself.</p>
+ *
+ * @since 5.2.0
+ */
+@Getter
+public class MarketEvent {
+
+	public enum Type {
+		/** A listing was placed on the market */
+		LISTED,
+
+		/** A listing was bought */
+		SOLD,
+
+		/** A listing ran out of time and left the market */
+		EXPIRED,
+
+		/** A listing was removed from the market before it expired, such as by its owner */
+		REMOVED
+	}
+
+	/**
+	 * The position of this event within the stream. Sequences increase by one with each event, so a gap
+	 * between two events a subscriber receives means it fell behind, and missed the events in between.
+	 */
+	private final long sequence;
+
+	private final Type type;
+
+	/** The time at which the change took place */
+	private final Instant timestamp;
+
+	/** The ID of the listing which changed */
+	private final UUID listing;
+
+	private final UUID owner;
+
+	/** The name of the listing, as would be displayed to players */
+	private final String name;
+
+	private final double price;
+
+	/** The keys the listing's sales are tracked under, as given by {@link me.nickimpact.gts.api.listings.entries.Entry#getPriceKeys()} */
+	private final List<String> priceKeys;
+
+	/** The number of units the price pays for, as given by {@link me.nickimpact.gts.api.listings.entries.Entry#getPriceUnits()} */
+	private final int priceUnits;
+
+	private final UUID actor;
+
+	public MarketEvent(long sequence, Type type, Listing listing, UUID actor) {
+		this.sequence = sequence;
+		this.type = type;
+		this.timestamp = Instant.now();
+		this.listing = listing.getUuid();
+		this.owner = listing.getOwnerUUID();
+		this.name = listing.getName();
+		this.price = listing.getPrice().getPrice();
+		this.priceKeys = ImmutableList.copyOf(listing.getEntry().getPriceKeys());
+		this.priceUnits = listing.getEntry().getPriceUnits();
+		this.actor = actor;
+	}
+
+	/**
+	 * Fetches the player responsible for this change, such as the buyer of a sold listing. This is empty
+	 * for changes GTS makes itself, such as a listing expiring.
+	 *
+	 * @return The player responsible for the change, if any
+	 */
+	public Optional<UUID> getActor() {
+		return Optional.ofNullable(this.actor);
+	}
+}
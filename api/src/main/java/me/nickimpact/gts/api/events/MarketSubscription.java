@@ -0,0 +1,27 @@
+package me.nickimpact.gts.api.events;
+
+/**
+ * A consumer's place within the market event stream, as returned by
+ * {@link me.nickimpact.gts.api.GtsService#subscribe(java.util.function.Consumer)}.
+ *
+ * @since 5.2.0
+ */
+public interface MarketSubscription {
+
+	/**
+	 * Fetches the number of events this subscription missed because its consumer fell too far behind the market.
+	 * The market never waits on a consumer, so a consumer slower than the market will skip ahead to the most
+	 * recent events rather than hold anything up.
+	 *
+	 * @return The number of events skipped
+	 */
+	long getDropped();
+
+	boolean isActive();
+
+	/**
+	 * Stops delivering events to this subscription. Events already being handled will be allowed to finish.
+	 */
+	void cancel();
+
+}
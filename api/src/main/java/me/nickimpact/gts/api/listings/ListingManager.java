@@ -2,6 +2,7 @@ package me.nickimpact.gts.api.listings;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface ListingManager<E extends Listing> {
@@ -10,7 +11,16 @@ public interface ListingManager<E extends Listing> {
 
 	List<E> getListings();
 
-	List<UUID> getIgnorers();
+	Set<UUID> getIgnorers();
+
+	/**
+	 * Flips whether or not the specified player is ignoring GTS broadcasts, keeping both the
+	 * in-memory state and storage in sync.
+	 *
+	 * @param uuid The UUID of the player
+	 * @return <code>true</code> if the player is now ignoring broadcasts, <code>false</code> otherwise
+	 */
+	boolean toggleIgnoring(UUID uuid);
 
 	boolean addToMarket(UUID lister, E listing);
 
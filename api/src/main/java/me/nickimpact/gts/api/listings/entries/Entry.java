@@ -1,11 +1,14 @@
 package me.nickimpact.gts.api.listings.entries;
 
+import com.google.common.collect.Lists;
 import com.nickimpact.impactor.api.json.JsonTyping;
 import lombok.Setter;
 import me.nickimpact.gts.api.listings.Listing;
 import me.nickimpact.gts.api.listings.prices.Price;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * An element represents the actual elements we add into the GTS listings. Essentially,
@@ -55,6 +58,30 @@ public abstract class Entry<T, D, P, U, I> {
 	 */
 	public abstract List<String> getDetails();
 
+	/**
+	 * Retrieves the keys sales of this entry are grouped under when tracking what things sell for. Keys run from
+	 * the most general to the most specific, such that a shiny Garchomp might give <code>pokemon/garchomp</code>
+	 * followed by <code>pokemon/garchomp/shiny</code>. By default, an entry has no keys, and its sales aren't
+	 * tracked.
+	 *
+	 * @return The price keys of this entry
+	 * @since 5.2.3
+	 */
+	public List<String> getPriceKeys() {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Retrieves the number of units the price of this entry pays for, such as the size of an item stack. Prices
+	 * are tracked per unit, so that a stack of sixty four is comparable with a stack of one.
+	 *
+	 * @return The number of units held by this entry
+	 * @since 5.2.3
+	 */
+	public int getPriceUnits() {
+		return 1;
+	}
+
 	/**
 	 * Represents the ItemStack that will be used to represent the element in the listing display
 	 *
@@ -88,4 +115,26 @@ public abstract class Entry<T, D, P, U, I> {
 	 * @return true on success, false otherwise
 	 */
 	public abstract boolean doTakeAway(P player);
+
+	/**
+	 * Builds a set of price keys from a root and a series of facets, with each key adding one more facet to the
+	 * last. Facets which are <code>null</code> are skipped, so optional traits may be passed as is.
+	 *
+	 * @param root The root of each key, such as the entry's type
+	 * @param facets The facets of the entry, most general first
+	 * @return The price keys, most general first
+	 */
+	protected static List<String> priceKeys(String root, String... facets) {
+		StringBuilder key = new StringBuilder(root);
+		List<String> keys = Lists.newArrayList();
+		for(String facet : facets) {
+			if(facet == null || facet.trim().isEmpty()) {
+				continue;
+			}
+
+			key.append('/').append(facet.trim().toLowerCase(Locale.ROOT).replaceAll("[\\s/]+", "_"));
+			keys.add(key.toString());
+		}
+		return keys;
+	}
 }
@@ -0,0 +1,18 @@
+package me.nickimpact.gts.api.metrics;
+
+/**
+ * A count which only ever goes up, such as the number of failed storage calls.
+ *
+ * @since 5.2.0
+ */
+public interface Counter {
+
+	default void increment() {
+		this.add(1);
+	}
+
+	void add(long amount);
+
+	long getCount();
+
+}
@@ -0,0 +1,43 @@
+package me.nickimpact.gts.api.metrics;
+
+import java.util.function.Supplier;
+
+/**
+ * A registry of the metrics GTS records about itself, such as how long storage calls take or how many listings
+ * are on the market. Extensions may register metrics of their own here, which are then reported alongside the
+ * built-in ones by <code>/gts admin stats</code> and the metrics dump.
+ *
+ * <p>Names are dot separated and lower case, such as <code>storage.add_listing</code>. Asking for a metric
+ * by a name that's already registered returns the existing metric.</p>
+ *
+ * @since 5.2.0
+ */
+public interface Metrics {
+
+	/**
+	 * Fetches the timer with the given name, creating it if necessary.
+	 *
+	 * @param name The name of the timer
+	 * @return The timer
+	 */
+	Timer timer(String name);
+
+	/**
+	 * Fetches the counter with the given name, creating it if necessary.
+	 *
+	 * @param name The name of the counter
+	 * @return The counter
+	 */
+	Counter counter(String name);
+
+	/**
+	 * Registers a gauge, a value which is read whenever metrics are reported. Registering a gauge under a name
+	 * that's already in use replaces the previous gauge.
+	 *
+	 * @param name The name of the gauge
+	 * @param value Reads the current value of the gauge. This is called from the thread doing the reporting, so
+	 *              it should be cheap and safe to call from any thread
+	 */
+	void gauge(String name, Supplier<? extends Number> value);
+
+}
@@ -0,0 +1,41 @@
+package me.nickimpact.gts.api.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Records how long an operation takes, keeping a count, total and maximum along with a histogram of durations.
+ *
+ * @since 5.2.0
+ */
+public interface Timer {
+
+	void record(long duration, TimeUnit unit);
+
+	/**
+	 * Runs the given operation, recording how long it took, even if it throws.
+	 *
+	 * @param operation The operation to time
+	 * @return The result of the operation
+	 */
+	default <T> T time(Supplier<T> operation) {
+		long start = System.nanoTime();
+		try {
+			return operation.get();
+		} finally {
+			this.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	default void time(Runnable operation) {
+		long start = System.nanoTime();
+		try {
+			operation.run();
+		} finally {
+			this.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	long getCount();
+
+}
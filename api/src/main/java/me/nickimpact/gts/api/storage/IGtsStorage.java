@@ -3,10 +3,12 @@ package me.nickimpact.gts.api.storage;
 import me.nickimpact.gts.api.listings.Listing;
 import me.nickimpact.gts.api.listings.SoldListing;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 
 public interface IGtsStorage {
 
@@ -34,5 +36,28 @@ public interface IGtsStorage {
 
 	CompletableFuture<Boolean> deleteSoldListing(UUID id, UUID owner);
 
-	CompletableFuture<Boolean> purge();
+	/**
+	 * Deletes a set of sold listing records belonging to the specified owner in a single batch, typically
+	 * once the owner has been informed of their sales.
+	 *
+	 * @param owner The UUID of the owner of the sold listings
+	 * @param ids The IDs of the sold listing records to delete
+	 * @return <code>true</code> if the records were deleted, <code>false</code> otherwise
+	 */
+	CompletableFuture<Boolean> deleteSoldListings(UUID owner, Collection<UUID> ids);
+
+	/**
+	 * Deletes the records of one kind which a retention rule condemns, reading no more than a single chunk of them.
+	 * Records are read in order of their key, starting just after the given key, so a purge of the whole store is
+	 * made by calling this again with the key each result says to continue after. Keeping each chunk small keeps
+	 * each delete short, so the store is never held up for long however many records it holds.
+	 *
+	 * @param target The kind of record to purge
+	 * @param after The key to start after, or <code>null</code> to start at the first record
+	 * @param limit The most records to read
+	 * @param condemned The rule deciding which of the records read are deleted
+	 * @return How many records were read and deleted, and where the next chunk starts
+	 * @since 5.2.0
+	 */
+	CompletableFuture<PurgeResult> purge(PurgeTarget target, String after, int limit, Predicate<PurgeCandidate> condemned);
 }
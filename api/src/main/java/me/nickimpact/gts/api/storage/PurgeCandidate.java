@@ -0,0 +1,35 @@
+package me.nickimpact.gts.api.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * A record read from storage during a purge, with just enough of its detail for a retention rule to decide
+ * whether it should be kept.
+ *
+ * @since 5.2.0
+ */
+@RequiredArgsConstructor
+public class PurgeCandidate {
+
+	/** The key of the record within storage */
+	@Getter private final String key;
+
+	/** The player the record belongs to */
+	@Getter private final UUID owner;
+
+	private final Instant time;
+
+	/**
+	 * Fetches the time the record was made, for those kinds of record which keep one.
+	 *
+	 * @return The time the record was made
+	 */
+	public Optional<Instant> getTime() {
+		return Optional.ofNullable(this.time);
+	}
+}
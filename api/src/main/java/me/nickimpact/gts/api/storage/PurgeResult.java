@@ -0,0 +1,32 @@
+package me.nickimpact.gts.api.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * The outcome of purging a single chunk of records, along with where the next chunk starts.
+ *
+ * @since 5.2.0
+ */
+@RequiredArgsConstructor
+public class PurgeResult {
+
+	/** The number of records read within the chunk */
+	@Getter private final int scanned;
+
+	/** The number of records deleted within the chunk */
+	@Getter private final int deleted;
+
+	private final String next;
+
+	/**
+	 * Fetches the key the next chunk should start after, unless the end of the records has been reached.
+	 *
+	 * @return The key to continue the purge after
+	 */
+	public Optional<String> getNext() {
+		return Optional.ofNullable(this.next);
+	}
+}
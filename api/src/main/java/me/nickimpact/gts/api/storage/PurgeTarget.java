@@ -0,0 +1,16 @@
+package me.nickimpact.gts.api.storage;
+
+/**
+ * The kinds of record storage may purge once they're no longer of use.
+ *
+ * @since 5.2.0
+ */
+public enum PurgeTarget {
+
+	/** Records of sales, kept until the seller rejoins and is told of them */
+	SOLD,
+
+	/** Players who've chosen not to be told of new listings */
+	IGNORERS,
+
+}
@@ -0,0 +1,77 @@
+package me.nickimpact.gts.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.nickimpact.impactor.api.json.Registry;
+import me.nickimpact.gts.api.listings.entries.Entry;
+import me.nickimpact.gts.benchmarks.fakes.BenchmarkPlugin;
+import me.nickimpact.gts.benchmarks.fakes.FakeEntry;
+import me.nickimpact.gts.json.EntryAdapter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding and decoding entries through the {@link EntryAdapter}, which every storage implementation
+ * uses to persist listings.
+ *
+ * <p>The pokemon bridges' GsonUtils convert between NBT and JSON maps, which needs Minecraft on the classpath.
+ * The map to JSON step they share with everything else is covered by {@link #encodeNbtMap()} and
+ * {@link #decodeNbtMap()}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntryCodecBenchmark {
+
+	private Gson gson;
+	private FakeEntry entry;
+	private String encoded;
+
+	private Map<String, Object> nbt;
+	private String encodedNbt;
+
+	@Setup
+	public void setup() throws Exception {
+		BenchmarkPlugin plugin = new BenchmarkPlugin();
+		Registry<Entry> registry = new Registry<>(plugin);
+		registry.register(FakeEntry.class);
+
+		this.gson = new GsonBuilder()
+				.registerTypeAdapter(Entry.class, new EntryAdapter(plugin) {
+					@Override
+					protected Registry<Entry> getRegistry() {
+						return registry;
+					}
+				})
+				.create();
+		plugin.setGson(this.gson);
+
+		this.entry = new FakeEntry("Diamond Sword");
+		this.encoded = this.gson.toJson(this.entry, Entry.class);
+
+		this.nbt = NbtSample.pokemon();
+		this.encodedNbt = this.gson.toJson(this.nbt);
+	}
+
+	@Benchmark
+	public String encodeEntry() {
+		return this.gson.toJson(this.entry, Entry.class);
+	}
+
+	@Benchmark
+	public Entry decodeEntry() {
+		return this.gson.fromJson(this.encoded, Entry.class);
+	}
+
+	@Benchmark
+	public String encodeNbtMap() {
+		return this.gson.toJson(this.nbt);
+	}
+
+	@Benchmark
+	public Object decodeNbtMap() {
+		return this.gson.fromJson(this.encodedNbt, Map.class);
+	}
+}
@@ -0,0 +1,116 @@
+package me.nickimpact.gts.benchmarks;
+
+import com.google.common.collect.Lists;
+import me.nickimpact.gts.api.listings.Listing;
+import me.nickimpact.gts.api.searching.Searcher;
+import me.nickimpact.gts.benchmarks.fakes.FakeEntry;
+import me.nickimpact.gts.benchmarks.fakes.FakeListing;
+import me.nickimpact.gts.market.MarketEngine;
+import me.nickimpact.gts.simulator.SimulatedMarket;
+import me.nickimpact.gts.simulator.SimulationConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the lookups the listing managers and main UI perform over the full market, against the same
+ * {@link MarketEngine} the platforms run. ID lookups and listing limits go through the engine's indexes, while
+ * the owner, expiry and search filters walk its listings as the menus do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListingLookupBenchmark {
+
+	static final String[] NAMES = {
+			"Diamond Sword", "Iron Ingot", "Gold Block", "Pikachu", "Charizard", "Bulbasaur", "Oak Log",
+			"Ender Pearl", "Master Ball", "Rare Candy", "Eevee", "Mewtwo", "Stone", "Obsidian", "Leftovers"
+	};
+
+	@Param({"100", "1000", "10000"})
+	private int listings;
+
+	private MarketEngine<FakeListing> market;
+	private UUID target;
+	private UUID owner;
+
+	private final Searcher searcher = (listing, input) -> listing.getName().equalsIgnoreCase(input);
+	private final List<Predicate<Listing>> conditions = Lists.newArrayList(
+			listing -> listing.getPrice().getPrice() >= 100,
+			listing -> !listing.hasExpired()
+	);
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		List<UUID> owners = Lists.newArrayList();
+		for(int i = 0; i < Math.max(1, this.listings / 20); i++) {
+			owners.add(new UUID(random.nextLong(), random.nextLong()));
+		}
+
+		// Nobody is online and nothing is stored, as lookups never reach the players or storage
+		SimulatedMarket adapters = new SimulatedMarket(SimulationConfig.parse(new String[0]), Collections.emptySet(), null, null);
+		this.market = new MarketEngine<>(adapters, adapters, adapters, adapters);
+
+		LocalDateTime now = LocalDateTime.now();
+		List<FakeListing> seeded = Lists.newArrayList();
+		for(int i = 0; i < this.listings; i++) {
+			FakeListing listing = new FakeListing(
+					new UUID(random.nextLong(), random.nextLong()),
+					owners.get(random.nextInt(owners.size())),
+					new FakeEntry(NAMES[random.nextInt(NAMES.length)]),
+					1 + random.nextInt(10000),
+					// Roughly one in ten listings has already expired
+					random.nextInt(10) == 0 ? now.minusMinutes(5) : now.plusHours(1 + random.nextInt(48))
+			);
+			seeded.add(listing);
+			// Restored as if read in from storage, skipping the checks and announcements of a new listing
+			this.market.restore(listing);
+		}
+
+		// Look up a listing towards the back of the market, as the old linear scan's worst-ish case
+		this.target = seeded.get(this.listings * 3 / 4).getUuid();
+		this.owner = owners.get(0);
+	}
+
+	@Benchmark
+	public Optional<FakeListing> findById() {
+		return this.market.getListingByID(this.target);
+	}
+
+	@Benchmark
+	public boolean hasMaxListings() {
+		return this.market.hasMaxListings(this.owner);
+	}
+
+	@Benchmark
+	public List<FakeListing> listingsForOwner() {
+		return this.market.getListings().stream().filter(listing -> listing.getOwnerUUID().equals(this.owner)).collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public List<FakeListing> activeListings() {
+		return this.market.getListings().stream().filter(listing -> !listing.hasExpired()).collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public List<FakeListing> filterAndSearch() {
+		return this.market.getListings().stream().filter(listing -> {
+			for(Predicate<Listing> condition : this.conditions) {
+				if(!condition.test(listing)) {
+					return false;
+				}
+			}
+
+			return this.searcher.parse(listing, "pikachu");
+		}).collect(Collectors.toList());
+	}
+}
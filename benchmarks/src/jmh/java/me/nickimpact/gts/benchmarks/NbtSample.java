@@ -0,0 +1,49 @@
+package me.nickimpact.gts.benchmarks;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a map shaped like the one GsonUtils produces for a pokemon's NBT. Numbers are doubles and lists hold
+ * maps or strings, matching what the conversion emits.
+ */
+final class NbtSample {
+
+	private NbtSample() {}
+
+	static Map<String, Object> pokemon() {
+		Map<String, Object> nbt = Maps.newLinkedHashMap();
+		nbt.put("Name", "Pikachu");
+		nbt.put("Nickname", "");
+		nbt.put("Level", 50.0);
+		nbt.put("IsShiny", 0.0);
+		nbt.put("Growth", 3.0);
+		nbt.put("Nature", 12.0);
+		nbt.put("Ability", "Static");
+		nbt.put("UUIDMost", 4.513e18);
+		nbt.put("UUIDLeast", -8.122e18);
+		for(String stat : new String[]{"HP", "Attack", "Defence", "SpecialAttack", "SpecialDefence", "Speed"}) {
+			nbt.put("IV" + stat, 31.0);
+			nbt.put("EV" + stat, 84.0);
+		}
+
+		List<Object> moves = Lists.newArrayList();
+		for(String move : new String[]{"Thunderbolt", "Quick Attack", "Iron Tail", "Volt Tackle"}) {
+			Map<String, Object> entry = Maps.newLinkedHashMap();
+			entry.put("MoveID", move);
+			entry.put("PP", 15.0);
+			entry.put("PPBase", 15.0);
+			moves.add(entry);
+		}
+		nbt.put("Moveset", moves);
+
+		Map<String, Object> extras = Maps.newLinkedHashMap();
+		extras.put("Ribbons", Lists.newArrayList("Champion", "Effort"));
+		extras.put("OriginalTrainer", "Red");
+		nbt.put("Extras", extras);
+		return nbt;
+	}
+}
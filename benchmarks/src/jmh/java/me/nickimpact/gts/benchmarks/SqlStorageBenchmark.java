@@ -0,0 +1,107 @@
+package me.nickimpact.gts.benchmarks;
+
+import com.google.common.collect.Lists;
+import com.google.gson.GsonBuilder;
+import com.nickimpact.impactor.api.json.Registry;
+import me.nickimpact.gts.api.listings.SoldListing;
+import me.nickimpact.gts.api.listings.entries.Entry;
+import me.nickimpact.gts.benchmarks.fakes.BenchmarkPlugin;
+import me.nickimpact.gts.benchmarks.fakes.FakeEntry;
+import me.nickimpact.gts.benchmarks.fakes.FakeListing;
+import me.nickimpact.gts.benchmarks.fakes.MemoryH2ConnectionFactory;
+import me.nickimpact.gts.json.EntryAdapter;
+import me.nickimpact.gts.storage.implementation.sql.SqlImplementation;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SqlImplementation} against an in-memory H2 database created from the plugin's own schema.
+ * Each invocation leaves the tables as it found them, so the figures don't drift as iterations accumulate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SqlStorageBenchmark {
+
+	@Param({"0", "1000"})
+	private int existing;
+
+	private SqlImplementation storage;
+	private Random random;
+	private UUID owner;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		BenchmarkPlugin plugin = new BenchmarkPlugin();
+		Registry<Entry> registry = new Registry<>(plugin);
+		registry.register(FakeEntry.class);
+		plugin.setGson(new GsonBuilder()
+				.registerTypeAdapter(Entry.class, new EntryAdapter(plugin) {
+					@Override
+					protected Registry<Entry> getRegistry() {
+						return registry;
+					}
+				})
+				.create());
+
+		this.storage = new SqlImplementation(plugin, new MemoryH2ConnectionFactory("gts-bench-" + this.existing), "gts_");
+		this.storage.init();
+
+		this.random = new Random(42);
+		this.owner = new UUID(this.random.nextLong(), this.random.nextLong());
+		for(int i = 0; i < this.existing; i++) {
+			this.storage.addListing(this.listing());
+			this.storage.addToSoldListings(this.owner, new SoldListing("Pikachu", 100));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void teardown() throws Exception {
+		this.storage.shutdown();
+	}
+
+	@Benchmark
+	public boolean addAndDeleteListing() throws Exception {
+		FakeListing listing = this.listing();
+		this.storage.addListing(listing);
+		return this.storage.deleteListing(listing.getUuid());
+	}
+
+	@Benchmark
+	public List<UUID> ignorers() throws Exception {
+		UUID uuid = UUID.randomUUID();
+		this.storage.addIgnorer(uuid);
+		List<UUID> result = this.storage.getAllIgnorers();
+		this.storage.removeIgnorer(uuid);
+		return result;
+	}
+
+	@Benchmark
+	public boolean soldListingRoundTrip() throws Exception {
+		UUID seller = UUID.randomUUID();
+		List<UUID> ids = Lists.newArrayList();
+		for(int i = 0; i < 5; i++) {
+			SoldListing sold = new SoldListing("Diamond Sword", 250);
+			this.storage.addToSoldListings(seller, sold);
+			ids.add(sold.getId());
+		}
+
+		this.storage.getAllSoldListingsForPlayer(seller);
+		return this.storage.deleteSoldListings(seller, ids);
+	}
+
+	private FakeListing listing() {
+		return new FakeListing(
+				new UUID(this.random.nextLong(), this.random.nextLong()),
+				this.owner,
+				new FakeEntry(ListingLookupBenchmark.NAMES[this.random.nextInt(ListingLookupBenchmark.NAMES.length)]),
+				1 + this.random.nextInt(10000),
+				LocalDateTime.now().plusDays(1)
+		);
+	}
+}
@@ -0,0 +1,79 @@
+package me.nickimpact.gts.benchmarks;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import me.nickimpact.gts.metrics.HistogramTimer;
+import me.nickimpact.gts.spigot.tokens.TokenService;
+import org.bukkit.command.CommandSender;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures rendering message templates through the Spigot {@link TokenService}, which parses templates with
+ * regular expressions on every call. The Sponge side renders through Nucleus, which needs a running server,
+ * so it isn't covered here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateRenderBenchmark {
+
+	private static final String LINE = "&7{{player}} listed &e{{listing_name}} &7for &a{{price}} &7({{time_left:p}} left)";
+	private static final List<String> LORE = Lists.newArrayList(
+			"&7Seller: &e{{seller}}",
+			"&7Price: &a{{price}}",
+			"&7Time Left: &6{{time_left}}",
+			"",
+			"&7Species: &e{{pokemon}} &7(Level {{level}})",
+			"&7Nature: &e{{nature}}",
+			"&7Ability: &e{{ability}}"
+	);
+
+	private TokenService service;
+	private Map<String, Function<CommandSender, Optional<String>>> tokens;
+	private Map<String, Object> variables;
+
+	@Setup
+	public void setup() {
+		// The plugin is only consulted by translators for config values, none of which these templates use.
+		// Renders are still timed, as they are on a server, so the benchmark includes the cost of the timer
+		this.service = new TokenService(null, new HistogramTimer());
+
+		this.tokens = Maps.newHashMap();
+		this.tokens.put("listing_name", src -> Optional.of("Pikachu"));
+		this.tokens.put("seller", src -> Optional.of("NickImpact"));
+		this.tokens.put("price", src -> Optional.of("$1,250.00"));
+		this.tokens.put("time_left", src -> Optional.of("1d 4h 12m"));
+		this.tokens.put("pokemon", src -> Optional.of("Pikachu"));
+		this.tokens.put("level", src -> Optional.of("50"));
+		this.tokens.put("nature", src -> Optional.of("Timid"));
+		this.tokens.put("ability", src -> Optional.of("Static"));
+
+		this.variables = Maps.newHashMap();
+	}
+
+	@Benchmark
+	public String renderLine() {
+		return this.service.process(LINE, null, this.tokens, this.variables);
+	}
+
+	@Benchmark
+	public List<String> renderLore() {
+		List<String> out = Lists.newArrayList();
+		for(String line : LORE) {
+			out.add(this.service.process(line, null, this.tokens, this.variables));
+		}
+		return out;
+	}
+
+	@Benchmark
+	public String renderUnresolvedTokens() {
+		// Tokens without a supplier fall through to the registered translators before being left as-is
+		return this.service.process("{{unknown}} {{gts_unknown}} {{player}}", null, null, this.variables);
+	}
+}
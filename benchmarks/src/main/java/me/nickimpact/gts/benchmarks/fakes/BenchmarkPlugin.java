@@ -0,0 +1,150 @@
+package me.nickimpact.gts.benchmarks.fakes;
+
+import co.aikar.commands.BaseCommand;
+import com.google.common.collect.Lists;
+import com.google.gson.Gson;
+import com.nickimpact.impactor.api.configuration.Config;
+import com.nickimpact.impactor.api.logging.Logger;
+import com.nickimpact.impactor.api.platform.Platform;
+import com.nickimpact.impactor.api.plugin.ImpactorPlugin;
+import com.nickimpact.impactor.api.plugin.PluginInfo;
+import com.nickimpact.impactor.api.storage.StorageType;
+import com.nickimpact.impactor.api.storage.dependencies.DependencyManager;
+import com.nickimpact.impactor.api.storage.dependencies.classloader.PluginClassLoader;
+import me.nickimpact.gts.api.GtsService;
+import me.nickimpact.gts.api.plugin.IGTSPlugin;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+
+/**
+ * A plugin with no server behind it. It only provides what the benchmarked code reads from its plugin, which is
+ * the Gson instance and the bundled resources. Anything platform specific is left unset.
+ */
+public class BenchmarkPlugin implements IGTSPlugin {
+
+	private final ScheduledExecutorService async = Executors.newSingleThreadScheduledExecutor();
+	private Gson gson = new Gson();
+
+	public void setGson(Gson gson) {
+		this.gson = gson;
+	}
+
+	@Override
+	public GtsService getAPIService() {
+		return null;
+	}
+
+	@Override
+	public ScheduledExecutorService getAsyncExecutor() {
+		return this.async;
+	}
+
+	@Override
+	public Gson getGson() {
+		return this.gson;
+	}
+
+	@Override
+	public PluginClassLoader getPluginClassLoader() {
+		return null;
+	}
+
+	@Override
+	public DependencyManager getDependencyManager() {
+		return null;
+	}
+
+	@Override
+	public List<StorageType> getStorageTypes() {
+		return null;
+	}
+
+	@Override
+	public Platform getPlatform() {
+		return Platform.Spigot;
+	}
+
+	@Override
+	public PluginInfo getPluginInfo() {
+		return new PluginInfo() {
+			@Override
+			public String getID() {
+				return "gts-benchmarks";
+			}
+
+			@Override
+			public String getName() {
+				return "GTS Benchmarks";
+			}
+
+			@Override
+			public String getVersion() {
+				return "@version@";
+			}
+
+			@Override
+			public String getDescription() {
+				return "Headless plugin used by the GTS benchmarks";
+			}
+		};
+	}
+
+	@Override
+	public Logger getPluginLogger() {
+		return null;
+	}
+
+	@Override
+	public List<Config> getConfigs() {
+		return Lists.newArrayList();
+	}
+
+	@Override
+	public List<BaseCommand> getCommands() {
+		return Lists.newArrayList();
+	}
+
+	@Override
+	public List<Object> getListeners() {
+		return Lists.newArrayList();
+	}
+
+	@Override
+	public Consumer<ImpactorPlugin> onReload() {
+		return plugin -> {};
+	}
+
+	@Override
+	public boolean isConnected() {
+		return false;
+	}
+
+	@Override
+	public void setConnected() {
+
+	}
+
+	@Override
+	public void handleDisconnect() {
+
+	}
+
+	@Override
+	public Path getConfigDir() {
+		return null;
+	}
+
+	@Override
+	public Config getConfiguration() {
+		return null;
+	}
+
+	@Override
+	public Config getMsgConfig() {
+		return null;
+	}
+}
@@ -0,0 +1,69 @@
+package me.nickimpact.gts.benchmarks.fakes;
+
+import com.google.common.collect.Lists;
+import com.nickimpact.impactor.api.json.JsonTyping;
+import me.nickimpact.gts.api.listings.Listing;
+import me.nickimpact.gts.api.listings.entries.Entry;
+
+import java.util.List;
+
+/**
+ * An entry backed by a plain string, standing in for an item or pokemon.
+ */
+@JsonTyping("benchmark")
+public class FakeEntry extends Entry<String, String, Object, Object, Object> {
+
+	public FakeEntry() {
+		super();
+	}
+
+	public FakeEntry(String element) {
+		super(element);
+	}
+
+	@Override
+	public Entry setEntry(String backing) {
+		this.element = backing;
+		return this;
+	}
+
+	@Override
+	public String getEntry() {
+		return this.element;
+	}
+
+	@Override
+	public String getSpecsTemplate() {
+		return "{{listing_name}}";
+	}
+
+	@Override
+	public String getName() {
+		return this.element;
+	}
+
+	@Override
+	public List<String> getDetails() {
+		return Lists.newArrayList("Name: " + this.element);
+	}
+
+	@Override
+	public Object baseItemStack(Object player, Listing listing) {
+		return null;
+	}
+
+	@Override
+	public boolean supportsOffline() {
+		return true;
+	}
+
+	@Override
+	public boolean giveEntry(Object user) {
+		return true;
+	}
+
+	@Override
+	public boolean doTakeAway(Object player) {
+		return true;
+	}
+}
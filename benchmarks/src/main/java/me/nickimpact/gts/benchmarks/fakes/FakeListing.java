@@ -0,0 +1,23 @@
+package me.nickimpact.gts.benchmarks.fakes;
+
+import me.nickimpact.gts.api.listings.Listing;
+import me.nickimpact.gts.api.listings.prices.Price;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class FakeListing extends Listing<FakeEntry, Object, String> {
+
+	public FakeListing(UUID id, UUID owner, FakeEntry entry, double price, LocalDateTime expiration) {
+		this(id, owner, entry, new FakePrice(price), expiration);
+	}
+
+	public FakeListing(UUID id, UUID owner, FakeEntry entry, Price price, LocalDateTime expiration) {
+		super(id, owner, entry, price, expiration);
+	}
+
+	@Override
+	public String getDisplay(Object player) {
+		return this.getName();
+	}
+}
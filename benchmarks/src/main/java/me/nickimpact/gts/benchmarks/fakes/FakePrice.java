@@ -0,0 +1,42 @@
+package me.nickimpact.gts.benchmarks.fakes;
+
+import me.nickimpact.gts.api.listings.prices.Price;
+
+import java.util.UUID;
+
+public class FakePrice implements Price<String> {
+
+	private final double price;
+
+	public FakePrice(double price) {
+		this.price = price;
+	}
+
+	@Override
+	public String getText() {
+		return String.format("$%.2f", this.price);
+	}
+
+	@Override
+	public double getPrice() {
+		return this.price;
+	}
+
+	@Override
+	public boolean canPay(UUID uuid) {
+		return true;
+	}
+
+	@Override
+	public boolean pay(UUID uuid) {
+		return true;
+	}
+
+	@Override
+	public void reward(UUID uuid) {}
+
+	@Override
+	public double calcTax() {
+		return this.price * 0.08;
+	}
+}
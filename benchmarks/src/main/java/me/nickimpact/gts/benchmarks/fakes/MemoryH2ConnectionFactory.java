@@ -0,0 +1,62 @@
+package me.nickimpact.gts.benchmarks.fakes;
+
+import com.nickimpact.impactor.api.storage.sql.ConnectionFactory;
+import org.h2.jdbcx.JdbcDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Connects to an in-memory H2 database. One connection is held open for the lifetime of the factory, since H2
+ * drops an in-memory database as soon as its last connection closes.
+ */
+public class MemoryH2ConnectionFactory implements ConnectionFactory {
+
+	private final JdbcDataSource source = new JdbcDataSource();
+	private Connection keepAlive;
+
+	public MemoryH2ConnectionFactory(String name) {
+		// The schema quotes its table names with backticks, whereas most statements leave them unquoted. MySQL mode
+		// accepts the backticks, and lower casing unquoted names makes both spellings refer to the same table.
+		this.source.setURL("jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+	}
+
+	@Override
+	public String getImplementationName() {
+		return "H2";
+	}
+
+	@Override
+	public void init() {
+		try {
+			this.keepAlive = this.source.getConnection();
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	public void shutdown() throws Exception {
+		if(this.keepAlive != null) {
+			this.keepAlive.close();
+		}
+	}
+
+	@Override
+	public Map<String, String> getMeta() {
+		return Collections.emptyMap();
+	}
+
+	@Override
+	public Function<String, String> getStatementProcessor() {
+		return Function.identity();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return this.source.getConnection();
+	}
+}
@@ -0,0 +1,54 @@
+package me.nickimpact.gts.simulator;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Polls the heap in the background, keeping track of the most that was in use at any one time.
+ */
+public class HeapSampler {
+
+	private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+	private final AtomicLong peak = new AtomicLong();
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "GTS Simulator - Heap Sampler");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public void start(long interval, TimeUnit unit) {
+		this.executor.scheduleAtFixedRate(this::sample, 0, interval, unit);
+	}
+
+	public void stop() {
+		this.executor.shutdownNow();
+	}
+
+	public long getPeak() {
+		return this.peak.get();
+	}
+
+	/**
+	 * Fetches the heap in use once everything unreachable has been collected, which approximates how much the
+	 * market itself is holding onto.
+	 */
+	public long retained() {
+		for(int i = 0; i < 3; i++) {
+			System.gc();
+		}
+
+		return this.used();
+	}
+
+	private void sample() {
+		this.peak.accumulateAndGet(this.used(), Math::max);
+	}
+
+	private long used() {
+		return this.memory.getHeapMemoryUsage().getUsed();
+	}
+}
@@ -0,0 +1,68 @@
+package me.nickimpact.gts.simulator;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records every latency sample of a single operation, so exact percentiles can be reported once the run is over.
+ * A run of a few minutes produces at most a few million samples, which is cheap enough to keep in full.
+ */
+public class LatencyRecorder {
+
+	private long[] samples = new long[1024];
+	private int size;
+
+	private long succeeded;
+	private long failed;
+
+	public synchronized void record(long nanos, boolean success) {
+		if(this.size == this.samples.length) {
+			this.samples = Arrays.copyOf(this.samples, this.samples.length * 2);
+		}
+
+		this.samples[this.size++] = nanos;
+		if(success) {
+			this.succeeded++;
+		} else {
+			this.failed++;
+		}
+	}
+
+	public synchronized long getCount() {
+		return this.size;
+	}
+
+	public synchronized long getSucceeded() {
+		return this.succeeded;
+	}
+
+	public synchronized long getFailed() {
+		return this.failed;
+	}
+
+	/**
+	 * Calculates the latencies at the given percentiles, in milliseconds.
+	 *
+	 * @param percentiles The percentiles to report, each between 0 and 100
+	 * @return The latency at each percentile, in the order given
+	 */
+	public synchronized double[] percentiles(double... percentiles) {
+		double[] result = new double[percentiles.length];
+		if(this.size == 0) {
+			return result;
+		}
+
+		long[] sorted = Arrays.copyOf(this.samples, this.size);
+		Arrays.sort(sorted);
+		for(int i = 0; i < percentiles.length; i++) {
+			int index = (int) Math.ceil(percentiles[i] / 100 * sorted.length) - 1;
+			result[i] = toMillis(sorted[Math.max(0, Math.min(sorted.length - 1, index))]);
+		}
+
+		return result;
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+}
@@ -0,0 +1,328 @@
+package me.nickimpact.gts.simulator;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.gson.GsonBuilder;
+import com.nickimpact.impactor.api.json.Registry;
+import me.nickimpact.gts.api.listings.entries.Entry;
+import me.nickimpact.gts.benchmarks.fakes.BenchmarkPlugin;
+import me.nickimpact.gts.benchmarks.fakes.FakeEntry;
+import me.nickimpact.gts.benchmarks.fakes.FakeListing;
+import me.nickimpact.gts.benchmarks.fakes.MemoryH2ConnectionFactory;
+import me.nickimpact.gts.json.EntryAdapter;
+import me.nickimpact.gts.market.MarketEngine;
+import me.nickimpact.gts.storage.GtsStorage;
+import me.nickimpact.gts.storage.implementation.sql.SqlImplementation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Drives a market of synthetic sellers and buyers through the same {@link MarketEngine} the plugins use, without
+ * a server. Storage is the plugin's own SQL implementation over an in-memory H2 database, and the economy lives
+ * in memory.
+ *
+ * <p>Every market operation runs on a single thread standing in for the server thread, just as it would in game.
+ * Players act at random, as a Poisson process at the configured rates, and each operation's latency is measured
+ * from the moment it was meant to start rather than when the server thread got to it. A server thread falling
+ * behind therefore shows up in the latencies, instead of quietly slowing the players down.</p>
+ *
+ * <p>Run it with <code>gradlew :benchmarks:simulate -PsimArgs="--players=300 --listings=50000"</code>.</p>
+ */
+public class MarketSimulator {
+
+	private static final String[] NAMES = {
+			"Diamond Sword", "Iron Ingot", "Gold Block", "Pikachu", "Charizard", "Bulbasaur", "Oak Log",
+			"Ender Pearl", "Master Ball", "Rare Candy", "Eevee", "Mewtwo", "Stone", "Obsidian", "Leftovers"
+	};
+
+	private static final double[] PERCENTILES = {50, 90, 99, 99.9, 100};
+
+	private final SimulationConfig config;
+	private final Random random;
+
+	private final UUID[] players;
+	private final UUID[] sellers;
+
+	private final BenchmarkPlugin plugin = new BenchmarkPlugin();
+	private TrackingStorage storage;
+	private SimulatedEconomy economy;
+	private MarketEngine<FakeListing> market;
+
+	private final ScheduledExecutorService server = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "GTS Simulator - Server"));
+	private final HeapSampler heap = new HeapSampler();
+
+	private final Map<String, LatencyRecorder> recorders = Maps.newLinkedHashMap();
+	private final LongAdder expired = new LongAdder();
+
+	public MarketSimulator(SimulationConfig config) {
+		this.config = config;
+		this.random = new Random(config.getSeed());
+		this.players = this.uuids(config.getPlayers());
+		this.sellers = this.uuids(config.getSellers());
+
+		for(String operation : new String[]{"sell", "buy", "browse", "expire"}) {
+			this.recorders.put(operation, new LatencyRecorder());
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		SimulationConfig config = SimulationConfig.parse(args);
+		System.out.println("GTS market simulation");
+		config.describe().forEach(line -> System.out.println("  " + line));
+
+		MarketSimulator simulator = new MarketSimulator(config);
+		try {
+			simulator.setup();
+			simulator.seed();
+			simulator.run();
+			simulator.report();
+		} finally {
+			simulator.shutdown();
+		}
+	}
+
+	private void setup() throws Exception {
+		Registry<Entry> registry = new Registry<>(this.plugin);
+		registry.register(FakeEntry.class);
+		this.plugin.setGson(new GsonBuilder()
+				.registerTypeAdapter(Entry.class, new EntryAdapter(this.plugin) {
+					@Override
+					protected Registry<Entry> getRegistry() {
+						return registry;
+					}
+				})
+				.create());
+
+		this.storage = new TrackingStorage(new GtsStorage(this.plugin, new SqlImplementation(this.plugin, new MemoryH2ConnectionFactory("gts-simulator"), "gts_")));
+		this.storage.init();
+
+		this.economy = new SimulatedEconomy(this.config.getStartingBalance());
+		SimulatedMarket adapters = new SimulatedMarket(this.config, Sets.newHashSet(this.players), this.storage, this.economy);
+		this.market = new MarketEngine<>(adapters, adapters, adapters, adapters);
+		this.heap.start(250, TimeUnit.MILLISECONDS);
+	}
+
+	private void seed() {
+		long start = System.nanoTime();
+		for(int i = 0; i < this.config.getListings(); i++) {
+			// Seeded listings skip the market's checks, as if they had been read in from storage
+			FakeListing listing = this.listing(this.sellers[this.random.nextInt(this.sellers.length)]);
+			this.storage.addListing(listing);
+			this.market.restore(listing);
+		}
+
+		long drained = this.drain(TimeUnit.MINUTES.toNanos(10));
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.println(String.format(
+				"Seeded %d listings in %.2fs (%.0f writes/s)%s",
+				this.config.getListings(),
+				seconds,
+				this.config.getListings() / seconds,
+				drained > 0 ? ", " + drained + " writes still pending" : ""
+		));
+	}
+
+	private void run() throws InterruptedException {
+		this.server.scheduleAtFixedRate(this::sweep, 1, 1, TimeUnit.SECONDS);
+
+		double perMinute = this.config.getSellRate() + this.config.getBuyRate() + this.config.getBrowseRate();
+		double perNano = this.config.getPlayers() * perMinute / TimeUnit.MINUTES.toNanos(1);
+		if(perNano <= 0) {
+			throw new IllegalArgumentException("At least one player and one non-zero rate are required");
+		}
+
+		long start = System.nanoTime();
+		long end = start + TimeUnit.SECONDS.toNanos(this.config.getDuration());
+		long next = start;
+		while(true) {
+			next += (long) (-Math.log(1 - this.random.nextDouble()) / perNano);
+			if(next >= end) {
+				break;
+			}
+
+			long wait = next - System.nanoTime();
+			if(wait > 0) {
+				LockSupport.parkNanos(wait);
+			}
+
+			UUID player = this.players[this.random.nextInt(this.players.length)];
+			double action = this.random.nextDouble() * perMinute;
+			double pick = this.random.nextDouble();
+			if(action < this.config.getSellRate()) {
+				FakeListing listing = this.listing(player);
+				this.submit("sell", next, () -> this.market.addToMarket(player, listing));
+			} else if(action < this.config.getSellRate() + this.config.getBuyRate()) {
+				this.submit("buy", next, () -> this.buy(player, pick));
+			} else {
+				this.submit("browse", next, () -> this.browse(pick));
+			}
+		}
+
+		this.server.shutdown();
+		if(!this.server.awaitTermination(1, TimeUnit.MINUTES)) {
+			System.out.println("The server thread didn't catch up within a minute of the run ending");
+		}
+		this.drain(TimeUnit.MINUTES.toNanos(1));
+	}
+
+	private void submit(String operation, long intended, BooleanSupplier action) {
+		LatencyRecorder recorder = this.recorders.get(operation);
+		this.server.execute(() -> {
+			boolean success = false;
+			try {
+				success = action.getAsBoolean();
+			} catch (Exception e) {
+				e.printStackTrace();
+			} finally {
+				recorder.record(System.nanoTime() - intended, success);
+			}
+		});
+	}
+
+	private boolean buy(UUID buyer, double pick) {
+		List<FakeListing> listings = this.market.getListings();
+		if(listings.isEmpty()) {
+			return false;
+		}
+
+		FakeListing listing = listings.get((int) (pick * listings.size()));
+		if(listing.getOwnerUUID().equals(buyer)) {
+			return false;
+		}
+
+		return this.market.purchase(buyer, listing);
+	}
+
+	/**
+	 * Mirrors opening a page of the listings GUI, which filters out expired listings before paging through the rest.
+	 */
+	private boolean browse(double pick) {
+		List<FakeListing> listings = this.market.getListings();
+		int pages = Math.max(1, (listings.size() + this.config.getPageSize() - 1) / this.config.getPageSize());
+		List<FakeListing> page = listings.stream()
+				.filter(listing -> !listing.hasExpired())
+				.skip((long) (pick * pages) * this.config.getPageSize())
+				.limit(this.config.getPageSize())
+				.collect(Collectors.toList());
+		return !page.isEmpty();
+	}
+
+	/**
+	 * Mirrors the listing tasks, which pull expired listings off the market once a second.
+	 */
+	private void sweep() {
+		long start = System.nanoTime();
+		List<FakeListing> expired = this.market.getListings().stream()
+				.filter(FakeListing::hasExpired)
+				.collect(Collectors.toList());
+		expired.forEach(this.market::deleteListing);
+		this.expired.add(expired.size());
+		this.recorders.get("expire").record(System.nanoTime() - start, true);
+	}
+
+	/**
+	 * Waits for storage to finish the writes handed to it.
+	 *
+	 * @return The number of writes still pending once the timeout elapsed
+	 */
+	private long drain(long timeout) {
+		long deadline = System.nanoTime() + timeout;
+		while(this.storage.getPendingWrites() > 0 && System.nanoTime() < deadline) {
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+		}
+
+		return this.storage.getPendingWrites();
+	}
+
+	private void report() {
+		System.out.println();
+		System.out.println(String.format(
+				"%-8s %10s %10s %10s %10s %10s %10s %10s %10s %10s",
+				"op", "count", "ok", "failed", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"
+		));
+
+		long total = 0;
+		for(Map.Entry<String, LatencyRecorder> entry : this.recorders.entrySet()) {
+			LatencyRecorder recorder = entry.getValue();
+			double[] latencies = recorder.percentiles(PERCENTILES);
+			total += recorder.getCount();
+			System.out.println(String.format(
+					"%-8s %10d %10d %10d %10.1f %10.3f %10.3f %10.3f %10.3f %10.3f",
+					entry.getKey(),
+					recorder.getCount(),
+					recorder.getSucceeded(),
+					recorder.getFailed(),
+					recorder.getCount() / (double) this.config.getDuration(),
+					latencies[0],
+					latencies[1],
+					latencies[2],
+					latencies[3],
+					latencies[4]
+			));
+		}
+
+		System.out.println();
+		System.out.println(String.format("Throughput: %.1f ops/s over %ds", total / (double) this.config.getDuration(), this.config.getDuration()));
+		System.out.println(String.format(
+				"Market: %d listings remaining, %d expired, %d storage writes failed, %d still pending",
+				this.market.getListings().size(),
+				this.expired.sum(),
+				this.storage.getFailedWrites(),
+				this.storage.getPendingWrites()
+		));
+
+		System.out.println("Economy:");
+		this.economy.getTimings().summarise().forEach(line -> System.out.println("  " + line));
+
+		System.out.println(String.format(
+				"Heap: peak %.1f MB, retained after GC %.1f MB",
+				toMegabytes(this.heap.getPeak()),
+				toMegabytes(this.heap.retained())
+		));
+	}
+
+	private void shutdown() {
+		this.server.shutdownNow();
+		this.heap.stop();
+		if(this.storage != null) {
+			this.storage.shutdown();
+		}
+		this.plugin.getAsyncExecutor().shutdownNow();
+	}
+
+	private FakeListing listing(UUID owner) {
+		double price = Math.max(1, this.config.getPriceMedian() * Math.exp(this.config.getPriceSpread() * this.random.nextGaussian()));
+		boolean expiresSoon = this.random.nextDouble() < this.config.getShortExpiryFraction();
+		return new FakeListing(
+				new UUID(this.random.nextLong(), this.random.nextLong()),
+				owner,
+				new FakeEntry(NAMES[this.random.nextInt(NAMES.length)]),
+				new SimulatedPrice(this.economy, Math.round(price * 100) / 100.0, this.config.getTax()),
+				LocalDateTime.now().plusSeconds(expiresSoon ? this.config.getShortExpiry() : this.config.getLongExpiry())
+		);
+	}
+
+	private UUID[] uuids(int amount) {
+		UUID[] uuids = new UUID[amount];
+		for(int i = 0; i < amount; i++) {
+			uuids[i] = new UUID(this.random.nextLong(), this.random.nextLong());
+		}
+
+		return uuids;
+	}
+
+	private static double toMegabytes(long bytes) {
+		return bytes / (1024.0 * 1024.0);
+	}
+}
@@ -0,0 +1,62 @@
+package me.nickimpact.gts.simulator;
+
+import com.google.common.collect.Maps;
+import me.nickimpact.gts.economy.EconomyAdapter;
+import me.nickimpact.gts.economy.EconomyTimings;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An economy held entirely in memory. Every account starts out with the same balance, and is created the first
+ * time it is touched.
+ */
+public class SimulatedEconomy implements EconomyAdapter {
+
+	private final Map<UUID, Double> balances = Maps.newConcurrentMap();
+	private final EconomyTimings timings = new EconomyTimings();
+	private final double startingBalance;
+
+	public SimulatedEconomy(double startingBalance) {
+		this.startingBalance = startingBalance;
+	}
+
+	@Override
+	public double getBalance(UUID uuid) {
+		return this.timings.time("balance", () -> this.balances.getOrDefault(uuid, this.startingBalance));
+	}
+
+	@Override
+	public boolean withdrawIfSufficient(UUID uuid, double amount) {
+		return this.timings.time("withdraw", () -> {
+			AtomicBoolean withdrawn = new AtomicBoolean();
+			this.balances.compute(uuid, (key, balance) -> {
+				double current = balance != null ? balance : this.startingBalance;
+				if(current < amount) {
+					return current;
+				}
+
+				withdrawn.set(true);
+				return current - amount;
+			});
+			return withdrawn.get();
+		});
+	}
+
+	@Override
+	public boolean deposit(UUID uuid, double amount) {
+		return this.timings.time("deposit", () -> {
+			this.balances.merge(uuid, this.startingBalance + amount, (balance, ignored) -> balance + amount);
+			return true;
+		});
+	}
+
+	@Override
+	public void invalidate(UUID uuid) {}
+
+	@Override
+	public EconomyTimings getTimings() {
+		return this.timings;
+	}
+}
@@ -0,0 +1,120 @@
+package me.nickimpact.gts.simulator;
+
+import com.nickimpact.impactor.api.configuration.ConfigKey;
+import me.nickimpact.gts.api.storage.IGtsStorage;
+import me.nickimpact.gts.benchmarks.fakes.FakeListing;
+import me.nickimpact.gts.economy.EconomyAdapter;
+import me.nickimpact.gts.market.MarketContext;
+import me.nickimpact.gts.market.MarketEventBus;
+import me.nickimpact.gts.market.MarketListener;
+import me.nickimpact.gts.market.MarketMessenger;
+import me.nickimpact.gts.market.MarketPlayers;
+import me.nickimpact.gts.market.MarketServices;
+import me.nickimpact.gts.market.MarketSettings;
+import me.nickimpact.gts.metrics.MetricsRegistry;
+import me.nickimpact.gts.metrics.Tracer;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Connects the market engine to the simulation. The simulated players are always online, the sellers the market
+ * was seeded with never are, and messages go nowhere.
+ */
+public class SimulatedMarket implements MarketPlayers<FakeListing>, MarketMessenger, MarketListener<FakeListing>, MarketServices, MarketSettings {
+
+	private final SimulationConfig config;
+	private final Set<UUID> online;
+	private final TrackingStorage storage;
+	private final SimulatedEconomy economy;
+
+	/** Never enabled, as the simulator records latencies of its own */
+	private final Tracer tracer = new Tracer(null);
+
+	/** Nothing subscribes, so publishing costs the market no more than checking for subscribers */
+	private final MarketEventBus events = new MarketEventBus(null, new MetricsRegistry());
+
+	public SimulatedMarket(SimulationConfig config, Set<UUID> online, TrackingStorage storage, SimulatedEconomy economy) {
+		this.config = config;
+		this.online = online;
+		this.storage = storage;
+		this.economy = economy;
+	}
+
+	@Override
+	public boolean isOnline(UUID uuid) {
+		return this.online.contains(uuid);
+	}
+
+	@Override
+	public boolean takeEntry(UUID lister, FakeListing listing) {
+		return listing.getEntry().doTakeAway(lister);
+	}
+
+	@Override
+	public boolean giveEntry(UUID receiver, FakeListing listing) {
+		return listing.getEntry().giveEntry(receiver);
+	}
+
+	@Override
+	public void send(UUID recipient, ConfigKey<?> key, MarketContext context) {}
+
+	@Override
+	public void broadcast(ConfigKey<?> key, MarketContext context, Predicate<UUID> recipients) {}
+
+	@Override
+	public IGtsStorage getStorage() {
+		return this.storage;
+	}
+
+	@Override
+	public MarketSettings getSettings() {
+		return this;
+	}
+
+	@Override
+	public EconomyAdapter getEconomy() {
+		return this.economy;
+	}
+
+	@Override
+	public Tracer getTracer() {
+		return this.tracer;
+	}
+
+	@Override
+	public MarketEventBus getEvents() {
+		return this.events;
+	}
+
+	@Override
+	public int getMaxListings() {
+		return this.config.getMaxListings();
+	}
+
+	@Override
+	public boolean isCooldownsEnabled() {
+		return this.config.getCooldown() > 0;
+	}
+
+	@Override
+	public long getCooldownWait() {
+		return this.config.getCooldown();
+	}
+
+	@Override
+	public boolean isMinPricingEnabled() {
+		return false;
+	}
+
+	@Override
+	public double getMaxMoneyPrice() {
+		return this.config.getMaxPrice();
+	}
+
+	@Override
+	public boolean isTaxEnabled() {
+		return this.config.getTax() > 0;
+	}
+}
@@ -0,0 +1,52 @@
+package me.nickimpact.gts.simulator;
+
+import me.nickimpact.gts.api.listings.prices.Price;
+
+import java.util.UUID;
+
+/**
+ * A money price settled through the {@link SimulatedEconomy}, in the same way the platforms' money prices go
+ * through their economy adapters.
+ */
+public class SimulatedPrice implements Price<String> {
+
+	private final SimulatedEconomy economy;
+	private final double price;
+	private final double tax;
+
+	public SimulatedPrice(SimulatedEconomy economy, double price, double tax) {
+		this.economy = economy;
+		this.price = price;
+		this.tax = tax;
+	}
+
+	@Override
+	public String getText() {
+		return String.format("$%.2f", this.price);
+	}
+
+	@Override
+	public double getPrice() {
+		return this.price;
+	}
+
+	@Override
+	public boolean canPay(UUID uuid) {
+		return this.economy.getBalance(uuid) >= this.price;
+	}
+
+	@Override
+	public boolean pay(UUID uuid) {
+		return this.economy.withdrawIfSufficient(uuid, this.price);
+	}
+
+	@Override
+	public void reward(UUID uuid) {
+		this.economy.deposit(uuid, this.price);
+	}
+
+	@Override
+	public double calcTax() {
+		return this.price * this.tax;
+	}
+}
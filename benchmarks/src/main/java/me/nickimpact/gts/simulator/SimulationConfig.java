@@ -0,0 +1,155 @@
+package me.nickimpact.gts.simulator;
+
+import com.google.common.collect.Lists;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The knobs of a simulation run. Every option may be overridden on the command line in the form
+ * <code>--players=300</code>, using the names listed by {@link #describe()}.
+ */
+@Getter
+public class SimulationConfig {
+
+	/** The amount of listings placed on the market before the simulated players start */
+	private int listings = 50000;
+
+	/** The amount of players concurrently using the market */
+	private int players = 300;
+
+	/** The amount of distinct sellers the seeded listings are spread between */
+	private int sellers = 2000;
+
+	/** How long, in seconds, the players are left running */
+	private int duration = 60;
+
+	/** How many times a minute each player lists something for sale */
+	private double sellRate = 2;
+
+	/** How many times a minute each player buys a listing */
+	private double buyRate = 1.5;
+
+	/** How many times a minute each player opens a page of the market */
+	private double browseRate = 12;
+
+	/** The median price of a listing. Prices follow a log-normal distribution around this */
+	private double priceMedian = 500;
+
+	/** The sigma of the log-normal price distribution. Larger values give a longer tail of expensive listings */
+	private double priceSpread = 1.0;
+
+	/** The fraction of new listings which expire during the run */
+	private double shortExpiryFraction = 0.2;
+
+	/** How long, in seconds, a short lived listing lasts */
+	private int shortExpiry = 30;
+
+	/** How long, in seconds, every other listing lasts */
+	private int longExpiry = 7200;
+
+	private double startingBalance = 100000;
+	private double tax = 0.08;
+	private int maxListings = 500;
+
+	/** How long, in seconds, a player must wait between listings. Disabled by default, as on a fresh config */
+	private long cooldown = 0;
+
+	private double maxPrice = 1000000000;
+
+	/** The size of a page of the market, matching the listings GUI */
+	private int pageSize = 45;
+
+	private long seed = 42;
+
+	public static SimulationConfig parse(String[] args) {
+		SimulationConfig config = new SimulationConfig();
+		for(String arg : args) {
+			if(arg.isEmpty()) {
+				continue;
+			}
+
+			if(!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("Expected an option in the form --name=value, got: " + arg);
+			}
+
+			String name = arg.substring(2, arg.indexOf('=')).toLowerCase(Locale.ROOT);
+			String value = arg.substring(arg.indexOf('=') + 1);
+			switch (name) {
+				case "listings":
+					config.listings = Integer.parseInt(value);
+					break;
+				case "players":
+					config.players = Integer.parseInt(value);
+					break;
+				case "sellers":
+					config.sellers = Integer.parseInt(value);
+					break;
+				case "duration":
+					config.duration = Integer.parseInt(value);
+					break;
+				case "sell-rate":
+					config.sellRate = Double.parseDouble(value);
+					break;
+				case "buy-rate":
+					config.buyRate = Double.parseDouble(value);
+					break;
+				case "browse-rate":
+					config.browseRate = Double.parseDouble(value);
+					break;
+				case "price-median":
+					config.priceMedian = Double.parseDouble(value);
+					break;
+				case "price-spread":
+					config.priceSpread = Double.parseDouble(value);
+					break;
+				case "short-expiry-fraction":
+					config.shortExpiryFraction = Double.parseDouble(value);
+					break;
+				case "short-expiry":
+					config.shortExpiry = Integer.parseInt(value);
+					break;
+				case "long-expiry":
+					config.longExpiry = Integer.parseInt(value);
+					break;
+				case "starting-balance":
+					config.startingBalance = Double.parseDouble(value);
+					break;
+				case "tax":
+					config.tax = Double.parseDouble(value);
+					break;
+				case "max-listings":
+					config.maxListings = Integer.parseInt(value);
+					break;
+				case "cooldown":
+					config.cooldown = Long.parseLong(value);
+					break;
+				case "max-price":
+					config.maxPrice = Double.parseDouble(value);
+					break;
+				case "page-size":
+					config.pageSize = Integer.parseInt(value);
+					break;
+				case "seed":
+					config.seed = Long.parseLong(value);
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown option: --" + name);
+			}
+		}
+
+		return config;
+	}
+
+	public List<String> describe() {
+		return Lists.newArrayList(
+				String.format("listings=%d players=%d sellers=%d duration=%ds", this.listings, this.players, this.sellers, this.duration),
+				String.format("sell-rate=%.2f buy-rate=%.2f browse-rate=%.2f (per player, per minute)", this.sellRate, this.buyRate, this.browseRate),
+				String.format("price-median=%.2f price-spread=%.2f max-price=%.0f", this.priceMedian, this.priceSpread, this.maxPrice),
+				String.format("short-expiry-fraction=%.2f short-expiry=%ds long-expiry=%ds", this.shortExpiryFraction, this.shortExpiry, this.longExpiry),
+				String.format("starting-balance=%.0f tax=%.2f max-listings=%d cooldown=%ds", this.startingBalance, this.tax, this.maxListings, this.cooldown),
+				String.format("page-size=%d seed=%d", this.pageSize, this.seed)
+		);
+	}
+}
@@ -0,0 +1,122 @@
+package me.nickimpact.gts.simulator;
+
+import me.nickimpact.gts.api.listings.Listing;
+import me.nickimpact.gts.api.listings.SoldListing;
+import me.nickimpact.gts.api.storage.IGtsStorage;
+import me.nickimpact.gts.api.storage.PurgeCandidate;
+import me.nickimpact.gts.api.storage.PurgeResult;
+import me.nickimpact.gts.api.storage.PurgeTarget;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Wraps a storage, keeping count of the writes handed to it which haven't completed yet, along with those which
+ * failed. The market never waits on its writes, so a count that keeps climbing during a run means storage can't
+ * keep up with it.
+ */
+public class TrackingStorage implements IGtsStorage {
+
+	private final IGtsStorage delegate;
+
+	private final AtomicInteger pending = new AtomicInteger();
+	private final LongAdder failed = new LongAdder();
+
+	public TrackingStorage(IGtsStorage delegate) {
+		this.delegate = delegate;
+	}
+
+	public int getPendingWrites() {
+		return this.pending.get();
+	}
+
+	public long getFailedWrites() {
+		return this.failed.sum();
+	}
+
+	@Override
+	public void init() {
+		this.delegate.init();
+	}
+
+	@Override
+	public void shutdown() {
+		this.delegate.shutdown();
+	}
+
+	@Override
+	public Map<String, String> getMeta() {
+		return this.delegate.getMeta();
+	}
+
+	@Override
+	public CompletableFuture<Boolean> addListing(Listing listing) {
+		return this.track(this.delegate.addListing(listing));
+	}
+
+	@Override
+	public CompletableFuture<Boolean> deleteListing(UUID uuid) {
+		return this.track(this.delegate.deleteListing(uuid));
+	}
+
+	@Override
+	public CompletableFuture<List<Listing>> getListings() {
+		return this.delegate.getListings();
+	}
+
+	@Override
+	public CompletableFuture<Boolean> addIgnorer(UUID uuid) {
+		return this.track(this.delegate.addIgnorer(uuid));
+	}
+
+	@Override
+	public CompletableFuture<Boolean> removeIgnorer(UUID uuid) {
+		return this.track(this.delegate.removeIgnorer(uuid));
+	}
+
+	@Override
+	public CompletableFuture<List<UUID>> getAllIgnorers() {
+		return this.delegate.getAllIgnorers();
+	}
+
+	@Override
+	public CompletableFuture<Boolean> addToSoldListings(UUID owner, SoldListing listing) {
+		return this.track(this.delegate.addToSoldListings(owner, listing));
+	}
+
+	@Override
+	public CompletableFuture<List<SoldListing>> getAllSoldListingsForPlayer(UUID uuid) {
+		return this.delegate.getAllSoldListingsForPlayer(uuid);
+	}
+
+	@Override
+	public CompletableFuture<Boolean> deleteSoldListing(UUID id, UUID owner) {
+		return this.track(this.delegate.deleteSoldListing(id, owner));
+	}
+
+	@Override
+	public CompletableFuture<Boolean> deleteSoldListings(UUID owner, Collection<UUID> ids) {
+		return this.track(this.delegate.deleteSoldListings(owner, ids));
+	}
+
+	@Override
+	public CompletableFuture<PurgeResult> purge(PurgeTarget target, String after, int limit, Predicate<PurgeCandidate> condemned) {
+		return this.delegate.purge(target, after, limit, condemned);
+	}
+
+	private CompletableFuture<Boolean> track(CompletableFuture<Boolean> write) {
+		this.pending.incrementAndGet();
+		return write.whenComplete((result, throwable) -> {
+			this.pending.decrementAndGet();
+			if(throwable != null || !Boolean.TRUE.equals(result)) {
+				this.failed.increment();
+			}
+		});
+	}
+}
@@ -0,0 +1,292 @@
+package me.nickimpact.gts.audit;
+
+import com.google.gson.stream.JsonWriter;
+import me.nickimpact.gts.api.events.MarketEvent;
+import me.nickimpact.gts.api.events.MarketSubscription;
+import me.nickimpact.gts.api.plugin.IGTSPlugin;
+import me.nickimpact.gts.config.ConfigKeys;
+import me.nickimpact.gts.market.MarketEventBus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An append-only record of every change made to the market, kept as a lasting trade history. Sold listings
+ * within storage are deleted once their seller has been told about them, whereas the audit log keeps them.
+ *
+ * <p>The log subscribes to the {@link MarketEventBus}, so records are written on the bus's thread rather than
+ * the server thread, and a slow disk can't hold up a purchase. Each record is a single JSON object on its own
+ * line. Records are written into segments, with a new segment started once the current one reaches the configured
+ * size or age. Closed segments are compressed with gzip in the background. {@link AuditQuery} reads both.</p>
+ *
+ * <p>The bus never waits on the log, so should the log fall a full ring behind, the events it missed are noted by
+ * a <code>GAP</code> record in their place, holding the number lost. On shutdown, the log writes out every event
+ * still in the ring before closing.</p>
+ */
+public class AuditLog implements Consumer<MarketEvent> {
+
+	static final String SEGMENT_PREFIX = "audit-";
+	static final String SEGMENT_SUFFIX = ".ndjson";
+	static final String COMPRESSED_SUFFIX = ".ndjson.gz";
+
+	/** The type of the record written in place of events the log fell too far behind to read */
+	static final String GAP = "GAP";
+
+	private static final DateTimeFormatter SEGMENT_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH-mm-ss-SSS");
+	private static final long FLUSH_INTERVAL = 1;
+	/** How long, in seconds, closing waits for events still in the ring to be written */
+	private static final long DRAIN_TIMEOUT = 5;
+
+	private final IGTSPlugin plugin;
+	private final MarketEventBus events;
+
+	private MarketSubscription subscription;
+	private ScheduledFuture<?> flusher;
+	private long dropped;
+
+	private Path directory;
+	private long maxSize;
+	private long maxAge;
+
+	private Writer writer;
+	private Path segment;
+	private long written;
+	private long opened;
+
+	public AuditLog(IGTSPlugin plugin, MarketEventBus events) {
+		this.plugin = plugin;
+		this.events = events;
+	}
+
+	/**
+	 * Applies the current config, starting or stopping the log as needed. Intended to be called on startup and
+	 * again after each reload, from the server thread.
+	 */
+	public void configure() {
+		if(!this.plugin.getConfiguration().get(ConfigKeys.AUDIT_ENABLED)) {
+			this.close();
+			return;
+		}
+
+		Path directory = this.plugin.getConfigDir().resolve(this.plugin.getConfiguration().get(ConfigKeys.AUDIT_DIRECTORY));
+		synchronized(this) {
+			this.maxSize = this.plugin.getConfiguration().get(ConfigKeys.AUDIT_SEGMENT_SIZE) * 1024L * 1024L;
+			this.maxAge = TimeUnit.HOURS.toNanos(this.plugin.getConfiguration().get(ConfigKeys.AUDIT_SEGMENT_AGE));
+			if(this.subscription != null && directory.equals(this.directory)) {
+				return;
+			}
+		}
+
+		// Closed outside the lock, as the events left in the ring are written out by the subscriber, which needs it
+		this.close();
+		this.open(directory);
+	}
+
+	private synchronized void open(Path directory) {
+		this.directory = directory;
+		try {
+			Files.createDirectories(directory);
+		} catch (IOException e) {
+			this.plugin.getPluginLogger().error("Unable to create the audit log directory, the audit log will be disabled: " + e.getMessage());
+			return;
+		}
+
+		// Segments left open by a previous run are closed by now, so they can be compressed
+		try(DirectoryStream<Path> leftovers = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+			for(Path leftover : leftovers) {
+				this.plugin.getAsyncExecutor().execute(() -> this.compress(leftover));
+			}
+		} catch (IOException e) {
+			this.plugin.getPluginLogger().error("Unable to read the audit log directory: " + e.getMessage());
+		}
+
+		this.dropped = 0;
+		this.subscription = this.events.subscribe(this);
+		this.flusher = this.plugin.getAsyncExecutor().scheduleAtFixedRate(this::flush, FLUSH_INTERVAL, FLUSH_INTERVAL, TimeUnit.SECONDS);
+	}
+
+	@Override
+	public synchronized void accept(MarketEvent event) {
+		if(this.subscription == null) {
+			// Closed while this event was on its way
+			return;
+		}
+
+		try {
+			if(this.writer == null || this.written >= this.maxSize || System.nanoTime() - this.opened >= this.maxAge) {
+				this.rotate();
+			}
+
+			long dropped = this.subscription.getDropped();
+			if(dropped > this.dropped) {
+				this.write(this.gap(dropped - this.dropped));
+				this.dropped = dropped;
+			}
+
+			StringWriter line = new StringWriter(192);
+			JsonWriter json = new JsonWriter(line);
+			json.beginObject();
+			json.name("seq").value(event.getSequence());
+			json.name("time").value(event.getTimestamp().toString());
+			json.name("type").value(event.getType().name());
+			json.name("listing").value(event.getListing().toString());
+			json.name("owner").value(event.getOwner().toString());
+			if(event.getActor().isPresent()) {
+				json.name("actor").value(event.getActor().get().toString());
+			}
+			json.name("name").value(event.getName());
+			json.name("price").value(event.getPrice());
+			if(!event.getPriceKeys().isEmpty()) {
+				json.name("units").value(event.getPriceUnits());
+				json.name("keys").beginArray();
+				for(String key : event.getPriceKeys()) {
+					json.value(key);
+				}
+				json.endArray();
+			}
+			json.endObject();
+			line.write('\n');
+
+			this.write(line.toString());
+		} catch (IOException e) {
+			this.plugin.getPluginLogger().error("Unable to write to the audit log: " + e.getMessage());
+		}
+	}
+
+	private String gap(long missed) throws IOException {
+		StringWriter line = new StringWriter(64);
+		JsonWriter json = new JsonWriter(line);
+		json.beginObject();
+		json.name("time").value(Instant.now().toString());
+		json.name("type").value(GAP);
+		json.name("dropped").value(missed);
+		json.endObject();
+		line.write('\n');
+		return line.toString();
+	}
+
+	private void write(String record) throws IOException {
+		this.writer.write(record);
+		this.written += record.length();
+	}
+
+	/**
+	 * Stops recording, first writing out any events still held by the bus along with anything buffered. This
+	 * waits on the bus's thread, so mustn't be called while holding this log's lock.
+	 */
+	public void close() {
+		MarketSubscription subscription;
+		synchronized(this) {
+			subscription = this.subscription;
+		}
+
+		if(subscription != null && !this.events.drain(subscription, DRAIN_TIMEOUT, TimeUnit.SECONDS)) {
+			this.plugin.getPluginLogger().error("Timed out writing the last market events to the audit log, some may be missing");
+		}
+
+		synchronized(this) {
+			this.subscription = null;
+			if(this.flusher != null) {
+				this.flusher.cancel(false);
+				this.flusher = null;
+			}
+
+			this.closeSegment(false);
+		}
+	}
+
+	private synchronized void flush() {
+		if(this.writer != null) {
+			try {
+				this.writer.flush();
+			} catch (IOException e) {
+				this.plugin.getPluginLogger().error("Unable to flush the audit log: " + e.getMessage());
+			}
+		}
+	}
+
+	private void rotate() throws IOException {
+		this.closeSegment(true);
+
+		// Segments are named for when they were opened. Should that name be taken, such as by a segment which filled
+		// up within the same millisecond, the next free millisecond is used so names stay unique and in order
+		LocalDateTime time = LocalDateTime.now();
+		Path segment;
+		while(Files.exists(segment = this.directory.resolve(SEGMENT_PREFIX + time.format(SEGMENT_TIME) + SEGMENT_SUFFIX)) || Files.exists(compressed(segment))) {
+			time = time.plus(1, ChronoUnit.MILLIS);
+		}
+
+		this.segment = segment;
+		this.writer = Files.newBufferedWriter(segment, StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+		this.written = 0;
+		this.opened = System.nanoTime();
+	}
+
+	private void closeSegment(boolean compress) {
+		if(this.writer == null) {
+			return;
+		}
+
+		try {
+			this.writer.close();
+		} catch (IOException e) {
+			this.plugin.getPluginLogger().error("Unable to close audit log segment " + this.segment.getFileName() + ": " + e.getMessage());
+		}
+
+		if(compress) {
+			Path closed = this.segment;
+			this.plugin.getAsyncExecutor().execute(() -> this.compress(closed));
+		}
+
+		this.writer = null;
+		this.segment = null;
+	}
+
+	/**
+	 * Compresses a closed segment. The compressed copy is written beside the target then moved into place, so a
+	 * query never reads a half written segment.
+	 */
+	private void compress(Path segment) {
+		String name = segment.getFileName().toString();
+		Path target = compressed(segment);
+		Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+		try {
+			try(InputStream in = Files.newInputStream(segment); OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+				byte[] buffer = new byte[8192];
+				int read;
+				while((read = in.read(buffer)) != -1) {
+					out.write(buffer, 0, read);
+				}
+			}
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			Files.delete(segment);
+		} catch (IOException e) {
+			this.plugin.getPluginLogger().error("Unable to compress audit log segment " + name + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * @return The path the given segment is written to once compressed
+	 */
+	static Path compressed(Path segment) {
+		String name = segment.getFileName().toString();
+		return segment.resolveSibling(name.substring(0, name.length() - SEGMENT_SUFFIX.length()) + COMPRESSED_SUFFIX);
+	}
+}
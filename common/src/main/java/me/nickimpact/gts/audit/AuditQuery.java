@@ -0,0 +1,188 @@
+package me.nickimpact.gts.audit;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Searches the audit log without a running server, printing each matching record. Every filter is optional,
+ * and given in the form <code>--name=value</code>:
+ *
+ * <ul>
+ *     <li><code>dir</code> - The audit log directory, <code>config/gts/audit</code> by default</li>
+ *     <li><code>player</code> - A UUID, matching records where the player owned the listing or acted upon it</li>
+ *     <li><code>listing</code> - A listing UUID</li>
+ *     <li><code>type</code> - One of LISTED, SOLD, EXPIRED or REMOVED, or GAP for where the log missed events</li>
+ *     <li><code>since</code>/<code>until</code> - An instant such as <code>2020-01-31T12:00:00Z</code>, or a date,
+ *     taken as the start of that day in the system time zone</li>
+ *     <li><code>count</code> - When <code>true</code>, prints only the number of matches and their total value</li>
+ * </ul>
+ *
+ * <p>The tool needs only GTS and Gson on the classpath, for example:
+ * <code>java -cp GTS.jar:gson.jar me.nickimpact.gts.audit.AuditQuery --player=... --type=SOLD</code></p>
+ */
+public class AuditQuery {
+
+	private Path directory = Paths.get("config", "gts", "audit");
+	private Predicate<JsonObject> filter = record -> true;
+	private boolean count;
+
+	public static void main(String[] args) throws IOException {
+		AuditQuery query;
+		try {
+			query = parse(args);
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			System.err.println(e.getMessage());
+			System.exit(1);
+			return;
+		}
+
+		query.run();
+	}
+
+	public static AuditQuery parse(String[] args) {
+		AuditQuery query = new AuditQuery();
+		for(String arg : args) {
+			if(!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("Expected an option in the form --name=value, got: " + arg);
+			}
+
+			String name = arg.substring(2, arg.indexOf('=')).toLowerCase(Locale.ROOT);
+			String value = arg.substring(arg.indexOf('=') + 1);
+			switch (name) {
+				case "dir":
+					query.directory = Paths.get(value);
+					break;
+				case "player":
+					query.and(record -> value.equals(string(record, "owner")) || value.equals(string(record, "actor")));
+					break;
+				case "listing":
+					query.and(record -> value.equals(string(record, "listing")));
+					break;
+				case "type":
+					String type = value.toUpperCase(Locale.ROOT);
+					query.and(record -> type.equals(string(record, "type")));
+					break;
+				case "since":
+					Instant since = instant(value);
+					query.and(record -> !Instant.parse(string(record, "time")).isBefore(since));
+					break;
+				case "until":
+					Instant until = instant(value);
+					query.and(record -> Instant.parse(string(record, "time")).isBefore(until));
+					break;
+				case "count":
+					query.count = Boolean.parseBoolean(value);
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown option: --" + name);
+			}
+		}
+
+		return query;
+	}
+
+	public void run() throws IOException {
+		JsonParser parser = new JsonParser();
+		long matches = 0;
+		double value = 0;
+		for(Path segment : this.segments()) {
+			try(BufferedReader reader = open(segment)) {
+				String line;
+				while((line = reader.readLine()) != null) {
+					JsonObject record;
+					try {
+						record = parser.parse(line).getAsJsonObject();
+					} catch (JsonSyntaxException | IllegalStateException e) {
+						// Most likely the tail of a segment the server was writing when it stopped
+						continue;
+					}
+
+					if(this.filter.test(record)) {
+						matches++;
+						if(record.has("price")) {
+							value += record.get("price").getAsDouble();
+						}
+						if(!this.count) {
+							System.out.println(line);
+						}
+					}
+				}
+			}
+		}
+
+		if(this.count) {
+			System.out.println(String.format("%d record(s), totalling %.2f", matches, value));
+		}
+	}
+
+	/**
+	 * Lists every segment within the directory, oldest first. Segments are named for the time they were opened,
+	 * so name order is also time order. A segment which has already been compressed is only listed the once.
+	 */
+	private List<Path> segments() throws IOException {
+		try(Stream<Path> files = Files.list(this.directory)) {
+			return files.filter(file -> {
+				String name = file.getFileName().toString();
+				if(!name.startsWith(AuditLog.SEGMENT_PREFIX)) {
+					return false;
+				}
+
+				return name.endsWith(AuditLog.COMPRESSED_SUFFIX) || (name.endsWith(AuditLog.SEGMENT_SUFFIX) && !Files.exists(AuditLog.compressed(file)));
+			}).sorted().collect(Collectors.toList());
+		}
+	}
+
+	private void and(Predicate<JsonObject> next) {
+		this.filter = this.filter.and(next);
+	}
+
+	private static BufferedReader open(Path segment) throws IOException {
+		InputStream in;
+		if(segment.getFileName().toString().endsWith(AuditLog.COMPRESSED_SUFFIX)) {
+			in = new GZIPInputStream(Files.newInputStream(segment));
+		} else {
+			try {
+				in = Files.newInputStream(segment);
+			} catch (NoSuchFileException e) {
+				// Compressed by the server since the directory was listed
+				in = new GZIPInputStream(Files.newInputStream(AuditLog.compressed(segment)));
+			}
+		}
+		return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+	}
+
+	private static String string(JsonObject record, String key) {
+		JsonElement element = record.get(key);
+		return element != null ? element.getAsString() : null;
+	}
+
+	private static Instant instant(String value) {
+		if(value.contains("T")) {
+			return Instant.parse(value);
+		}
+
+		return LocalDate.parse(value).atStartOfDay(ZoneId.systemDefault()).toInstant();
+	}
+}
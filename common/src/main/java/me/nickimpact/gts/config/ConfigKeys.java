@@ -78,6 +78,8 @@ public class ConfigKeys implements ConfigKeyHolder {
 	public static final ConfigKey<String> SQL_TABLE_PREFIX = enduringKey(stringKey("storage.data.table_prefix", "gts_"));
 
 	public static final ConfigKey<Boolean> MIN_PRICING_ENABLED = booleanKey("min-pricing.enabled", true);
+	public static final ConfigKey<Double> MIN_PRICING_ITEMS_BASE = doubleKey("min-pricing.items.base", 0.0);
+	public static final ConfigKey<List<String>> MIN_PRICING_ITEMS_RULES = listKey("min-pricing.items.rules", Lists.newArrayList());
 	public static final ConfigKey<Double> MAX_MONEY_PRICE = doubleKey("max-pricing.money.max", 100000000.0);
 
 	public static final ConfigKey<Boolean> DISCORD_ENABLED = booleanKey("discord.enabled", false);
@@ -107,6 +109,98 @@ public class ConfigKeys implements ConfigKeyHolder {
 
 	public static final ConfigKey<String> LANG_OPTION = stringKey("language", "en-us");
 
+	//------------------------------------------------------------------------------------------------------------------
+	// Performance config settings
+	//------------------------------------------------------------------------------------------------------------------
+
+	/** The amount of time, in milliseconds, GTS may spend on queued server thread work each tick */
+	public static final ConfigKey<Double> TICK_BUDGET = doubleKey("performance.tick-budget-ms", 2.0);
+
+	/** The percentage of a 50ms tick GTS may use, across all of its server thread work, before a warning is logged. A value of 0 disables the warning */
+	public static final ConfigKey<Double> TICK_SHARE_WARNING = doubleKey("performance.tick-share-warning", 10.0);
+
+	/** The maximum number of base sprite items each pokemon extension may keep cached for display */
+	public static final ConfigKey<Integer> SPRITE_CACHE_SIZE = intKey("performance.sprite-cache-size", 512);
+
+	/** The amount of time, in minutes, a cached player name is used before it is refreshed in the background */
+	public static final ConfigKey<Integer> NAME_CACHE_TTL = intKey("performance.name-cache-ttl", 30);
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Metrics config settings
+	//------------------------------------------------------------------------------------------------------------------
+
+	/** How often, in seconds, metrics are written to the dump file. A value of 0 disables the dump */
+	public static final ConfigKey<Integer> METRICS_DUMP_INTERVAL = intKey("metrics.dump-interval", 0);
+
+	/** The file, relative to the GTS config directory, metrics are written to in the Prometheus text format */
+	public static final ConfigKey<String> METRICS_DUMP_FILE = stringKey("metrics.dump-file", "metrics.prom");
+
+	/** Whether listing, purchasing, expiring and opening the market are traced, phase by phase */
+	public static final ConfigKey<Boolean> TRACING_ENABLED = booleanKey("metrics.tracing.enabled", false);
+
+	/** The time, in milliseconds, a traced operation must take before its breakdown is logged */
+	public static final ConfigKey<Integer> TRACING_THRESHOLD = intKey("metrics.tracing.threshold-ms", 250);
+
+	/** The number of slow traces kept for viewing through /gts admin traces */
+	public static final ConfigKey<Integer> TRACING_BUFFER_SIZE = intKey("metrics.tracing.buffer-size", 20);
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Audit config settings
+	//------------------------------------------------------------------------------------------------------------------
+
+	/** Whether every listing, purchase, expiry and removal is recorded within the audit log */
+	public static final ConfigKey<Boolean> AUDIT_ENABLED = booleanKey("audit.enabled", true);
+
+	/** The directory, relative to the GTS config directory, audit log segments are written to */
+	public static final ConfigKey<String> AUDIT_DIRECTORY = stringKey("audit.directory", "audit");
+
+	/** The size, in megabytes, an audit log segment may grow to before a new one is started */
+	public static final ConfigKey<Integer> AUDIT_SEGMENT_SIZE = intKey("audit.segment-size-mb", 16);
+
+	/** The amount of time, in hours, an audit log segment is written to before a new one is started */
+	public static final ConfigKey<Integer> AUDIT_SEGMENT_AGE = intKey("audit.segment-age-hours", 24);
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Price history config settings
+	//------------------------------------------------------------------------------------------------------------------
+
+	/** Whether sales are tracked, so players may see what something typically sells for */
+	public static final ConfigKey<Boolean> PRICES_ENABLED = booleanKey("prices.enabled", true);
+
+	/** The file, relative to the GTS config directory, price history is saved to */
+	public static final ConfigKey<String> PRICES_FILE = stringKey("prices.file", "prices.json");
+
+	/** How often, in minutes, price history is saved. History is always saved on shutdown */
+	public static final ConfigKey<Integer> PRICES_SAVE_INTERVAL = intKey("prices.save-interval-minutes", 5);
+
+	/** The age, in days, at which a sale counts for half as much as one made today towards a typical price */
+	public static final ConfigKey<Double> PRICES_HALF_LIFE = doubleKey("prices.half-life-days", 14.0);
+
+	/** The fewest sales of something before its typical price is shown, rather than that of its broader kind */
+	public static final ConfigKey<Integer> PRICES_MIN_SALES = intKey("prices.min-sales", 3);
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Retention config settings
+	//------------------------------------------------------------------------------------------------------------------
+
+	/** Whether storage is purged of sold listing records and ignorers which are no longer of use */
+	public static final ConfigKey<Boolean> RETENTION_ENABLED = booleanKey("retention.enabled", true);
+
+	/** How often, in hours, storage is purged. The first purge runs shortly after startup */
+	public static final ConfigKey<Integer> RETENTION_INTERVAL = intKey("retention.interval-hours", 24);
+
+	/** The age, in days, at which a sale its seller was never told of is forgotten. 0 keeps them regardless of age */
+	public static final ConfigKey<Integer> RETENTION_SOLD_AGE = intKey("retention.sold-max-age-days", 90);
+
+	/** The time, in days, after which a player who hasn't played loses their unread sales and ignore setting. 0 to never */
+	public static final ConfigKey<Integer> RETENTION_INACTIVE_DAYS = intKey("retention.inactive-player-days", 180);
+
+	/** The most records read, and so deleted, at a time */
+	public static final ConfigKey<Integer> RETENTION_CHUNK_SIZE = intKey("retention.chunk-size", 500);
+
+	/** The most records read each second while purging, spacing out chunks to keep load on storage low */
+	public static final ConfigKey<Integer> RETENTION_RATE = intKey("retention.rows-per-second", 2000);
+
 
 	private static final Map<String, ConfigKey<?>> KEYS;
 	private static final int SIZE;
@@ -0,0 +1,81 @@
+package me.nickimpact.gts.config;
+
+import com.nickimpact.impactor.api.configuration.Config;
+import com.nickimpact.impactor.api.logging.Logger;
+import lombok.Getter;
+import me.nickimpact.gts.market.MarketSettings;
+import me.nickimpact.gts.utils.ItemBlacklist;
+
+/**
+ * An immutable, typed copy of the settings GTS reads on its hot paths, such as listing, purchasing, and
+ * pricing. A snapshot is built once per config load, and the plugin swaps in a new one whenever the config
+ * is reloaded. Code holding onto a snapshot therefore always sees a consistent set of values, even while
+ * a reload is in progress.
+ *
+ * <p>Settings which are only read at startup, such as storage details, are intentionally left out.</p>
+ */
+@Getter
+public class ConfigSnapshot implements MarketSettings {
+
+	private final int listingTime;
+	private final int listingMaxTime;
+	private final int maxListings;
+
+	private final boolean taxEnabled;
+	private final double moneyTax;
+
+	private final boolean customNamesAllowed;
+	private final ItemBlacklist itemBlacklist;
+
+	private final double leftClickBase;
+	private final double rightClickBase;
+	private final double leftClickShift;
+	private final double rightClickShift;
+
+	private final boolean cooldownsEnabled;
+	private final long cooldownWait;
+
+	private final boolean minPricingEnabled;
+	private final double maxMoneyPrice;
+
+	private final boolean discordEnabled;
+
+	private final double tickBudget;
+	private final double tickShareWarning;
+
+	private final boolean tracingEnabled;
+	private final int tracingThreshold;
+	private final int tracingBufferSize;
+
+	public ConfigSnapshot(Config config, Logger logger) {
+		this.listingTime = config.get(ConfigKeys.LISTING_TIME);
+		this.listingMaxTime = config.get(ConfigKeys.LISTING_MAX_TIME);
+		this.maxListings = config.get(ConfigKeys.MAX_LISTINGS);
+
+		this.taxEnabled = config.get(ConfigKeys.TAX_ENABLED);
+		this.moneyTax = config.get(ConfigKeys.TAX_MONEY_TAX);
+
+		this.customNamesAllowed = config.get(ConfigKeys.CUSTOM_NAME_ALLOWED);
+		this.itemBlacklist = ItemBlacklist.compile(config.get(ConfigKeys.BLACKLISTED_ITEMS), logger);
+
+		this.leftClickBase = config.get(ConfigKeys.PRICING_LEFTCLICK_BASE);
+		this.rightClickBase = config.get(ConfigKeys.PRICING_RIGHTCLICK_BASE);
+		this.leftClickShift = config.get(ConfigKeys.PRICING_LEFTCLICK_SHIFT);
+		this.rightClickShift = config.get(ConfigKeys.PRICING_RIGHTCLICK_SHIFT);
+
+		this.cooldownsEnabled = config.get(ConfigKeys.COOLDOWNS_ENABLED);
+		this.cooldownWait = config.get(ConfigKeys.COOLDOWN_WAIT);
+
+		this.minPricingEnabled = config.get(ConfigKeys.MIN_PRICING_ENABLED);
+		this.maxMoneyPrice = config.get(ConfigKeys.MAX_MONEY_PRICE);
+
+		this.discordEnabled = config.get(ConfigKeys.DISCORD_ENABLED);
+
+		this.tickBudget = config.get(ConfigKeys.TICK_BUDGET);
+		this.tickShareWarning = config.get(ConfigKeys.TICK_SHARE_WARNING);
+
+		this.tracingEnabled = config.get(ConfigKeys.TRACING_ENABLED);
+		this.tracingThreshold = config.get(ConfigKeys.TRACING_THRESHOLD);
+		this.tracingBufferSize = config.get(ConfigKeys.TRACING_BUFFER_SIZE);
+	}
+}
@@ -215,6 +215,7 @@ public class MsgConfigKeys implements ConfigKeyHolder {
 	public static final ConfigKey<String> IGNORE_ON = stringKey("general.ignoring-broadcasts.on", "{{gts_prefix}} Now ignoring broadcasts");
 	public static final ConfigKey<String> IGNORE_OFF = stringKey("general.ignoring-broadcasts.off", "{{gts_prefix}} No longer ignoring broadcasts");
 	public static final ConfigKey<String> SOLD_LISTING_INFORM = stringKey("general.listings.inform-of-sell", "{{gts_prefix}} Your &e{{listing_name}} &7has been sold for &a{{gts_price}}&7!");
+	public static final ConfigKey<String> SOLD_LISTING_SUMMARY = stringKey("general.listings.inform-of-sells", "{{gts_prefix}} While you were away, &e{{gts_sold_count}} &7of your listings sold for a total of &a{{gts_price}}&7!");
 	public static final ConfigKey<String> SEARCH_NO_OPTION = stringKey("general.errors.searching.no-option", "{{gts_error}} No search option exists for that typing...");
 	public static final ConfigKey<String> COOLDOWN_COOLING = stringKey("general.errors.cooldowns.cooling", "{{gts_error}} &7You must wait an additional &a{{gts_cooldown_wait_time}} &7before listing another listing!");
 	public static final ConfigKey<String> SELL_CMD_INVALID = stringKey("general.errors.commands.no-type-specified", "{{gts_error}} You must specify the type of thing you wish to sell!");
@@ -1,7 +1,9 @@
 package me.nickimpact.gts.discord;
 
 import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.nickimpact.impactor.api.plugin.ImpactorPlugin;
+import me.nickimpact.gts.api.metrics.Metrics;
 import me.nickimpact.gts.api.plugin.IGTSPlugin;
 import me.nickimpact.gts.config.ConfigKeys;
 
@@ -10,13 +12,38 @@ import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 public class DiscordNotifier {
 
+	/**
+	 * A single worker shared by all notifiers, responsible for rendering, serializing, and sending payloads.
+	 * Being single threaded, notifications reach discord in the order they were published.
+	 */
+	private static final ExecutorService WORKER = Executors.newSingleThreadExecutor(
+			new ThreadFactoryBuilder().setNameFormat("GTS Discord Notifier").setDaemon(true).build()
+	);
+
+	/** The amount of notifications published but not yet sent, across all notifiers */
+	private static final AtomicInteger PENDING = new AtomicInteger();
+	/** How long, in seconds, shutting down waits for notifications already published to be sent */
+	private static final long SHUTDOWN_TIMEOUT = 5;
+
 	private IGTSPlugin plugin;
+	private Metrics metrics;
 
 	public DiscordNotifier(IGTSPlugin plugin) {
 		this.plugin = plugin;
+		this.metrics = plugin.getAPIService().getMetrics();
+		this.metrics.gauge("discord.queue.depth", PENDING::get);
+	}
+
+	public boolean isEnabled() {
+		return plugin.getConfiguration().get(ConfigKeys.DISCORD_ENABLED);
 	}
 
 	public Message forgeMessage(DiscordOption option, String content) {
@@ -25,27 +52,82 @@ public class DiscordNotifier {
 						.addField(new Field(option.getDescriptor(), content)));
 	}
 
+	/**
+	 * Publishes a notification to discord, if enabled. The supplier is invoked on the notification worker, along
+	 * with building the payload and sending it, so callers must resolve anything that reads game state before
+	 * calling this and leave only the formatting of those resolved values to the supplier.
+	 *
+	 * @param option The discord option describing where and how the notification is posted
+	 * @param content A supplier that renders the content of the notification from already resolved values
+	 * @return A future completing once the notification has been sent
+	 */
+	public CompletableFuture<Void> publish(DiscordOption option, Supplier<String> content) {
+		if(!this.isEnabled()) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		PENDING.incrementAndGet();
+		return CompletableFuture.runAsync(() -> {
+			try {
+				this.send(this.forgeMessage(option, content.get()));
+			} catch (Exception e) {
+				Throwables.propagateIfPossible(e);
+				throw new CompletionException(e);
+			} finally {
+				PENDING.decrementAndGet();
+			}
+		}, WORKER).exceptionally(throwable -> {
+			this.metrics.counter("discord.send.errors").increment();
+			plugin.getPluginLogger().error("Unable to send discord notification, a stacktrace is available below:");
+			throwable.printStackTrace();
+			return null;
+		});
+	}
+
+	/**
+	 * Stops the notification worker, such as when the server is shutting down. Notifications already published
+	 * are given a short while to be sent, and any published afterwards are rejected.
+	 */
+	public void shutdown() {
+		WORKER.shutdown();
+		try {
+			if(!WORKER.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+				plugin.getPluginLogger().error("Timed out sending the last " + PENDING.get() + " discord notifications, they have been dropped");
+				WORKER.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			WORKER.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
 	public CompletableFuture<Void> sendMessage(Message message) {
 		return makeFuture(() -> {
 			if(plugin.getConfiguration().get(ConfigKeys.DISCORD_ENABLED)) {
-				final List<String> URLS = message.getWebhooks();
-
-				for (final String URL : URLS) {
-					if (plugin.getConfiguration().get(ConfigKeys.DISCORD_DEBUG)) {
-						plugin.getPluginLogger().info("[WebHook-Debug] Sending webhook payload to " + URL);
-						plugin.getPluginLogger().info("[WebHook-Debug] Payload: " + message.getJsonString());
-					}
-
-					HttpsURLConnection connection = message.send(URL);
-					int status = connection.getResponseCode();
-					if (plugin.getConfiguration().get(ConfigKeys.DISCORD_DEBUG)) {
-						plugin.getPluginLogger().info("[WebHook-Debug] Payload info received, status code: " + status);
-					}
-				}
+				this.send(message);
 			}
 		});
 	}
 
+	private void send(Message message) throws Exception {
+		final List<String> URLS = message.getWebhooks();
+
+		for (final String URL : URLS) {
+			if (plugin.getConfiguration().get(ConfigKeys.DISCORD_DEBUG)) {
+				plugin.getPluginLogger().info("[WebHook-Debug] Sending webhook payload to " + URL);
+				plugin.getPluginLogger().info("[WebHook-Debug] Payload: " + message.getJsonString());
+			}
+
+			long start = System.nanoTime();
+			HttpsURLConnection connection = message.send(URL);
+			int status = connection.getResponseCode();
+			this.metrics.timer("discord.send").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			if (plugin.getConfiguration().get(ConfigKeys.DISCORD_DEBUG)) {
+				plugin.getPluginLogger().info("[WebHook-Debug] Payload info received, status code: " + status);
+			}
+		}
+	}
+
 	private <T> CompletableFuture<T> makeFuture(Callable<T> supplier) {
 		return CompletableFuture.supplyAsync(() -> {
 			try {
@@ -0,0 +1,48 @@
+package me.nickimpact.gts.economy;
+
+import java.util.UUID;
+
+/**
+ * A thin layer over the platform's economy provider. Implementations resolve the provider once, cache the
+ * account handle of each player they are asked about, and time every call they make into the provider.
+ */
+public interface EconomyAdapter {
+
+	/**
+	 * Fetches the balance of a player in the default currency.
+	 *
+	 * @param uuid The UUID of the player
+	 * @return The player's balance
+	 */
+	double getBalance(UUID uuid);
+
+	/**
+	 * Withdraws the given amount from a player, but only if they can afford it. The balance check and the
+	 * withdrawal happen as a single operation, so two withdrawals racing for the same funds can't both succeed.
+	 *
+	 * @param uuid The UUID of the player
+	 * @param amount The amount to withdraw
+	 * @return <code>true</code> if the amount was withdrawn, <code>false</code> if the player couldn't afford it
+	 * or the provider rejected the transaction
+	 */
+	boolean withdrawIfSufficient(UUID uuid, double amount);
+
+	/**
+	 * Deposits the given amount into a player's account.
+	 *
+	 * @param uuid The UUID of the player
+	 * @param amount The amount to deposit
+	 * @return <code>true</code> if the provider accepted the deposit
+	 */
+	boolean deposit(UUID uuid, double amount);
+
+	/**
+	 * Drops the cached account handle of a player, such as once they have logged out.
+	 *
+	 * @param uuid The UUID of the player
+	 */
+	void invalidate(UUID uuid);
+
+	EconomyTimings getTimings();
+
+}
@@ -0,0 +1,79 @@
+package me.nickimpact.gts.economy;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Tracks how long calls into the economy provider take, broken down by operation. Economy plugins are free to
+ * do their own I/O on the calling thread, which for most GTS operations is the server thread, so a slow provider
+ * shows up here first.
+ */
+public class EconomyTimings {
+
+	private final Map<String, Timing> timings = Maps.newConcurrentMap();
+
+	/**
+	 * Runs the given call, recording how long it took under the given operation name.
+	 *
+	 * @param operation The name of the operation, such as "withdraw"
+	 * @param call The call into the economy provider
+	 * @return The result of the call
+	 */
+	public <T> T time(String operation, Supplier<T> call) {
+		long start = System.nanoTime();
+		try {
+			return call.get();
+		} finally {
+			this.timings.computeIfAbsent(operation, key -> new Timing()).record(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Summarises the recorded timings, one line per operation.
+	 *
+	 * @return A line for each operation, in the form <code>withdraw: 12 calls, avg 0.42ms, max 3.10ms</code>
+	 */
+	public List<String> summarise() {
+		List<String> lines = Lists.newArrayList();
+		this.timings.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+			Timing timing = entry.getValue();
+			long calls = timing.calls.sum();
+			lines.add(String.format(
+					"%s: %d calls, avg %.2fms, max %.2fms",
+					entry.getKey(),
+					calls,
+					calls == 0 ? 0 : toMillis(timing.total.sum()) / calls,
+					toMillis(timing.max.get())
+			));
+		});
+		return lines;
+	}
+
+	public void reset() {
+		this.timings.clear();
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	private static class Timing {
+
+		private final LongAdder calls = new LongAdder();
+		private final LongAdder total = new LongAdder();
+		private final AtomicLong max = new AtomicLong();
+
+		private void record(long nanos) {
+			this.calls.increment();
+			this.total.add(nanos);
+			this.max.accumulateAndGet(nanos, Math::max);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package me.nickimpact.gts.market;
+
+import lombok.Getter;
+import me.nickimpact.gts.api.listings.Listing;
+import me.nickimpact.gts.api.listings.prices.Price;
+
+import java.util.UUID;
+
+/**
+ * The details a {@link MarketMessenger} renders a message with. Platforms turn these into their own tokens and
+ * template variables, so that amounts can be formatted with the platform's currency.
+ */
+@Getter
+public class MarketContext {
+
+	/** The listing the message is about */
+	private final Listing listing;
+
+	/** The player the message is written from the perspective of, such as the buyer of a listing */
+	private final UUID subject;
+
+	/** The tax charged for the listing, if any was calculated */
+	private Double tax;
+
+	/** The minimum price of the listing's entry, if minimum pricing applies to it */
+	private Price minPrice;
+
+	/** The seconds left on the subject's listing cooldown, if they are cooling down */
+	private long cooldown;
+
+	public MarketContext(Listing listing, UUID subject) {
+		this.listing = listing;
+		this.subject = subject;
+	}
+
+	public MarketContext tax(double tax) {
+		this.tax = tax;
+		return this;
+	}
+
+	public MarketContext minPrice(Price minPrice) {
+		this.minPrice = minPrice;
+		return this;
+	}
+
+	public MarketContext cooldown(long cooldown) {
+		this.cooldown = cooldown;
+		return this;
+	}
+}
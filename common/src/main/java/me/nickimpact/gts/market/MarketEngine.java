@@ -0,0 +1,363 @@
+package me.nickimpact.gts.market;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.nickimpact.impactor.api.configuration.ConfigKey;
+import me.nickimpact.gts.api.events.MarketEvent;
+import me.nickimpact.gts.api.listings.Listing;
+import me.nickimpact.gts.api.listings.ListingManager;
+import me.nickimpact.gts.api.listings.SoldListing;
+import me.nickimpact.gts.api.listings.prices.Minable;
+import me.nickimpact.gts.api.listings.prices.Price;
+import me.nickimpact.gts.api.storage.IGtsStorage;
+import me.nickimpact.gts.config.MsgConfigKeys;
+import me.nickimpact.gts.metrics.Trace;
+import me.nickimpact.gts.utils.Cooldowns;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * The listing lifecycle shared by every platform: validating a new listing, charging its tax, taking its entry,
+ * persisting it, and announcing it, along with purchases and removals. Anything platform specific goes through
+ * the {@link MarketPlayers}, {@link MarketMessenger} and {@link MarketListener} given to the engine, so it can
+ * also be driven without a server.
+ *
+ * <p>Like the listing managers before it, the engine expects to be called from the server thread. Alongside the
+ * listings themselves, it indexes them by ID and counts them by owner, so looking up a listing or checking a
+ * player's listing limit doesn't need to walk the whole market.</p>
+ *
+ * <p>Once a change to the market has been made, it's published to the {@link MarketEventBus}, from which
+ * subscribers read it on their own threads.</p>
+ *
+ * @param <L> The type of listing the platform uses
+ */
+public class MarketEngine<L extends Listing> implements ListingManager<L> {
+
+	private final MarketPlayers<L> players;
+	private final MarketMessenger messenger;
+	private final MarketListener<L> listener;
+	private final MarketServices services;
+
+	private final List<L> listings = Lists.newArrayList();
+	private final List<L> view = Collections.unmodifiableList(this.listings);
+	private final Map<UUID, L> byId = Maps.newHashMap();
+	private final Map<UUID, Integer> owned = Maps.newHashMap();
+
+	private final Set<UUID> ignorers = Sets.newConcurrentHashSet();
+	private final Cooldowns cooldowns = new Cooldowns();
+
+	public MarketEngine(MarketPlayers<L> players, MarketMessenger messenger, MarketListener<L> listener, MarketServices services) {
+		this.players = players;
+		this.messenger = messenger;
+		this.listener = listener;
+		this.services = services;
+	}
+
+	@Override
+	public Optional<L> getListingByID(UUID uuid) {
+		return Optional.ofNullable(this.byId.get(uuid));
+	}
+
+	/**
+	 * Fetches every listing on the market, in the order they were listed. The returned list is a read-only view,
+	 * so callers wanting to hold onto it across ticks should take a copy.
+	 */
+	@Override
+	public List<L> getListings() {
+		return this.view;
+	}
+
+	@Override
+	public Set<UUID> getIgnorers() {
+		return this.ignorers;
+	}
+
+	@Override
+	public boolean toggleIgnoring(UUID uuid) {
+		IGtsStorage storage = this.services.getStorage();
+		if(this.ignorers.remove(uuid)) {
+			storage.removeIgnorer(uuid).exceptionally(throwable -> {
+				throwable.printStackTrace();
+				return false;
+			});
+			return false;
+		}
+
+		this.ignorers.add(uuid);
+		storage.addIgnorer(uuid).exceptionally(throwable -> {
+			throwable.printStackTrace();
+			return false;
+		});
+		return true;
+	}
+
+	@Override
+	public boolean addToMarket(UUID lister, L listing) {
+		try(Trace trace = this.services.getTracer().start("list", lister)) {
+			return this.list(lister, listing, trace);
+		}
+	}
+
+	private boolean list(UUID lister, L listing, Trace trace) {
+		if(!this.players.isOnline(lister)) {
+			return false;
+		}
+
+		MarketSettings settings = this.services.getSettings();
+		MarketContext context = new MarketContext(listing, lister);
+
+		if(settings.isCooldownsEnabled()) {
+			long remaining = this.cooldowns.remaining(lister, TimeUnit.SECONDS);
+			if(remaining > 0) {
+				return this.reject(trace, lister, MsgConfigKeys.COOLDOWN_COOLING, context.cooldown(remaining));
+			}
+		}
+
+		if(this.hasMaxListings(lister)) {
+			return this.reject(trace, lister, MsgConfigKeys.MAX_LISTINGS, context);
+		}
+
+		if(!trace.phase("events", () -> this.listener.onListing(lister, listing))) {
+			return this.reject(trace, lister, MsgConfigKeys.LISTING_EVENT_CANCELLED, context);
+		}
+
+		double price = listing.getPrice().getPrice();
+		if(settings.isMinPricingEnabled() && listing.getEntry() instanceof Minable) {
+			Minable minable = (Minable) listing.getEntry();
+			boolean valid = trace.phase("pricing", () -> {
+				context.minPrice(minable.calcMinPrice());
+				return minable.isValid(price);
+			});
+			if(!valid) {
+				return this.reject(trace, lister, MsgConfigKeys.MIN_PRICE_ERROR, context);
+			}
+		}
+
+		if(price <= 0) {
+			return this.reject(trace, lister, MsgConfigKeys.PRICE_NOT_POSITIVE, context);
+		}
+
+		if(price > settings.getMaxMoneyPrice()) {
+			return this.reject(trace, lister, MsgConfigKeys.PRICE_MAX_INVALID, context);
+		}
+
+		double tax = settings.isTaxEnabled() ? listing.getPrice().calcTax() : 0;
+		if(settings.isTaxEnabled()) {
+			context.tax(tax);
+			if(tax > 0 && !trace.phase("economy", () -> this.services.getEconomy().withdrawIfSufficient(lister, tax))) {
+				return this.reject(trace, lister, MsgConfigKeys.TAX_INVALID, context);
+			}
+		}
+
+		if(listing.getOwnerUUID() != null && !trace.phase("take_entry", () -> this.players.takeEntry(lister, listing))) {
+			if(tax > 0) {
+				trace.phase("economy", () -> this.services.getEconomy().deposit(lister, tax));
+			}
+			return this.reject(trace, lister, MsgConfigKeys.UNABLE_TO_TAKE_LISTING, context);
+		}
+
+		trace.phase("storage", () -> this.services.getStorage().addListing(listing).exceptionally(throwable -> {
+			throwable.printStackTrace();
+			return false;
+		}));
+		this.index(listing);
+		trace.phase("events", () -> {
+			this.listener.onListed(lister, listing);
+			this.services.getEvents().publish(MarketEvent.Type.LISTED, listing, lister);
+		});
+
+		trace.phase("messages", () -> {
+			this.messenger.send(lister, MsgConfigKeys.ADD_TEMPLATE, context);
+			if(settings.isTaxEnabled()) {
+				this.messenger.send(lister, MsgConfigKeys.TAX_APPLICATION, context);
+			}
+			this.messenger.broadcast(MsgConfigKeys.ADD_BROADCAST, context, uuid -> !uuid.equals(lister) && !this.ignorers.contains(uuid));
+		});
+
+		if(settings.isCooldownsEnabled()) {
+			this.cooldowns.start(lister, settings.getCooldownWait(), TimeUnit.SECONDS);
+		}
+
+		return true;
+	}
+
+	@Override
+	public boolean purchase(UUID buyer, L listing) {
+		try(Trace trace = this.services.getTracer().start("purchase", buyer)) {
+			return this.buy(buyer, listing, trace);
+		}
+	}
+
+	private boolean buy(UUID buyer, L listing, Trace trace) {
+		MarketContext context = new MarketContext(listing, buyer);
+		if(!this.byId.containsKey(listing.getUuid())) {
+			return this.reject(trace, buyer, MsgConfigKeys.ALREADY_CLAIMED, context);
+		}
+
+		if(listing.hasExpired()) {
+			return this.reject(trace, buyer, MsgConfigKeys.EXPIRED, context);
+		}
+
+		Price price = listing.getPrice();
+		if(!trace.phase("economy", () -> price.pay(buyer))) {
+			return this.reject(trace, buyer, MsgConfigKeys.NOT_ENOUGH_FUNDS, context);
+		}
+
+		if(!trace.phase("give_entry", () -> this.players.giveEntry(buyer, listing))) {
+			// The entry is responsible for telling the buyer why
+			trace.phase("economy", () -> price.reward(buyer));
+			return false;
+		}
+
+		trace.phase("messages", () -> this.messenger.send(buyer, MsgConfigKeys.PURCHASE_PAY, context));
+
+		UUID owner = listing.getOwnerUUID();
+		trace.phase("economy", () -> price.reward(owner));
+		if(this.players.isOnline(owner)) {
+			trace.phase("messages", () -> this.messenger.send(owner, MsgConfigKeys.PURCHASE_RECEIVE, context));
+		} else {
+			SoldListing sold = new SoldListing(listing.getEntry().getName(), price.getPrice());
+			trace.phase("storage", () -> this.services.getStorage().addToSoldListings(owner, sold).exceptionally(throwable -> {
+				throwable.printStackTrace();
+				return false;
+			}));
+		}
+
+		trace.phase("remove", () -> this.delete(listing, MarketEvent.Type.SOLD, buyer));
+		trace.phase("events", () -> this.listener.onPurchased(buyer, listing));
+		return true;
+	}
+
+	/**
+	 * Tells a player why their request was turned down.
+	 *
+	 * @return Always <code>false</code>, so callers may return the result as their own
+	 */
+	private boolean reject(Trace trace, UUID recipient, ConfigKey<?> key, MarketContext context) {
+		trace.phase("messages", () -> this.messenger.send(recipient, key, context));
+		return false;
+	}
+
+	@Override
+	public void deleteListing(L listing) {
+		this.delete(listing, this.causeOfRemoval(listing), null);
+	}
+
+	/**
+	 * Deletes a listing on behalf of a player, such as its owner taking it back off the market.
+	 *
+	 * @param listing The listing to delete
+	 * @param actor The player removing the listing
+	 */
+	public void deleteListing(L listing, UUID actor) {
+		this.delete(listing, MarketEvent.Type.REMOVED, actor);
+	}
+
+	private void delete(L listing, MarketEvent.Type cause, UUID actor) {
+		this.detach(listing, cause, actor);
+		this.services.getStorage().deleteListing(listing.getUuid()).exceptionally(throwable -> {
+			throwable.printStackTrace();
+			return false;
+		});
+	}
+
+	/**
+	 * Pulls a listing off the market while leaving it within storage, such as when it's waiting to be returned
+	 * to its owner.
+	 *
+	 * @param listing The listing to pull
+	 */
+	public void detach(L listing) {
+		this.detach(listing, this.causeOfRemoval(listing), null);
+	}
+
+	private void detach(L listing, MarketEvent.Type cause, UUID actor) {
+		L removed = this.byId.remove(listing.getUuid());
+		if(removed != null) {
+			this.listings.remove(removed);
+			this.owned.computeIfPresent(removed.getOwnerUUID(), (owner, count) -> count > 1 ? count - 1 : null);
+			this.listener.onRemoved(removed);
+			this.services.getEvents().publish(cause, removed, actor);
+		}
+	}
+
+	/**
+	 * Purchases say so themselves, so anything else leaving the market has either expired or been removed.
+	 */
+	private MarketEvent.Type causeOfRemoval(L listing) {
+		return listing.hasExpired() ? MarketEvent.Type.EXPIRED : MarketEvent.Type.REMOVED;
+	}
+
+	/**
+	 * Pulls every listing matching the given filter off the market, leaving storage untouched.
+	 *
+	 * @param filter Decides which listings to pull
+	 * @return The number of listings pulled
+	 */
+	public int detachIf(Predicate<L> filter) {
+		List<L> matches = this.listings.stream().filter(filter).collect(Collectors.toList());
+		matches.forEach(this::detach);
+		return matches.size();
+	}
+
+	/**
+	 * Places a listing which was previously pulled off the market back onto it, without charging or announcing it.
+	 *
+	 * @param listing The listing to restore
+	 */
+	public void restore(L listing) {
+		if(!this.byId.containsKey(listing.getUuid())) {
+			this.index(listing);
+		}
+	}
+
+	@Override
+	public boolean hasMaxListings(UUID lister) {
+		return this.owned.getOrDefault(lister, 0) >= this.services.getSettings().getMaxListings();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void readStorage() {
+		IGtsStorage storage = this.services.getStorage();
+
+		try {
+			List<L> read = storage.getListings()
+					.thenApply(listings -> listings.stream().map(listing -> (L) listing).collect(Collectors.toList()))
+					.get();
+
+			this.listings.clear();
+			this.byId.clear();
+			this.owned.clear();
+			read.forEach(this::index);
+			this.listener.onLoaded(this.view);
+		} catch (InterruptedException | ExecutionException e) {
+			e.printStackTrace();
+		}
+
+		storage.getAllIgnorers().thenAccept(ignorers -> {
+			if(ignorers != null) {
+				this.ignorers.addAll(ignorers);
+			}
+		}).exceptionally(throwable -> {
+			throwable.printStackTrace();
+			return null;
+		});
+	}
+
+	private void index(L listing) {
+		this.listings.add(listing);
+		this.byId.put(listing.getUuid(), listing);
+		this.owned.merge(listing.getOwnerUUID(), 1, Integer::sum);
+	}
+}
@@ -0,0 +1,223 @@
+package me.nickimpact.gts.market;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import me.nickimpact.gts.api.events.MarketEvent;
+import me.nickimpact.gts.api.events.MarketSubscription;
+import me.nickimpact.gts.api.listings.Listing;
+import me.nickimpact.gts.api.metrics.Counter;
+import me.nickimpact.gts.api.metrics.Metrics;
+import me.nickimpact.gts.api.plugin.IGTSPlugin;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Publishes {@link MarketEvent}s to any number of subscribers without ever making the publisher wait.
+ *
+ * <p>Events are written into a fixed size ring, with each subscriber reading from it at its own pace on its own
+ * thread. Publishing claims the next sequence, writes the event into that sequence's slot, and wakes any subscriber
+ * waiting for it, none of which takes a lock. A subscriber which falls a full ring behind finds its next slot has
+ * been overwritten by a later event, and skips ahead to the oldest event still held, counting what it missed.</p>
+ */
+public class MarketEventBus {
+
+	/** The number of events held in the ring. This must be a power of two */
+	public static final int DEFAULT_CAPACITY = 4096;
+
+	private static final ThreadFactory THREADS = new ThreadFactoryBuilder().setNameFormat("GTS Market Events - %d").setDaemon(true).build();
+
+	private final IGTSPlugin plugin;
+
+	private final AtomicReferenceArray<MarketEvent> ring;
+	private final int mask;
+	private final AtomicLong next = new AtomicLong();
+
+	private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+	private final Counter published;
+	private final Counter dropped;
+
+	public MarketEventBus(IGTSPlugin plugin, Metrics metrics) {
+		this(plugin, metrics, DEFAULT_CAPACITY);
+	}
+
+	public MarketEventBus(IGTSPlugin plugin, Metrics metrics, int capacity) {
+		if(Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("Capacity must be a power of two, got: " + capacity);
+		}
+
+		this.plugin = plugin;
+		this.ring = new AtomicReferenceArray<>(capacity);
+		this.mask = capacity - 1;
+		this.published = metrics.counter("events.published");
+		this.dropped = metrics.counter("events.dropped");
+		metrics.gauge("events.subscribers", this.subscribers::size);
+	}
+
+	/**
+	 * Publishes a change to the market. This may be called from any thread, and returns without waiting on any
+	 * subscriber. When nothing is subscribed, this does nothing at all.
+	 *
+	 * @param type The type of change
+	 * @param listing The listing which changed
+	 * @param actor The player responsible for the change, or <code>null</code> if GTS made it itself
+	 */
+	public void publish(MarketEvent.Type type, Listing listing, UUID actor) {
+		if(this.subscribers.isEmpty()) {
+			return;
+		}
+
+		long sequence = this.next.getAndIncrement();
+		this.ring.set((int) sequence & this.mask, new MarketEvent(sequence, type, listing, actor));
+		this.published.increment();
+
+		for(Subscriber subscriber : this.subscribers) {
+			subscriber.wake();
+		}
+	}
+
+	/**
+	 * Registers a consumer of market events, which will receive every event published from now on.
+	 *
+	 * @param consumer The consumer of the events
+	 * @return The subscription
+	 */
+	public MarketSubscription subscribe(Consumer<MarketEvent> consumer) {
+		Subscriber subscriber = new Subscriber(consumer, this.next.get());
+		this.subscribers.add(subscriber);
+		subscriber.thread.start();
+		return subscriber;
+	}
+
+	/**
+	 * Cancels a subscription once its consumer has caught up with every event published so far, for consumers
+	 * which mustn't lose what's still in the ring, such as when the server is shutting down. The calling thread
+	 * waits for the subscriber's own thread to do so, so mustn't hold anything the consumer needs.
+	 *
+	 * @param subscription A subscription made through this bus
+	 * @param timeout The longest to wait for the consumer to catch up
+	 * @param unit The unit of the timeout
+	 * @return <code>true</code> if the consumer caught up, <code>false</code> if it was cancelled first
+	 */
+	public boolean drain(MarketSubscription subscription, long timeout, TimeUnit unit) {
+		Subscriber subscriber = (Subscriber) subscription;
+		long target = this.next.get();
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		while(subscriber.isActive() && subscriber.handled < target && System.nanoTime() < deadline) {
+			LockSupport.unpark(subscriber.thread);
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+		}
+
+		boolean drained = subscriber.handled >= target;
+		subscriber.cancel();
+		return drained;
+	}
+
+	/**
+	 * Cancels every subscription, such as when the server is shutting down.
+	 */
+	public void shutdown() {
+		this.subscribers.forEach(Subscriber::cancel);
+	}
+
+	private class Subscriber implements MarketSubscription, Runnable {
+
+		private final Consumer<MarketEvent> consumer;
+		private final Thread thread;
+
+		/** The sequence of the next event this subscriber expects to read */
+		private long cursor;
+		/** The cursor as of the last event the consumer finished with, for {@link MarketEventBus#drain} to wait upon */
+		private volatile long handled;
+		private volatile long skipped;
+
+		private volatile boolean active = true;
+		private volatile boolean waiting;
+
+		private Subscriber(Consumer<MarketEvent> consumer, long cursor) {
+			this.consumer = consumer;
+			this.cursor = cursor;
+			this.handled = cursor;
+			this.thread = THREADS.newThread(this);
+		}
+
+		@Override
+		public void run() {
+			while(this.active) {
+				MarketEvent event = this.poll();
+				if(event == null) {
+					// Flag that we're waiting before checking again, so a publisher either sees the flag and wakes
+					// us, or we see its event
+					this.waiting = true;
+					if(this.poll() == null && this.active) {
+						LockSupport.park(this);
+					}
+					this.waiting = false;
+					continue;
+				}
+
+				try {
+					this.consumer.accept(event);
+				} catch (Exception e) {
+					MarketEventBus.this.plugin.getPluginLogger().error("A market event subscriber failed to handle an event, a stacktrace is available below:");
+					e.printStackTrace();
+				}
+				this.handled = this.cursor;
+			}
+		}
+
+		/**
+		 * Reads the event at the cursor, advancing past it. Should the cursor have been lapped, it's first moved
+		 * forward to the oldest event which may still be read.
+		 *
+		 * @return The next event, or <code>null</code> if it has yet to be published
+		 */
+		private MarketEvent poll() {
+			MarketEvent event = MarketEventBus.this.ring.get((int) this.cursor & MarketEventBus.this.mask);
+			if(event == null || event.getSequence() < this.cursor) {
+				return null;
+			}
+
+			if(event.getSequence() > this.cursor) {
+				long oldest = Math.max(this.cursor + 1, MarketEventBus.this.next.get() - MarketEventBus.this.mask);
+				this.skipped += oldest - this.cursor;
+				MarketEventBus.this.dropped.add(oldest - this.cursor);
+				this.cursor = oldest;
+				return this.poll();
+			}
+
+			this.cursor++;
+			return event;
+		}
+
+		private void wake() {
+			if(this.waiting) {
+				LockSupport.unpark(this.thread);
+			}
+		}
+
+		@Override
+		public long getDropped() {
+			return this.skipped;
+		}
+
+		@Override
+		public boolean isActive() {
+			return this.active;
+		}
+
+		@Override
+		public void cancel() {
+			this.active = false;
+			MarketEventBus.this.subscribers.remove(this);
+			LockSupport.unpark(this.thread);
+		}
+	}
+}
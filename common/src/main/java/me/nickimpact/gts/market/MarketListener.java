@@ -0,0 +1,39 @@
+package me.nickimpact.gts.market;
+
+import me.nickimpact.gts.api.listings.Listing;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lets a platform hook into the {@link MarketEngine}, such as to fire its own events, refresh open menus, or
+ * notify Discord. Every method does nothing by default.
+ *
+ * @param <L> The type of listing the platform uses
+ */
+public interface MarketListener<L extends Listing> {
+
+	/**
+	 * Called once a listing has passed the market's own checks, but before anything is taken from the lister.
+	 *
+	 * @return <code>false</code> to block the listing
+	 */
+	default boolean onListing(UUID lister, L listing) {
+		return true;
+	}
+
+	default void onListed(UUID lister, L listing) {}
+
+	default void onPurchased(UUID buyer, L listing) {}
+
+	/**
+	 * Called whenever a listing leaves the market, whether it was bought, expired, or removed.
+	 */
+	default void onRemoved(L listing) {}
+
+	/**
+	 * Called once the listings have been read in from storage.
+	 */
+	default void onLoaded(List<L> listings) {}
+
+}
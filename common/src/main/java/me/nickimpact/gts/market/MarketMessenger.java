@@ -0,0 +1,33 @@
+package me.nickimpact.gts.market;
+
+import com.nickimpact.impactor.api.configuration.ConfigKey;
+
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Delivers the messages of the {@link MarketEngine}. Each message is identified by its key within the message
+ * config, which may be either a single line or a list of lines, and is rendered with the details held by the
+ * given context.
+ */
+public interface MarketMessenger {
+
+	/**
+	 * Sends a message to a player, if they are online.
+	 *
+	 * @param recipient The UUID of the player to send the message to
+	 * @param key The key of the message within the message config
+	 * @param context The details the message is rendered with
+	 */
+	void send(UUID recipient, ConfigKey<?> key, MarketContext context);
+
+	/**
+	 * Sends a message to every online player accepted by the given filter.
+	 *
+	 * @param key The key of the message within the message config
+	 * @param context The details the message is rendered with
+	 * @param recipients Decides which online players receive the message
+	 */
+	void broadcast(ConfigKey<?> key, MarketContext context, Predicate<UUID> recipients);
+
+}
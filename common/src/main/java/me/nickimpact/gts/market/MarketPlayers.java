@@ -0,0 +1,34 @@
+package me.nickimpact.gts.market;
+
+import me.nickimpact.gts.api.listings.Listing;
+
+import java.util.UUID;
+
+/**
+ * Gives the {@link MarketEngine} access to the players of a platform, without tying it to the platform's API.
+ *
+ * @param <L> The type of listing the platform uses
+ */
+public interface MarketPlayers<L extends Listing> {
+
+	boolean isOnline(UUID uuid);
+
+	/**
+	 * Takes the entry of a listing away from the player listing it. The player is guaranteed to be online.
+	 *
+	 * @param lister The UUID of the player listing the entry
+	 * @param listing The listing being created
+	 * @return <code>true</code> if the entry was taken, <code>false</code> otherwise
+	 */
+	boolean takeEntry(UUID lister, L listing);
+
+	/**
+	 * Hands the entry of a listing to a player, who may or may not be online.
+	 *
+	 * @param receiver The UUID of the player receiving the entry
+	 * @param listing The listing holding the entry
+	 * @return <code>true</code> if the entry was handed over, <code>false</code> otherwise
+	 */
+	boolean giveEntry(UUID receiver, L listing);
+
+}
@@ -0,0 +1,26 @@
+package me.nickimpact.gts.market;
+
+import me.nickimpact.gts.api.storage.IGtsStorage;
+import me.nickimpact.gts.economy.EconomyAdapter;
+import me.nickimpact.gts.metrics.Tracer;
+
+/**
+ * The services the {@link MarketEngine} relies on. These may be replaced while the server is running, such as
+ * when the config is reloaded or a new economy provider registers, so the engine looks them up on every use.
+ */
+public interface MarketServices {
+
+	IGtsStorage getStorage();
+
+	MarketSettings getSettings();
+
+	EconomyAdapter getEconomy();
+
+	Tracer getTracer();
+
+	/**
+	 * The bus changes to the market are published to, once they've been made.
+	 */
+	MarketEventBus getEvents();
+
+}
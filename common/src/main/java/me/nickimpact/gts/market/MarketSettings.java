@@ -0,0 +1,24 @@
+package me.nickimpact.gts.market;
+
+/**
+ * The settings the {@link MarketEngine} reads while listing and purchasing. On a server these come from the
+ * {@link me.nickimpact.gts.config.ConfigSnapshot} of the current config.
+ */
+public interface MarketSettings {
+
+	int getMaxListings();
+
+	boolean isCooldownsEnabled();
+
+	/**
+	 * @return The cooldown between listings, in seconds
+	 */
+	long getCooldownWait();
+
+	boolean isMinPricingEnabled();
+
+	double getMaxMoneyPrice();
+
+	boolean isTaxEnabled();
+
+}
@@ -0,0 +1,20 @@
+package me.nickimpact.gts.metrics;
+
+import me.nickimpact.gts.api.metrics.Counter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class AdderCounter implements Counter {
+
+	private final LongAdder count = new LongAdder();
+
+	@Override
+	public void add(long amount) {
+		this.count.add(amount);
+	}
+
+	@Override
+	public long getCount() {
+		return this.count.sum();
+	}
+}
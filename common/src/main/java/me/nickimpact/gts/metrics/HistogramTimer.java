@@ -0,0 +1,110 @@
+package me.nickimpact.gts.metrics;
+
+import me.nickimpact.gts.api.metrics.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A timer which sorts each duration into a fixed set of buckets, as well as keeping a count, total and maximum.
+ * Recording is lock free and allocation free, so it's cheap enough to wrap calls made on the server thread.
+ *
+ * <p>Percentiles are estimated from the buckets, so they are only as precise as the bucket the percentile
+ * falls into. The buckets are spaced to give a useful reading anywhere from a cached lookup to a database
+ * round trip that has stalled.</p>
+ */
+public class HistogramTimer implements Timer {
+
+	/** The upper bound of each bucket, in milliseconds. Anything slower falls into a final, unbounded bucket */
+	static final double[] BOUNDS = {0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+	private static final long[] BOUNDS_NANOS = new long[BOUNDS.length];
+
+	static {
+		for(int i = 0; i < BOUNDS.length; i++) {
+			BOUNDS_NANOS[i] = (long) (BOUNDS[i] * TimeUnit.MILLISECONDS.toNanos(1));
+		}
+	}
+
+	private final LongAdder[] buckets = new LongAdder[BOUNDS.length + 1];
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	public HistogramTimer() {
+		for(int i = 0; i < this.buckets.length; i++) {
+			this.buckets[i] = new LongAdder();
+		}
+	}
+
+	@Override
+	public void record(long duration, TimeUnit unit) {
+		long nanos = Math.max(0, unit.toNanos(duration));
+		int bucket = 0;
+		while(bucket < BOUNDS_NANOS.length && nanos > BOUNDS_NANOS[bucket]) {
+			bucket++;
+		}
+
+		this.buckets[bucket].increment();
+		this.count.increment();
+		this.total.add(nanos);
+		this.max.accumulateAndGet(nanos, Math::max);
+	}
+
+	@Override
+	public long getCount() {
+		return this.count.sum();
+	}
+
+	public long getTotalNanos() {
+		return this.total.sum();
+	}
+
+	public long getMaxNanos() {
+		return this.max.get();
+	}
+
+	/**
+	 * Reads the amount of durations recorded into each bucket, not cumulative. The final element holds the
+	 * durations which exceeded every bound.
+	 */
+	public long[] getBucketCounts() {
+		long[] counts = new long[this.buckets.length];
+		for(int i = 0; i < counts.length; i++) {
+			counts[i] = this.buckets[i].sum();
+		}
+		return counts;
+	}
+
+	/**
+	 * Estimates the given percentile, in milliseconds, as the upper bound of the bucket it falls into, capped
+	 * at the maximum recorded duration.
+	 *
+	 * @param percentile The percentile to estimate, between 0 and 1
+	 * @return The estimated percentile, in milliseconds, or 0 if nothing has been recorded
+	 */
+	public double percentile(double percentile) {
+		long[] counts = this.getBucketCounts();
+		long total = 0;
+		for(long c : counts) {
+			total += c;
+		}
+
+		if(total == 0) {
+			return 0;
+		}
+
+		double max = this.getMaxNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+		long target = (long) Math.ceil(total * percentile);
+		long seen = 0;
+		for(int i = 0; i < BOUNDS.length; i++) {
+			seen += counts[i];
+			if(seen >= target) {
+				return Math.min(BOUNDS[i], max);
+			}
+		}
+
+		return max;
+	}
+}
@@ -0,0 +1,110 @@
+package me.nickimpact.gts.metrics;
+
+import me.nickimpact.gts.api.plugin.IGTSPlugin;
+import me.nickimpact.gts.config.ConfigKeys;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically writes the metrics registry to a file in the Prometheus text exposition format, so it can be
+ * picked up by the node exporter's textfile collector or simply read by hand.
+ *
+ * <p>Metric names are prefixed with <code>gts_</code>, with dots replaced by underscores. Timers become
+ * histograms measured in seconds, counters gain a <code>_total</code> suffix, and gauges are written as-is.</p>
+ */
+public class MetricsDump {
+
+	private final IGTSPlugin plugin;
+	private final MetricsRegistry registry;
+
+	private ScheduledFuture<?> task;
+
+	public MetricsDump(IGTSPlugin plugin, MetricsRegistry registry) {
+		this.plugin = plugin;
+		this.registry = registry;
+	}
+
+	/**
+	 * Schedules the dump according to the current config, replacing any previous schedule. Intended to be
+	 * called on startup and again after each reload.
+	 */
+	public synchronized void schedule() {
+		if(this.task != null) {
+			this.task.cancel(false);
+			this.task = null;
+		}
+
+		int interval = this.plugin.getConfiguration().get(ConfigKeys.METRICS_DUMP_INTERVAL);
+		if(interval <= 0) {
+			return;
+		}
+
+		Path target = this.plugin.getConfigDir().resolve(this.plugin.getConfiguration().get(ConfigKeys.METRICS_DUMP_FILE));
+		this.task = this.plugin.getAsyncExecutor().scheduleAtFixedRate(() -> {
+			try {
+				this.write(target);
+			} catch (Exception e) {
+				this.plugin.getPluginLogger().error("Unable to write metrics to " + target + ": " + e.getMessage());
+			}
+		}, interval, interval, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Writes the metrics to the given file. The file is written beside the target then moved into place, so
+	 * a scraper never reads a half written file.
+	 */
+	public void write(Path target) throws IOException {
+		Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+		Files.write(temp, this.render().getBytes(StandardCharsets.UTF_8));
+		Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	public String render() {
+		StringBuilder out = new StringBuilder();
+		for(Map.Entry<String, Number> gauge : this.registry.readGauges().entrySet()) {
+			String name = sanitise(gauge.getKey());
+			out.append("# TYPE ").append(name).append(" gauge\n");
+			out.append(name).append(' ').append(gauge.getValue()).append('\n');
+		}
+
+		this.registry.getCounters().entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(counter -> {
+			String name = sanitise(counter.getKey()) + "_total";
+			out.append("# TYPE ").append(name).append(" counter\n");
+			out.append(name).append(' ').append(counter.getValue().getCount()).append('\n');
+		});
+
+		this.registry.getTimers().entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(timer -> {
+			String name = sanitise(timer.getKey()) + "_seconds";
+			long[] counts = timer.getValue().getBucketCounts();
+			out.append("# TYPE ").append(name).append(" histogram\n");
+
+			long cumulative = 0;
+			for(int i = 0; i < HistogramTimer.BOUNDS.length; i++) {
+				cumulative += counts[i];
+				out.append(name).append("_bucket{le=\"").append(seconds(HistogramTimer.BOUNDS[i])).append("\"} ").append(cumulative).append('\n');
+			}
+			cumulative += counts[counts.length - 1];
+			out.append(name).append("_bucket{le=\"+Inf\"} ").append(cumulative).append('\n');
+			out.append(name).append("_sum ").append(timer.getValue().getTotalNanos() / 1e9).append('\n');
+			out.append(name).append("_count ").append(cumulative).append('\n');
+		});
+
+		return out.toString();
+	}
+
+	private static String sanitise(String name) {
+		return "gts_" + name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9_]", "_");
+	}
+
+	private static String seconds(double millis) {
+		return String.valueOf(millis / 1000);
+	}
+}
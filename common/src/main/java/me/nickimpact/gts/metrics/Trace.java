@@ -0,0 +1,138 @@
+package me.nickimpact.gts.metrics;
+
+import com.google.common.collect.Maps;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The timings of a single traced operation, such as a purchase, broken down into the phases it passed through.
+ * Phases with the same name are summed, and a phase may run within another, such as template rendering while
+ * sending a message. Time not spent within any top level phase is reported as <code>other</code>.
+ *
+ * <p>A trace belongs to the thread that started it, and is only ever touched by that thread until it closes.</p>
+ */
+public class Trace implements AutoCloseable {
+
+	/** Handed out while tracing is disabled. Phases simply run, and nothing is recorded */
+	static final Trace NOOP = new Trace(null, "noop", "");
+
+	private final Tracer tracer;
+	private final String operation;
+	private final String subject;
+	private final LocalDateTime started = LocalDateTime.now();
+	private final long start = System.nanoTime();
+
+	private final Map<String, Phase> phases = Maps.newLinkedHashMap();
+	private int depth;
+	private int opens = 1;
+	private long total;
+
+	Trace(Tracer tracer, String operation, String subject) {
+		this.tracer = tracer;
+		this.operation = operation;
+		this.subject = subject;
+	}
+
+	/**
+	 * Runs the given work as a phase of this trace.
+	 *
+	 * @param name The name of the phase, such as "economy"
+	 * @param work The work done within the phase
+	 * @return The result of the work
+	 */
+	public <T> T phase(String name, Supplier<T> work) {
+		if(this.tracer == null) {
+			return work.get();
+		}
+
+		this.depth++;
+		long start = System.nanoTime();
+		try {
+			return work.get();
+		} finally {
+			this.depth--;
+			this.phases.computeIfAbsent(name, key -> new Phase(this.depth)).add(System.nanoTime() - start);
+		}
+	}
+
+	public void phase(String name, Runnable work) {
+		this.phase(name, () -> {
+			work.run();
+			return null;
+		});
+	}
+
+	@Override
+	public void close() {
+		if(this.tracer != null && --this.opens == 0) {
+			this.total = System.nanoTime() - this.start;
+			this.tracer.finish(this);
+		}
+	}
+
+	/** Reuses this trace for an operation started while it's still open, such as a removal within a purchase */
+	void reopen() {
+		this.opens++;
+	}
+
+	public String getOperation() {
+		return this.operation;
+	}
+
+	public LocalDateTime getStarted() {
+		return this.started;
+	}
+
+	public long getTotal(TimeUnit unit) {
+		return unit.convert(this.total, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Describes this trace on a single line, as <code>key=value</code> pairs so it can be picked out of a log.
+	 *
+	 * @return A line in the form <code>op=purchase subject=... total=412.30ms economy=380.12ms ... other=1.60ms</code>
+	 */
+	public String describe() {
+		StringJoiner joiner = new StringJoiner(" ");
+		joiner.add("op=" + this.operation);
+		joiner.add("subject=" + this.subject);
+		joiner.add("total=" + millis(this.total));
+
+		long attributed = 0;
+		for(Map.Entry<String, Phase> entry : this.phases.entrySet()) {
+			Phase phase = entry.getValue();
+			String key = phase.depth == 0 ? entry.getKey() : "(" + entry.getKey() + ")";
+			joiner.add(key + "=" + millis(phase.nanos) + (phase.count > 1 ? "x" + phase.count : ""));
+			if(phase.depth == 0) {
+				attributed += phase.nanos;
+			}
+		}
+
+		joiner.add("other=" + millis(Math.max(0, this.total - attributed)));
+		return joiner.toString();
+	}
+
+	private static String millis(long nanos) {
+		return String.format("%.2fms", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+	}
+
+	private static class Phase {
+
+		private final int depth;
+		private long nanos;
+		private int count;
+
+		private Phase(int depth) {
+			this.depth = depth;
+		}
+
+		private void add(long nanos) {
+			this.nanos += nanos;
+			this.count++;
+		}
+	}
+}
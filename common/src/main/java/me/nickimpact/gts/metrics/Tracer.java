@@ -0,0 +1,123 @@
+package me.nickimpact.gts.metrics;
+
+import com.google.common.collect.Lists;
+import com.nickimpact.impactor.api.logging.Logger;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in tracing of the operations players wait on, such as listing, purchasing, expiring and opening the market.
+ * Each traced operation records how long it spent in each phase, and should it take longer than the configured
+ * threshold, its breakdown is logged and kept within a small buffer of recent slow traces.
+ *
+ * <p>Code beneath a traced operation, such as template rendering, may add phases to whichever trace is active on
+ * the current thread through {@link #active()}, without the trace being passed down to it. Storage writes are
+ * submitted asynchronously, so only the submission shows up within a trace.</p>
+ */
+public class Tracer {
+
+	private static final ThreadLocal<Trace> ACTIVE = new ThreadLocal<>();
+
+	private final Logger logger;
+
+	private volatile boolean enabled;
+	private volatile long threshold;
+
+	private Trace[] recent = new Trace[0];
+	private int next;
+
+	public Tracer(Logger logger) {
+		this.logger = logger;
+	}
+
+	/**
+	 * Applies the tracing settings, typically from a freshly loaded config. Changing the buffer size keeps the
+	 * most recent of the traces already buffered.
+	 *
+	 * @param enabled Whether operations are traced at all
+	 * @param threshold The time, in milliseconds, an operation must take before it's considered slow
+	 * @param capacity The number of slow traces to keep
+	 */
+	public synchronized void configure(boolean enabled, long threshold, int capacity) {
+		this.enabled = enabled;
+		this.threshold = TimeUnit.MILLISECONDS.toNanos(threshold);
+
+		capacity = Math.max(0, capacity);
+		if(capacity != this.recent.length) {
+			List<Trace> kept = this.getRecent();
+			this.recent = new Trace[capacity];
+			this.next = 0;
+			for(int i = Math.min(capacity, kept.size()) - 1; i >= 0; i--) {
+				this.buffer(kept.get(i));
+			}
+		}
+	}
+
+	/**
+	 * Starts tracing an operation on the current thread. Should another operation already be traced on this
+	 * thread, its trace is shared, so the nested operation's phases appear within it.
+	 *
+	 * @param operation The name of the operation, such as "purchase"
+	 * @param subject Who or what the operation concerns, such as the buyer
+	 * @return The trace, to be closed once the operation completes
+	 */
+	public Trace start(String operation, Object subject) {
+		if(!this.enabled) {
+			return Trace.NOOP;
+		}
+
+		Trace active = ACTIVE.get();
+		if(active != null) {
+			active.reopen();
+			return active;
+		}
+
+		Trace trace = new Trace(this, operation, String.valueOf(subject));
+		ACTIVE.set(trace);
+		return trace;
+	}
+
+	/**
+	 * Fetches the trace active on the current thread, or one which records nothing if there isn't one.
+	 */
+	public static Trace active() {
+		Trace trace = ACTIVE.get();
+		return trace != null ? trace : Trace.NOOP;
+	}
+
+	void finish(Trace trace) {
+		ACTIVE.remove();
+		if(trace.getTotal(TimeUnit.NANOSECONDS) < this.threshold) {
+			return;
+		}
+
+		this.logger.warn("Slow operation: " + trace.describe());
+		synchronized (this) {
+			this.buffer(trace);
+		}
+	}
+
+	/**
+	 * Fetches the buffered slow traces, most recent first.
+	 */
+	public synchronized List<Trace> getRecent() {
+		List<Trace> traces = Lists.newArrayList();
+		for(int i = 1; i <= this.recent.length; i++) {
+			Trace trace = this.recent[Math.floorMod(this.next - i, this.recent.length)];
+			if(trace != null) {
+				traces.add(trace);
+			}
+		}
+		return traces;
+	}
+
+	private void buffer(Trace trace) {
+		if(this.recent.length == 0) {
+			return;
+		}
+
+		this.recent[this.next] = trace;
+		this.next = (this.next + 1) % this.recent.length;
+	}
+}
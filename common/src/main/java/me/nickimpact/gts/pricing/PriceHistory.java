@@ -0,0 +1,252 @@
+package me.nickimpact.gts.pricing;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import me.nickimpact.gts.api.events.MarketEvent;
+import me.nickimpact.gts.api.events.MarketSubscription;
+import me.nickimpact.gts.api.plugin.IGTSPlugin;
+import me.nickimpact.gts.config.ConfigKeys;
+import me.nickimpact.gts.market.MarketEventBus;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Tracks what things sell for, so players can see the typical price of something before buying or selling it.
+ *
+ * <p>Each sale is recorded under every one of its listing's price keys, such that a shiny Garchomp counts
+ * towards both Garchomp in general and shiny Garchomp in particular. The aggregates of each key are updated as
+ * sales come in, so reading them costs the same however many sales have been made. Sales arrive through the
+ * {@link MarketEventBus}, off of the server thread, and the aggregates are saved to a single file every so often
+ * and on shutdown.</p>
+ */
+public class PriceHistory implements Consumer<MarketEvent> {
+
+	private static final Gson GSON = new GsonBuilder().create();
+	private static final Type STORED = new TypeToken<Map<String, PriceStats>>(){}.getType();
+	/** How long, in seconds, closing waits for sales still in the ring to be recorded */
+	private static final long DRAIN_TIMEOUT = 5;
+
+	private final IGTSPlugin plugin;
+	private final MarketEventBus events;
+
+	private final Map<String, PriceStats> stats = new ConcurrentHashMap<>();
+	private volatile boolean dirty;
+
+	private MarketSubscription subscription;
+	private ScheduledFuture<?> saver;
+
+	private Path file;
+	private volatile long halfLife;
+	private volatile int minSales;
+
+	public PriceHistory(IGTSPlugin plugin, MarketEventBus events) {
+		this.plugin = plugin;
+		this.events = events;
+	}
+
+	/**
+	 * Applies the current config, starting or stopping tracking as needed. Intended to be called on startup and
+	 * again after each reload.
+	 */
+	public synchronized void configure() {
+		if(!this.plugin.getConfiguration().get(ConfigKeys.PRICES_ENABLED)) {
+			this.close();
+			return;
+		}
+
+		Path file = this.plugin.getConfigDir().resolve(this.plugin.getConfiguration().get(ConfigKeys.PRICES_FILE));
+		this.halfLife = (long) (TimeUnit.DAYS.toMillis(1) * Math.max(this.plugin.getConfiguration().get(ConfigKeys.PRICES_HALF_LIFE), 0.01));
+		this.minSales = this.plugin.getConfiguration().get(ConfigKeys.PRICES_MIN_SALES);
+		if(this.subscription == null || !file.equals(this.file)) {
+			this.close();
+			this.file = file;
+			this.load();
+			this.subscription = this.events.subscribe(this);
+		}
+
+		if(this.saver != null) {
+			this.saver.cancel(false);
+		}
+		int interval = Math.max(1, this.plugin.getConfiguration().get(ConfigKeys.PRICES_SAVE_INTERVAL));
+		this.saver = this.plugin.getAsyncExecutor().scheduleAtFixedRate(this::save, interval, interval, TimeUnit.MINUTES);
+	}
+
+	@Override
+	public void accept(MarketEvent event) {
+		if(event.getType() != MarketEvent.Type.SOLD || event.getPriceKeys().isEmpty()) {
+			return;
+		}
+
+		double price = event.getPrice() / Math.max(1, event.getPriceUnits());
+		long time = event.getTimestamp().toEpochMilli();
+		for(String key : event.getPriceKeys()) {
+			this.stats.computeIfAbsent(key, k -> new PriceStats()).record(price, time, this.halfLife);
+		}
+		this.dirty = true;
+	}
+
+	/**
+	 * Fetches what has sold under a single price key.
+	 *
+	 * @param key The price key
+	 * @return A summary of the sales made under the key, if any
+	 */
+	public Optional<PriceSummary> get(String key) {
+		PriceStats stats = this.stats.get(key);
+		return stats != null ? Optional.of(stats.summarise(key)) : Optional.empty();
+	}
+
+	/**
+	 * Fetches the typical price of something with the given price keys, such as those of a listing. The most
+	 * specific key with enough sales to go by is used, falling back to broader keys for things rarely sold.
+	 *
+	 * @param keys The price keys, most general first
+	 * @return A summary of the sales made under the chosen key, if any had enough sales
+	 */
+	public Optional<PriceSummary> lookup(List<String> keys) {
+		for(int i = keys.size() - 1; i >= 0; i--) {
+			PriceStats stats = this.stats.get(keys.get(i));
+			if(stats != null && stats.getSales() >= this.minSales) {
+				return Optional.of(stats.summarise(keys.get(i)));
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Finds the price keys matching a query, such as <code>garchomp shiny</code>. Each word must match one facet
+	 * of the key, or the path of an item type without its namespace. A word containing a slash matches that key
+	 * and any key more specific than it. Broader keys are listed first, then those with the most sales.
+	 *
+	 * @param query The words to search by
+	 * @param limit The most results to return
+	 * @return Summaries of the matching keys
+	 */
+	public List<PriceSummary> search(String query, int limit) {
+		String[] terms = query.trim().toLowerCase(Locale.ROOT).split("\\s+");
+		return this.stats.entrySet().stream()
+				.filter(entry -> matches(entry.getKey(), terms))
+				.sorted(Comparator.<Map.Entry<String, PriceStats>>comparingInt(entry -> depth(entry.getKey()))
+						.thenComparing(entry -> entry.getValue().getSales(), Comparator.reverseOrder()))
+				.limit(limit)
+				.map(entry -> entry.getValue().summarise(entry.getKey()))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Stops tracking, first recording any sales still held by the bus, then saving anything not yet saved. Sales
+	 * are recorded without taking this lock, so the bus can be drained while holding it.
+	 */
+	public synchronized void close() {
+		if(this.subscription != null) {
+			if(!this.events.drain(this.subscription, DRAIN_TIMEOUT, TimeUnit.SECONDS)) {
+				this.plugin.getPluginLogger().error("Timed out recording the last sales to the price history, some may be missing");
+			}
+			this.subscription = null;
+		}
+
+		if(this.saver != null) {
+			this.saver.cancel(false);
+			this.saver = null;
+		}
+
+		if(this.file != null) {
+			this.save();
+		}
+	}
+
+	private synchronized void load() {
+		this.stats.clear();
+		if(!Files.exists(this.file)) {
+			return;
+		}
+
+		try(Reader reader = Files.newBufferedReader(this.file, StandardCharsets.UTF_8)) {
+			Map<String, PriceStats> stored = GSON.fromJson(reader, STORED);
+			if(stored != null) {
+				this.stats.putAll(stored);
+			}
+		} catch (IOException | JsonParseException e) {
+			this.plugin.getPluginLogger().error("Unable to read price history from " + this.file.getFileName() + ", starting afresh: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Writes every aggregate to the price history file, if anything has sold since it was last written. The file
+	 * is written beside the target then moved into place, so a crash mid-write leaves the last save intact.
+	 */
+	private synchronized void save() {
+		if(!this.dirty) {
+			return;
+		}
+
+		this.dirty = false;
+		Map<String, PriceStats> snapshot = this.stats.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().copy()));
+		Path temp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+		try {
+			try(Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+				GSON.toJson(snapshot, STORED, writer);
+			}
+			Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			this.dirty = true;
+			this.plugin.getPluginLogger().error("Unable to save price history to " + this.file.getFileName() + ": " + e.getMessage());
+		}
+	}
+
+	private static boolean matches(String key, String[] terms) {
+		String[] facets = key.split("/");
+		for(String term : terms) {
+			if(term.contains("/")) {
+				if(!key.equals(term) && !key.startsWith(term + "/")) {
+					return false;
+				}
+				continue;
+			}
+
+			boolean found = false;
+			for(String facet : facets) {
+				if(facet.equals(term) || facet.endsWith(":" + term)) {
+					found = true;
+					break;
+				}
+			}
+
+			if(!found) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static int depth(String key) {
+		int depth = 0;
+		for(int i = 0; i < key.length(); i++) {
+			if(key.charAt(i) == '/') {
+				depth++;
+			}
+		}
+		return depth;
+	}
+}
@@ -0,0 +1,218 @@
+package me.nickimpact.gts.pricing;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.nickimpact.impactor.api.logging.Logger;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Compiles minimum price rules written in configuration into a {@link PriceRules} evaluator. Each rule is a
+ * line of the form:
+ *
+ * <pre>
+ *     &lt;condition&gt; [&lt;condition&gt; ...] = &lt;amount&gt;
+ * </pre>
+ *
+ * A condition takes one of the following forms, depending on the attribute it refers to:
+ * <ul>
+ *     <li><code>shiny</code> or <code>!shiny</code> for a flag</li>
+ *     <li><code>form=1</code>, <code>level&gt;=50</code>, and so on, for a value. Values support
+ *     <code>=</code>, <code>!=</code>, <code>&gt;</code>, <code>&gt;=</code>, <code>&lt;</code> and <code>&lt;=</code></li>
+ *     <li><code>ivs&gt;=31</code> for a counter, which matches once for every element meeting the comparison</li>
+ *     <li><code>species=pikachu</code> for the index attribute, which files the rule under that value</li>
+ *     <li><code>*</code>, which always matches</li>
+ * </ul>
+ *
+ * For example, <code>species=mewtwo shiny = 20000</code> adds 20000 to the price of a shiny Mewtwo, while
+ * <code>ivs&gt;=31 = 1000</code> adds 1000 for every perfect IV. Rules which fail to compile are reported and skipped.
+ *
+ * @param <T> The type of object being priced
+ */
+public class PriceRuleCompiler<T> {
+
+	private static final String[] OPERATORS = {">=", "<=", "!=", "=", ">", "<"};
+
+	private String indexName;
+	private Function<T, String> indexer;
+
+	private final Map<String, Predicate<T>> flags = Maps.newHashMap();
+	private final Map<String, Function<T, Object>> values = Maps.newHashMap();
+	private final Map<String, Function<T, int[]>> counters = Maps.newHashMap();
+
+	/**
+	 * Declares the attribute rules are indexed by. Only a single index attribute may be declared.
+	 */
+	public PriceRuleCompiler<T> index(String name, Function<T, String> indexer) {
+		this.indexName = normalize(name);
+		this.indexer = indexer;
+		return this;
+	}
+
+	public PriceRuleCompiler<T> flag(String name, Predicate<T> flag) {
+		this.flags.put(normalize(name), flag);
+		return this;
+	}
+
+	public PriceRuleCompiler<T> value(String name, Function<T, Object> value) {
+		this.values.put(normalize(name), value);
+		return this;
+	}
+
+	public PriceRuleCompiler<T> counter(String name, Function<T, int[]> counter) {
+		this.counters.put(normalize(name), counter);
+		return this;
+	}
+
+	/**
+	 * Compiles the given rules into an evaluator.
+	 *
+	 * @param base The price every target starts from
+	 * @param rules The rules to compile
+	 * @param logger The logger to report invalid rules to
+	 * @return The compiled rules
+	 */
+	public PriceRules<T> compile(double base, List<String> rules, Logger logger) {
+		List<PriceRules.Rule<T>> global = Lists.newArrayList();
+		Map<String, List<PriceRules.Rule<T>>> indexed = Maps.newHashMap();
+
+		for(String rule : rules) {
+			try {
+				int split = rule.lastIndexOf('=');
+				if(split <= 0) {
+					throw new IllegalArgumentException("Missing '= <amount>'");
+				}
+
+				double amount = Double.parseDouble(rule.substring(split + 1).trim());
+				String index = null;
+				List<ToIntFunction<T>> conditions = Lists.newArrayList();
+				for(String condition : rule.substring(0, split).trim().split("\\s+")) {
+					if(condition.equals("*")) {
+						continue;
+					}
+
+					if(this.indexName != null && normalize(condition).startsWith(this.indexName + "=")) {
+						if(index != null) {
+							throw new IllegalArgumentException("A rule may only specify one " + this.indexName);
+						}
+
+						index = normalize(condition.substring(this.indexName.length() + 1));
+						continue;
+					}
+
+					conditions.add(this.compileCondition(condition));
+				}
+
+				PriceRules.Rule<T> compiled = new PriceRules.Rule<>(amount, conditions);
+				if(index != null) {
+					indexed.computeIfAbsent(index, key -> Lists.newArrayList()).add(compiled);
+				} else {
+					global.add(compiled);
+				}
+			} catch (Exception e) {
+				logger.error("Skipping invalid min price rule (" + rule + "): " + e.getMessage());
+			}
+		}
+
+		return new PriceRules<>(base, global, indexed, this.indexer);
+	}
+
+	private ToIntFunction<T> compileCondition(String condition) {
+		for(String operator : OPERATORS) {
+			int at = condition.indexOf(operator);
+			if(at > 0) {
+				String name = normalize(condition.substring(0, at));
+				String operand = condition.substring(at + operator.length());
+				if(this.values.containsKey(name)) {
+					Function<T, Object> value = this.values.get(name);
+					Predicate<Object> test = compare(operator, operand);
+					return target -> test.test(value.apply(target)) ? 1 : 0;
+				} else if(this.counters.containsKey(name)) {
+					Function<T, int[]> counter = this.counters.get(name);
+					Predicate<Object> test = compare(operator, Double.parseDouble(operand));
+					return target -> {
+						int count = 0;
+						for(int element : counter.apply(target)) {
+							if(test.test(element)) {
+								count++;
+							}
+						}
+						return count;
+					};
+				}
+
+				throw new IllegalArgumentException("Unknown attribute '" + name + "'");
+			}
+		}
+
+		boolean negated = condition.startsWith("!");
+		String name = normalize(negated ? condition.substring(1) : condition);
+		Predicate<T> flag = this.flags.get(name);
+		if(flag == null) {
+			throw new IllegalArgumentException("Unknown flag '" + name + "'");
+		}
+
+		return target -> flag.test(target) != negated ? 1 : 0;
+	}
+
+	private static Predicate<Object> compare(String operator, Object operand) {
+		if(operator.equals("=") || operator.equals("!=")) {
+			boolean expected = operator.equals("=");
+			String text = normalize(operand.toString());
+			Double number = asNumber(operand);
+			return value -> {
+				if(value == null) {
+					return !expected;
+				}
+
+				Double actual = asNumber(value);
+				boolean equal = number != null && actual != null ? number.equals(actual) : normalize(value.toString()).equals(text);
+				return equal == expected;
+			};
+		}
+
+		Double number = asNumber(operand);
+		if(number == null) {
+			throw new IllegalArgumentException("'" + operand + "' is not a number");
+		}
+
+		return value -> {
+			Double actual = value != null ? asNumber(value) : null;
+			if(actual == null) {
+				return false;
+			}
+
+			switch (operator) {
+				case ">=":
+					return actual >= number;
+				case "<=":
+					return actual <= number;
+				case ">":
+					return actual > number;
+				default:
+					return actual < number;
+			}
+		};
+	}
+
+	private static Double asNumber(Object value) {
+		if(value instanceof Number) {
+			return ((Number) value).doubleValue();
+		}
+
+		try {
+			return Double.parseDouble(value.toString().trim());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	static String normalize(String input) {
+		return input == null ? "" : input.trim().toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,86 @@
+package me.nickimpact.gts.pricing;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * A compiled set of minimum price rules, as produced by a {@link PriceRuleCompiler}. Rules bound to a specific
+ * index value (such as a species or item type) are stored in a bucket for that value, so evaluating a target
+ * only ever inspects the rules that could possibly apply to it, along with the rules that apply to everything.
+ *
+ * @param <T> The type of object being priced
+ */
+public class PriceRules<T> {
+
+	private final double base;
+	private final List<Rule<T>> global;
+	private final Map<String, List<Rule<T>>> indexed;
+	private final Function<T, String> indexer;
+
+	PriceRules(double base, List<Rule<T>> global, Map<String, List<Rule<T>>> indexed, Function<T, String> indexer) {
+		this.base = base;
+		this.global = ImmutableList.copyOf(global);
+		this.indexed = ImmutableMap.copyOf(indexed);
+		this.indexer = indexer;
+	}
+
+	/**
+	 * Calculates the minimum price of the given target: the base price plus the amount of every rule it matches.
+	 *
+	 * @param target The object being priced
+	 * @return The minimum price of the target
+	 */
+	public double evaluate(T target) {
+		double total = this.base;
+		for(Rule<T> rule : this.global) {
+			total += rule.apply(target);
+		}
+
+		if(this.indexer != null && !this.indexed.isEmpty()) {
+			List<Rule<T>> bucket = this.indexed.get(PriceRuleCompiler.normalize(this.indexer.apply(target)));
+			if(bucket != null) {
+				for(Rule<T> rule : bucket) {
+					total += rule.apply(target);
+				}
+			}
+		}
+
+		return total;
+	}
+
+	public int size() {
+		return this.global.size() + this.indexed.values().stream().mapToInt(List::size).sum();
+	}
+
+	static class Rule<T> {
+
+		private final double amount;
+		private final List<ToIntFunction<T>> conditions;
+
+		Rule(double amount, List<ToIntFunction<T>> conditions) {
+			this.amount = amount;
+			this.conditions = ImmutableList.copyOf(conditions);
+		}
+
+		/**
+		 * Each condition reports how many times it matches the target. Plain conditions match at most once, whereas
+		 * counted conditions (such as "IVs of at least 31") may match several times, each time adding the rule's amount.
+		 */
+		double apply(T target) {
+			int multiplier = 1;
+			for(ToIntFunction<T> condition : this.conditions) {
+				multiplier *= condition.applyAsInt(target);
+				if(multiplier == 0) {
+					return 0;
+				}
+			}
+
+			return this.amount * multiplier;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package me.nickimpact.gts.pricing;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A compact estimate of the distribution of prices something has sold for, from which quantiles such as the
+ * median can be read without keeping every sale.
+ *
+ * <p>Prices are counted within logarithmic buckets, each one percent wider than the last, so any quantile read
+ * back is within one percent of the true price no matter how large prices grow. Newer sales are given more weight
+ * than older ones, with the weight of a sale halving every half-life, so the distribution follows the market as it
+ * moves. Rather than decaying every bucket as time passes, each new sale is weighted up instead, and the weights are
+ * brought back down to size once they grow too large.</p>
+ */
+class PriceSketch {
+
+	/** The relative error of any quantile read from the sketch */
+	private static final double ACCURACY = 0.01;
+	private static final double GAMMA = (1 + ACCURACY) / (1 - ACCURACY);
+	private static final double LOG_GAMMA = Math.log(GAMMA);
+
+	/** The smallest price told apart from the next. Anything cheaper, including free listings, shares a bucket */
+	private static final double MIN_PRICE = 0.01;
+
+	/** Enough buckets to span every price between a cent and a trillion */
+	private static final int MAX_BUCKETS = 2048;
+
+	/** The weight at which the sketch is brought back down to size */
+	private static final double RESCALE_AT = 1e12;
+
+	/** Buckets whose weight falls below this, relative to a sale made now, have been forgotten */
+	private static final double FORGOTTEN = 1e-6;
+
+	private TreeMap<Integer, Double> buckets = new TreeMap<>();
+
+	/** The time, in epoch milliseconds, at which a sale carries a weight of one */
+	private long landmark;
+
+	/**
+	 * Records a sale.
+	 *
+	 * @param price The price of the sale
+	 * @param time The time of the sale, in epoch milliseconds
+	 * @param halfLife The time, in milliseconds, over which the weight of a sale halves
+	 */
+	void add(double price, long time, long halfLife) {
+		if(this.buckets.isEmpty()) {
+			this.landmark = time;
+		}
+
+		double weight = Math.pow(2, (double) (time - this.landmark) / halfLife);
+		if(weight > RESCALE_AT) {
+			this.rescale(time, halfLife);
+			weight = 1;
+		}
+
+		this.buckets.merge(index(price), weight, Double::sum);
+		if(this.buckets.size() > MAX_BUCKETS) {
+			// Fold the cheapest bucket into its neighbour, trading accuracy at the very bottom for bounded size
+			Map.Entry<Integer, Double> cheapest = this.buckets.pollFirstEntry();
+			this.buckets.merge(this.buckets.firstKey(), cheapest.getValue(), Double::sum);
+		}
+	}
+
+	/**
+	 * Estimates the price below which the given fraction of sales fall, such as <code>0.5</code> for the median.
+	 *
+	 * @param quantile The fraction of sales, between 0 and 1
+	 * @return The estimated price, or <code>NaN</code> if nothing has sold
+	 */
+	double quantile(double quantile) {
+		double total = 0;
+		for(double weight : this.buckets.values()) {
+			total += weight;
+		}
+
+		double rank = quantile * total;
+		double seen = 0;
+		for(Map.Entry<Integer, Double> bucket : this.buckets.entrySet()) {
+			seen += bucket.getValue();
+			if(seen >= rank) {
+				return value(bucket.getKey());
+			}
+		}
+
+		return this.buckets.isEmpty() ? Double.NaN : value(this.buckets.lastKey());
+	}
+
+	PriceSketch copy() {
+		PriceSketch copy = new PriceSketch();
+		copy.buckets = new TreeMap<>(this.buckets);
+		copy.landmark = this.landmark;
+		return copy;
+	}
+
+	/**
+	 * Moves the landmark up to the given time, scaling every weight down to match, and drops any bucket whose
+	 * weight has become too small to matter.
+	 */
+	private void rescale(long time, long halfLife) {
+		double scale = Math.pow(2, (double) (this.landmark - time) / halfLife);
+		Iterator<Map.Entry<Integer, Double>> iterator = this.buckets.entrySet().iterator();
+		while(iterator.hasNext()) {
+			Map.Entry<Integer, Double> bucket = iterator.next();
+			double weight = bucket.getValue() * scale;
+			if(weight < FORGOTTEN) {
+				iterator.remove();
+			} else {
+				bucket.setValue(weight);
+			}
+		}
+		this.landmark = time;
+	}
+
+	private static int index(double price) {
+		return (int) Math.ceil(Math.log(Math.max(price, MIN_PRICE)) / LOG_GAMMA);
+	}
+
+	/**
+	 * @return The price a bucket stands for, chosen such that it's within the accuracy of every price in the bucket
+	 */
+	private static double value(int index) {
+		return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+	}
+}
@@ -0,0 +1,55 @@
+package me.nickimpact.gts.pricing;
+
+/**
+ * The running aggregates of every sale made under a single price key. Each sale updates the aggregates in place,
+ * so reading them never means going back over past sales. This is saved as is by the {@link PriceHistory}.
+ */
+class PriceStats {
+
+	/** How far the average moves towards each new sale */
+	private static final double SMOOTHING = 0.1;
+
+	private long sales;
+	private double low = Double.MAX_VALUE;
+	private double high;
+	private double average;
+	private long lastSale;
+	private PriceSketch sketch = new PriceSketch();
+
+	/**
+	 * Records a sale.
+	 *
+	 * @param price The price of the sale, per unit
+	 * @param time The time of the sale, in epoch milliseconds
+	 * @param halfLife The time, in milliseconds, over which the weight of a sale towards the median halves
+	 */
+	synchronized void record(double price, long time, long halfLife) {
+		this.average = this.sales == 0 ? price : this.average + SMOOTHING * (price - this.average);
+		this.sales++;
+		this.low = Math.min(this.low, price);
+		this.high = Math.max(this.high, price);
+		this.lastSale = Math.max(this.lastSale, time);
+		this.sketch.add(price, time, halfLife);
+	}
+
+	synchronized long getSales() {
+		return this.sales;
+	}
+
+	synchronized PriceSummary summarise(String key) {
+		// The sketch only places the median to within a percent, which could otherwise land just outside the range
+		double median = Math.min(Math.max(this.sketch.quantile(0.5), this.low), this.high);
+		return new PriceSummary(key, this.sales, this.low, this.high, median, this.average, this.lastSale);
+	}
+
+	synchronized PriceStats copy() {
+		PriceStats copy = new PriceStats();
+		copy.sales = this.sales;
+		copy.low = this.low;
+		copy.high = this.high;
+		copy.average = this.average;
+		copy.lastSale = this.lastSale;
+		copy.sketch = this.sketch.copy();
+		return copy;
+	}
+}
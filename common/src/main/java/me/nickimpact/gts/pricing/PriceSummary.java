@@ -0,0 +1,34 @@
+package me.nickimpact.gts.pricing;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * What something has sold for, as of the time it was read from the {@link PriceHistory}. Every price is per
+ * unit, such as per item within a stack.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PriceSummary {
+
+	/** The price key these sales were made under, such as <code>pokemon/garchomp/shiny</code> */
+	private final String key;
+
+	/** The number of sales ever made */
+	private final long sales;
+
+	/** The lowest price ever sold for */
+	private final double low;
+
+	/** The highest price ever sold for */
+	private final double high;
+
+	/** The typical price, with recent sales counting for more than old ones */
+	private final double median;
+
+	/** The average price, weighted towards the latest sales */
+	private final double average;
+
+	/** The time of the latest sale, in epoch milliseconds */
+	private final long lastSale;
+}
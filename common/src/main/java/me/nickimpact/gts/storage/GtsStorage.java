@@ -29,15 +29,20 @@ import me.nickimpact.gts.api.listings.Listing;
 import me.nickimpact.gts.api.listings.SoldListing;
 import me.nickimpact.gts.api.plugin.IGTSPlugin;
 import me.nickimpact.gts.api.storage.IGtsStorage;
+import me.nickimpact.gts.api.storage.PurgeCandidate;
+import me.nickimpact.gts.api.storage.PurgeResult;
+import me.nickimpact.gts.api.storage.PurgeTarget;
 import me.nickimpact.gts.api.util.ThrowingRunnable;
 import me.nickimpact.gts.storage.implementation.StorageImplementation;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
 
 public class GtsStorage implements IGtsStorage {
 
@@ -147,7 +152,12 @@ public class GtsStorage implements IGtsStorage {
         return this.makeFuture(() -> this.implementation.deleteSoldListing(id, owner));
     }
 
-    public CompletableFuture<Boolean> purge() {
-        return this.makeFuture(this.implementation::purge);
+    @Override
+    public CompletableFuture<Boolean> deleteSoldListings(UUID owner, Collection<UUID> ids) {
+        return this.makeFuture(() -> this.implementation.deleteSoldListings(owner, ids));
+    }
+
+    public CompletableFuture<PurgeResult> purge(PurgeTarget target, String after, int limit, Predicate<PurgeCandidate> condemned) {
+        return this.makeFuture(() -> this.implementation.purge(target, after, limit, condemned));
     }
 }
@@ -31,6 +31,7 @@ import com.nickimpact.impactor.api.storage.sql.hikari.MariaDBConnectionFactory;
 import com.nickimpact.impactor.api.storage.sql.hikari.MySQLConnectionFactory;
 import me.nickimpact.gts.api.plugin.IGTSPlugin;
 import me.nickimpact.gts.config.ConfigKeys;
+import me.nickimpact.gts.storage.implementation.InstrumentedStorage;
 import me.nickimpact.gts.storage.implementation.StorageImplementation;
 import me.nickimpact.gts.storage.implementation.file.ConfigurateStorage;
 import me.nickimpact.gts.storage.implementation.file.loaders.HoconLoader;
@@ -63,7 +64,7 @@ public class StorageFactory {
     }
 
     private GtsStorage makeInstance(StorageType type) {
-        return new GtsStorage(this.plugin, createNewImplementation(type));
+        return new GtsStorage(this.plugin, new InstrumentedStorage(createNewImplementation(type), this.plugin.getAPIService().getMetrics()));
     }
 
     private StorageImplementation createNewImplementation(StorageType type) {
@@ -0,0 +1,128 @@
+package me.nickimpact.gts.storage.implementation;
+
+import me.nickimpact.gts.api.listings.Listing;
+import me.nickimpact.gts.api.listings.SoldListing;
+import me.nickimpact.gts.api.metrics.Metrics;
+import me.nickimpact.gts.api.plugin.IGTSPlugin;
+import me.nickimpact.gts.api.storage.PurgeCandidate;
+import me.nickimpact.gts.api.storage.PurgeResult;
+import me.nickimpact.gts.api.storage.PurgeTarget;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Wraps a storage implementation, timing each call under <code>storage.&lt;operation&gt;</code> and counting
+ * the calls which throw under <code>storage.&lt;operation&gt;.errors</code>. Failed calls are still timed, as
+ * a call that takes a long time to fail is as much of a problem as one that takes a long time to succeed.
+ */
+public class InstrumentedStorage implements StorageImplementation {
+
+    private final StorageImplementation delegate;
+    private final Metrics metrics;
+
+    public InstrumentedStorage(StorageImplementation delegate, Metrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    private <T> T time(String operation, Callable<T> call) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return call.call();
+        } catch (Exception e) {
+            this.metrics.counter("storage." + operation + ".errors").increment();
+            throw e;
+        } finally {
+            this.metrics.timer("storage." + operation).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public IGTSPlugin getPlugin() {
+        return this.delegate.getPlugin();
+    }
+
+    @Override
+    public String getName() {
+        return this.delegate.getName();
+    }
+
+    @Override
+    public void init() throws Exception {
+        this.time("init", () -> {
+            this.delegate.init();
+            return null;
+        });
+    }
+
+    @Override
+    public void shutdown() throws Exception {
+        this.delegate.shutdown();
+    }
+
+    @Override
+    public Map<String, String> getMeta() {
+        return this.delegate.getMeta();
+    }
+
+    @Override
+    public boolean addListing(Listing listing) throws Exception {
+        return this.time("add_listing", () -> this.delegate.addListing(listing));
+    }
+
+    @Override
+    public boolean deleteListing(UUID uuid) throws Exception {
+        return this.time("delete_listing", () -> this.delegate.deleteListing(uuid));
+    }
+
+    @Override
+    public List<Listing> getListings() throws Exception {
+        return this.time("get_listings", this.delegate::getListings);
+    }
+
+    @Override
+    public boolean addIgnorer(UUID uuid) throws Exception {
+        return this.time("add_ignorer", () -> this.delegate.addIgnorer(uuid));
+    }
+
+    @Override
+    public boolean removeIgnorer(UUID uuid) throws Exception {
+        return this.time("remove_ignorer", () -> this.delegate.removeIgnorer(uuid));
+    }
+
+    @Override
+    public List<UUID> getAllIgnorers() throws Exception {
+        return this.time("get_all_ignorers", this.delegate::getAllIgnorers);
+    }
+
+    @Override
+    public boolean addToSoldListings(UUID owner, SoldListing listing) throws Exception {
+        return this.time("add_sold_listing", () -> this.delegate.addToSoldListings(owner, listing));
+    }
+
+    @Override
+    public List<SoldListing> getAllSoldListingsForPlayer(UUID uuid) throws Exception {
+        return this.time("get_sold_listings", () -> this.delegate.getAllSoldListingsForPlayer(uuid));
+    }
+
+    @Override
+    public boolean deleteSoldListing(UUID id, UUID owner) throws Exception {
+        return this.time("delete_sold_listing", () -> this.delegate.deleteSoldListing(id, owner));
+    }
+
+    @Override
+    public boolean deleteSoldListings(UUID owner, Collection<UUID> ids) throws Exception {
+        return this.time("delete_sold_listings", () -> this.delegate.deleteSoldListings(owner, ids));
+    }
+
+    @Override
+    public PurgeResult purge(PurgeTarget target, String after, int limit, Predicate<PurgeCandidate> condemned) throws Exception {
+        return this.time("purge", () -> this.delegate.purge(target, after, limit, condemned));
+    }
+}
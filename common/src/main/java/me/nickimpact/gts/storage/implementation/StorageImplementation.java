@@ -28,11 +28,16 @@ package me.nickimpact.gts.storage.implementation;
 import me.nickimpact.gts.api.listings.Listing;
 import me.nickimpact.gts.api.listings.SoldListing;
 import me.nickimpact.gts.api.plugin.IGTSPlugin;
+import me.nickimpact.gts.api.storage.PurgeCandidate;
+import me.nickimpact.gts.api.storage.PurgeResult;
+import me.nickimpact.gts.api.storage.PurgeTarget;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 /**
  * Represents the basis to an implementation focused on saving and
@@ -88,5 +93,18 @@ public interface StorageImplementation {
 
     boolean deleteSoldListing(UUID id, UUID owner) throws Exception;
 
-    boolean purge() throws Exception;
+    boolean deleteSoldListings(UUID owner, Collection<UUID> ids) throws Exception;
+
+    /**
+     * Deletes the records of one kind which the given rule condemns, reading
+     * no more than a single chunk of them, in order of their key.
+     *
+     * @param target The kind of record to purge
+     * @param after The key to start after, or null to start at the first record
+     * @param limit The most records to read
+     * @param condemned The rule deciding which of the records read are deleted
+     * @return How many records were read and deleted, and where the next chunk starts
+     * @throws Exception if the records could not be read or deleted
+     */
+    PurgeResult purge(PurgeTarget target, String after, int limit, Predicate<PurgeCandidate> condemned) throws Exception;
 }
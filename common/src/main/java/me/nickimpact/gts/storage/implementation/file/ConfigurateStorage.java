@@ -29,6 +29,9 @@ import com.google.common.base.Throwables;
 import me.nickimpact.gts.api.listings.Listing;
 import me.nickimpact.gts.api.listings.SoldListing;
 import me.nickimpact.gts.api.plugin.IGTSPlugin;
+import me.nickimpact.gts.api.storage.PurgeCandidate;
+import me.nickimpact.gts.api.storage.PurgeResult;
+import me.nickimpact.gts.api.storage.PurgeTarget;
 import me.nickimpact.gts.storage.implementation.StorageImplementation;
 import me.nickimpact.gts.storage.implementation.file.loaders.ConfigurateLoader;
 import ninja.leaping.configurate.ConfigurationNode;
@@ -36,8 +39,10 @@ import ninja.leaping.configurate.ConfigurationNode;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 public class ConfigurateStorage implements StorageImplementation {
 
@@ -150,10 +155,16 @@ public class ConfigurateStorage implements StorageImplementation {
     }
 
     @Override
-    public boolean purge() throws Exception {
+    public boolean deleteSoldListings(UUID owner, Collection<UUID> ids) throws Exception {
         return false;
     }
 
+    @Override
+    public PurgeResult purge(PurgeTarget target, String after, int limit, Predicate<PurgeCandidate> condemned) throws Exception {
+        // Nothing is kept by flat file storage as of yet, so there's never anything to purge
+        return new PurgeResult(0, 0, null);
+    }
+
     private ConfigurationNode readFile(String name) throws IOException {
         Path file = this.userDir.resolve(name + this.extension);
         if(this.userWatcher != null) {
@@ -36,6 +36,9 @@ import me.nickimpact.gts.api.listings.Listing;
 import me.nickimpact.gts.api.listings.SoldListing;
 import me.nickimpact.gts.api.listings.entries.Entry;
 import me.nickimpact.gts.api.plugin.IGTSPlugin;
+import me.nickimpact.gts.api.storage.PurgeCandidate;
+import me.nickimpact.gts.api.storage.PurgeResult;
+import me.nickimpact.gts.api.storage.PurgeTarget;
 import me.nickimpact.gts.config.ConfigKeys;
 import me.nickimpact.gts.storage.implementation.StorageImplementation;
 import org.spongepowered.api.Sponge;
@@ -47,11 +50,14 @@ import java.nio.charset.StandardCharsets;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 public class SqlImplementation implements StorageImplementation {
@@ -63,9 +69,14 @@ public class SqlImplementation implements StorageImplementation {
 	private static final String REMOVE_IGNORER = "DELETE FROM `{prefix}ignorers` WHERE UUID=?";
 	private static final String GET_IGNORERS = "SELECT * FROM `{prefix}ignorers`";
 
-	private static final String ADD_SOLD_LISTING = "INSERT INTO `{prefix}sold` VALUES (?, ?, ?, ?)";
-	private static final String GET_SOLD_LISTINGS = "SELECT name, price FROM `{prefix}sold` WHERE owner = ?";
+	private static final String ADD_SOLD_LISTING = "INSERT INTO `{prefix}sold` (id, owner, name, price, sold_at) VALUES (?, ?, ?, ?, ?)";
+	private static final String GET_SOLD_LISTINGS = "SELECT id, name, price FROM `{prefix}sold` WHERE owner = ?";
 	private static final String REMOVE_SOLD_LISTING = "DELETE FROM `{prefix}sold` WHERE id = ? AND owner = ?";
+	private static final String ADD_SOLD_TIME = "ALTER TABLE `{prefix}sold` ADD COLUMN sold_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP";
+
+	private static final String PURGE_SOLD_CHUNK = "SELECT id, owner, sold_at FROM `{prefix}sold` WHERE id > ? ORDER BY id LIMIT ?";
+	private static final String PURGE_SOLD_LISTING = "DELETE FROM `{prefix}sold` WHERE id = ?";
+	private static final String PURGE_IGNORERS_CHUNK = "SELECT uuid FROM `{prefix}ignorers` WHERE uuid > ? ORDER BY uuid LIMIT ?";
 
 	@Deprecated
 	private static final String FETCH_OLD = "SELECT * FROM {prefix}listings_v2";
@@ -142,6 +153,17 @@ public class SqlImplementation implements StorageImplementation {
 				}
 			}
 		}
+
+		// Sold records made before they were given a time are counted from the time the column is added, as
+		// how long ago they were really made is unknown
+		String sold = this.processor.apply("{prefix}sold");
+		if(this.tableExists(sold) && !this.columnExists(sold, "sold_at")) {
+			this.plugin.getPluginLogger().info("Adding sale times to sold listing records...");
+			this.query(ADD_SOLD_TIME, (connection, ps) -> {
+				ps.executeUpdate();
+				return null;
+			});
+		}
 	}
 
 	@Override
@@ -339,6 +361,7 @@ public class SqlImplementation implements StorageImplementation {
 			ps.setString(2, owner.toString());
 			ps.setString(3, listing.getNameOfEntry());
 			ps.setDouble(4, listing.getMoneyReceived());
+			ps.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
 			ps.executeUpdate();
 
 			return true;
@@ -372,8 +395,64 @@ public class SqlImplementation implements StorageImplementation {
 	}
 
 	@Override
-	public boolean purge() throws Exception {
-		return false;
+	public boolean deleteSoldListings(UUID owner, Collection<UUID> ids) throws Exception {
+		if(ids.isEmpty()) {
+			return true;
+		}
+
+		return this.query(REMOVE_SOLD_LISTING, (connection, ps) -> {
+			for(UUID id : ids) {
+				ps.setString(1, id.toString());
+				ps.setString(2, owner.toString());
+				ps.addBatch();
+			}
+			ps.executeBatch();
+
+			return true;
+		});
+	}
+
+	@Override
+	public PurgeResult purge(PurgeTarget target, String after, int limit, Predicate<PurgeCandidate> condemned) throws Exception {
+		boolean sold = target == PurgeTarget.SOLD;
+		List<PurgeCandidate> chunk = this.query(sold ? PURGE_SOLD_CHUNK : PURGE_IGNORERS_CHUNK, (connection, ps) -> {
+			// Every key is a UUID, so each one sorts after the empty string
+			ps.setString(1, after != null ? after : "");
+			ps.setInt(2, limit);
+			return this.results(ps, rs -> {
+				List<PurgeCandidate> candidates = Lists.newArrayList();
+				while(rs.next()) {
+					if(sold) {
+						Timestamp time = rs.getTimestamp("sold_at");
+						candidates.add(new PurgeCandidate(rs.getString("id"), UUID.fromString(rs.getString("owner")), time != null ? time.toInstant() : null));
+					} else {
+						candidates.add(new PurgeCandidate(rs.getString("uuid"), UUID.fromString(rs.getString("uuid")), null));
+					}
+				}
+				return candidates;
+			});
+		});
+
+		// Rules are judged here rather than within the query, so each delete only ever touches rows by their key
+		List<String> keys = Lists.newArrayList();
+		for(PurgeCandidate candidate : chunk) {
+			if(condemned.test(candidate)) {
+				keys.add(candidate.getKey());
+			}
+		}
+
+		if(!keys.isEmpty()) {
+			this.query(sold ? PURGE_SOLD_LISTING : REMOVE_IGNORER, (connection, ps) -> {
+				for(String key : keys) {
+					ps.setString(1, key);
+					ps.addBatch();
+				}
+				ps.executeBatch();
+				return null;
+			});
+		}
+
+		return new PurgeResult(chunk.size(), keys.size(), chunk.size() < limit ? null : chunk.get(chunk.size() - 1).getKey());
 	}
 
 	private boolean tableExists(String table) throws SQLException {
@@ -389,6 +468,22 @@ public class SqlImplementation implements StorageImplementation {
 		}
 	}
 
+	private boolean columnExists(String table, String column) throws SQLException {
+		try (Connection connection = this.connectionFactory.getConnection()) {
+			// Only the one table's columns are read, in the case the database stores unquoted names in
+			DatabaseMetaData meta = connection.getMetaData();
+			String pattern = meta.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : meta.storesLowerCaseIdentifiers() ? table.toLowerCase(Locale.ROOT) : table;
+			try (ResultSet rs = meta.getColumns(connection.getCatalog(), null, pattern, null)) {
+				while (rs.next()) {
+					if (rs.getString(3).equalsIgnoreCase(table) && rs.getString(4).equalsIgnoreCase(column)) {
+						return true;
+					}
+				}
+				return false;
+			}
+		}
+	}
+
 	@Deprecated
 	private boolean transfer(List<Listing> listings) {
 		AtomicBoolean result = new AtomicBoolean(true);
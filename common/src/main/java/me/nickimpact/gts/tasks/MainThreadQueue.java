@@ -0,0 +1,147 @@
+package me.nickimpact.gts.tasks;
+
+import me.nickimpact.gts.api.plugin.IGTSPlugin;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A queue of work that must run on the server thread, but doesn't need to run right away. Every tick, queued
+ * work is drained until the configured time budget is spent, with anything left over carried into the next tick.
+ * This keeps a burst of activity, such as a wave of expirations, from costing a single tick hundreds of milliseconds.
+ *
+ * <p>The platform is responsible for calling {@link #tick()} once per server tick.</p>
+ */
+public class MainThreadQueue {
+
+	private static final long REPORT_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
+	private final IGTSPlugin plugin;
+	private final Supplier<Double> budget;
+	private final TickTimings timings;
+
+	private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger depth = new AtomicInteger();
+
+	private volatile int peakDepth;
+	private volatile long overruns;
+	private volatile long deferrals;
+	private volatile long executed;
+
+	private long overrunsSinceReport;
+	private long lastReport = System.nanoTime();
+
+	/**
+	 * @param plugin The plugin owning this queue
+	 * @param budget Supplies the amount of time, in milliseconds, queued work may consume each tick
+	 * @param timings The timings queued work is accounted against
+	 */
+	public MainThreadQueue(IGTSPlugin plugin, Supplier<Double> budget, TickTimings timings) {
+		this.plugin = plugin;
+		this.budget = budget;
+		this.timings = timings;
+	}
+
+	/**
+	 * Queues a task to be run on the server thread within an upcoming tick's budget. This may be called
+	 * from any thread.
+	 *
+	 * @param task The task to run
+	 */
+	public void submit(Runnable task) {
+		this.submit(TickTimings.Source.QUEUE, task);
+	}
+
+	/**
+	 * Queues a task as with {@link #submit(Runnable)}, accounting the time it takes against the given source.
+	 *
+	 * @param source The source of the work
+	 * @param task The task to run
+	 */
+	public void submit(TickTimings.Source source, Runnable task) {
+		this.queue.add(() -> this.timings.time(source, task));
+		int current = this.depth.incrementAndGet();
+		if(current > this.peakDepth) {
+			this.peakDepth = current;
+		}
+	}
+
+	/**
+	 * Runs queued work until either the queue is empty or this tick's budget has been spent. At least one task
+	 * is always run, so the queue makes progress even when the budget is misconfigured.
+	 */
+	public void tick() {
+		long start = System.nanoTime();
+		long deadline = start + (long) (this.budget.get() * TimeUnit.MILLISECONDS.toNanos(1));
+
+		Runnable task;
+		long now = start;
+		while((task = this.queue.poll()) != null) {
+			this.depth.decrementAndGet();
+			try {
+				task.run();
+			} catch (Exception e) {
+				this.plugin.getPluginLogger().error("A queued GTS task failed to complete, a stacktrace is available below:");
+				e.printStackTrace();
+			}
+			this.executed++;
+
+			now = System.nanoTime();
+			if(now - deadline >= 0) {
+				break;
+			}
+		}
+
+		if(now - deadline > 0) {
+			this.overruns++;
+			this.overrunsSinceReport++;
+		}
+
+		if(!this.queue.isEmpty()) {
+			this.deferrals++;
+		}
+
+		this.report(now);
+	}
+
+	public int getQueueDepth() {
+		return this.depth.get();
+	}
+
+	public int getPeakQueueDepth() {
+		return this.peakDepth;
+	}
+
+	/** The number of ticks in which queued work ran past the budget */
+	public long getOverruns() {
+		return this.overruns;
+	}
+
+	/** The number of ticks which ended with work left in the queue */
+	public long getDeferrals() {
+		return this.deferrals;
+	}
+
+	public long getExecuted() {
+		return this.executed;
+	}
+
+	private void report(long now) {
+		if(now - this.lastReport < REPORT_INTERVAL) {
+			return;
+		}
+
+		if(this.overrunsSinceReport > 0) {
+			this.plugin.getPluginLogger().warn(String.format(
+					"Queued work exceeded the %.2fms tick budget %d time(s) within the last minute (queue depth: %d, peak: %d)",
+					this.budget.get(), this.overrunsSinceReport, this.getQueueDepth(), this.peakDepth
+			));
+		}
+
+		this.overrunsSinceReport = 0;
+		this.lastReport = now;
+	}
+}
@@ -0,0 +1,296 @@
+package me.nickimpact.gts.tasks;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import me.nickimpact.gts.api.plugin.IGTSPlugin;
+import me.nickimpact.gts.api.storage.PurgeCandidate;
+import me.nickimpact.gts.api.storage.PurgeResult;
+import me.nickimpact.gts.api.storage.PurgeTarget;
+import me.nickimpact.gts.config.ConfigKeys;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Purges storage of the records which are no longer of use, a small chunk at a time, in the background.
+ *
+ * <p>Sold listing records are kept until their seller rejoins to be told of them, and ignorers until they choose
+ * to see new listings again, so a player who never returns leaves both behind for good. Each pass walks every
+ * record in order of its key, deleting sold records older than the configured age, along with the sold records
+ * and ignore setting of any player who hasn't played within the configured time. Chunks are spaced out such that
+ * no more than the configured number of records are read each second, so even a pass over millions of records
+ * only ever holds storage up for the length of a single small chunk.</p>
+ *
+ * <p>Players are looked up on the given executor, as platforms often only allow their user data to be read on
+ * the main thread. Records of owners not yet looked up are left alone as a chunk is first scanned, and once the
+ * new owners of that chunk have been looked up in a single batch, the chunk is scanned again.</p>
+ */
+public class RetentionTask {
+
+	/** How long after startup the first pass runs, leaving the server time to settle */
+	private static final long STARTUP_DELAY = 15;
+
+	private final IGTSPlugin plugin;
+	private final Function<UUID, Optional<Instant>> lastSeen;
+	private final Executor lookups;
+
+	private ScheduledFuture<?> task;
+	private ScheduledFuture<?> chunk;
+	private Pass pass;
+
+	/**
+	 * @param plugin The plugin whose storage is purged
+	 * @param lastSeen Looks up when a player last played, being now for those online, or empty if they never have
+	 * @param lookups The executor players are looked up on, such as the main thread
+	 */
+	public RetentionTask(IGTSPlugin plugin, Function<UUID, Optional<Instant>> lastSeen, Executor lookups) {
+		this.plugin = plugin;
+		this.lastSeen = lastSeen;
+		this.lookups = lookups;
+	}
+
+	/**
+	 * Schedules passes according to the current config, replacing any previous schedule. A pass already under
+	 * way runs to its end with the config it started with. Intended to be called on startup and again after each
+	 * reload.
+	 */
+	public synchronized void schedule() {
+		if(this.task != null) {
+			this.task.cancel(false);
+			this.task = null;
+		}
+
+		if(!this.plugin.getConfiguration().get(ConfigKeys.RETENTION_ENABLED)) {
+			return;
+		}
+
+		long interval = TimeUnit.HOURS.toMinutes(Math.max(1, this.plugin.getConfiguration().get(ConfigKeys.RETENTION_INTERVAL)));
+		this.task = this.plugin.getAsyncExecutor().scheduleAtFixedRate(this::start, Math.min(STARTUP_DELAY, interval), interval, TimeUnit.MINUTES);
+	}
+
+	/**
+	 * Starts a pass right away, unless one is already under way.
+	 *
+	 * @return <code>true</code> if a pass was started, <code>false</code> if one was already under way or there's
+	 * nothing the config allows to be purged
+	 */
+	public synchronized boolean start() {
+		if(this.pass != null) {
+			return false;
+		}
+
+		Pass pass = new Pass();
+		if(pass.targets.isEmpty()) {
+			return false;
+		}
+
+		this.pass = pass;
+		this.plugin.getAsyncExecutor().execute(() -> this.step(pass));
+		return true;
+	}
+
+	/**
+	 * @return Whether a pass is under way
+	 */
+	public synchronized boolean isRunning() {
+		return this.pass != null;
+	}
+
+	/**
+	 * Stops scheduling passes, abandoning any pass under way once its current chunk is done.
+	 */
+	public synchronized void close() {
+		if(this.task != null) {
+			this.task.cancel(false);
+			this.task = null;
+		}
+
+		if(this.chunk != null) {
+			this.chunk.cancel(false);
+			this.chunk = null;
+		}
+
+		this.pass = null;
+	}
+
+	private void step(Pass pass) {
+		PurgeTarget target = pass.targets.get(pass.target);
+		List<UUID> condemned = Lists.newArrayList();
+		Predicate<PurgeCandidate> rule = pass.rule(target);
+		if(target == PurgeTarget.IGNORERS) {
+			// Purged ignorers are noted so they can be dropped from the market too, once storage has deleted them
+			rule = rule.and(candidate -> condemned.add(candidate.getOwner()));
+		}
+
+		this.plugin.getAPIService().getStorage().purge(target, pass.after, pass.size, rule).whenComplete((result, throwable) -> {
+			if(throwable != null) {
+				this.plugin.getPluginLogger().error("Unable to purge storage, will try again next pass: " + throwable.getMessage());
+				this.finish(pass);
+				return;
+			}
+
+			if(target == PurgeTarget.IGNORERS) {
+				this.plugin.getAPIService().getListingManager().getIgnorers().removeAll(condemned);
+			}
+
+			Set<UUID> unknown = pass.takeUnknown();
+			pass.record(target, result, unknown.isEmpty());
+			if(!unknown.isEmpty()) {
+				// Look up the chunk's new owners, then scan it again now they're known
+				CompletableFuture.supplyAsync(() -> pass.lookup(unknown), this.lookups).whenComplete((inactive, error) -> {
+					if(error != null) {
+						this.plugin.getPluginLogger().error("Unable to look up players for purging, will try again next pass: " + error.getMessage());
+						this.finish(pass);
+						return;
+					}
+
+					pass.inactive.putAll(inactive);
+					this.next(pass, result.getScanned());
+				});
+				return;
+			}
+
+			Optional<String> next = result.getNext();
+			if(next.isPresent()) {
+				pass.after = next.get();
+			} else if(++pass.target < pass.targets.size()) {
+				pass.after = null;
+			} else {
+				this.finish(pass);
+				return;
+			}
+
+			this.next(pass, result.getScanned());
+		});
+	}
+
+	private synchronized void next(Pass pass, int scanned) {
+		if(this.pass == pass) {
+			long delay = TimeUnit.SECONDS.toMillis(scanned) / pass.rate;
+			this.chunk = this.plugin.getAsyncExecutor().schedule(() -> this.step(pass), delay, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private synchronized void finish(Pass pass) {
+		if(this.pass != pass) {
+			return;
+		}
+
+		this.pass = null;
+		this.chunk = null;
+		this.plugin.getPluginLogger().info(String.format(
+				"Purged %d of %d sold listing records and %d of %d ignorers in %ds",
+				pass.deleted.getOrDefault(PurgeTarget.SOLD, 0L),
+				pass.scanned.getOrDefault(PurgeTarget.SOLD, 0L),
+				pass.deleted.getOrDefault(PurgeTarget.IGNORERS, 0L),
+				pass.scanned.getOrDefault(PurgeTarget.IGNORERS, 0L),
+				Duration.between(pass.started, Instant.now()).getSeconds()
+		));
+	}
+
+	/**
+	 * A single walk over storage, along with the config it was started with. Each chunk of a pass follows on from
+	 * the one before, so its state is only ever touched by one thread at a time.
+	 */
+	private class Pass {
+
+		private final Instant started = Instant.now();
+		private final int size = Math.max(1, plugin.getConfiguration().get(ConfigKeys.RETENTION_CHUNK_SIZE));
+		private final int rate = Math.max(1, plugin.getConfiguration().get(ConfigKeys.RETENTION_RATE));
+		private final Instant soldCutoff = cutoff(plugin.getConfiguration().get(ConfigKeys.RETENTION_SOLD_AGE));
+		private final Instant seenCutoff = cutoff(plugin.getConfiguration().get(ConfigKeys.RETENTION_INACTIVE_DAYS));
+		private final List<PurgeTarget> targets = Lists.newArrayList();
+
+		/** Whether each owner seen so far is inactive, as a seller often has many sold records */
+		private final Map<UUID, Boolean> inactive = Maps.newConcurrentMap();
+		/** The owners met within the current chunk which have yet to be looked up */
+		private Set<UUID> unknown = Sets.newHashSet();
+
+		private final Map<PurgeTarget, Long> scanned = Maps.newEnumMap(PurgeTarget.class);
+		private final Map<PurgeTarget, Long> deleted = Maps.newEnumMap(PurgeTarget.class);
+
+		private int target;
+		private String after;
+
+		private Pass() {
+			if(this.soldCutoff != null || this.seenCutoff != null) {
+				this.targets.add(PurgeTarget.SOLD);
+			}
+			if(this.seenCutoff != null) {
+				this.targets.add(PurgeTarget.IGNORERS);
+			}
+		}
+
+		private Predicate<PurgeCandidate> rule(PurgeTarget target) {
+			if(target == PurgeTarget.SOLD) {
+				return candidate -> (this.soldCutoff != null && candidate.getTime().map(time -> time.isBefore(this.soldCutoff)).orElse(false))
+						|| this.isInactive(candidate.getOwner());
+			}
+
+			return candidate -> this.isInactive(candidate.getOwner());
+		}
+
+		private boolean isInactive(UUID owner) {
+			if(this.seenCutoff == null) {
+				return false;
+			}
+
+			Boolean inactive = this.inactive.get(owner);
+			if(inactive == null) {
+				this.unknown.add(owner);
+				return false;
+			}
+
+			return inactive;
+		}
+
+		private Set<UUID> takeUnknown() {
+			Set<UUID> unknown = this.unknown;
+			this.unknown = Sets.newHashSet();
+			return unknown;
+		}
+
+		/**
+		 * Decides whether each of the given owners is inactive. This runs on the lookup executor.
+		 */
+		private Map<UUID, Boolean> lookup(Set<UUID> owners) {
+			Map<UUID, Boolean> inactive = Maps.newHashMap();
+			for(UUID owner : owners) {
+				try {
+					// A player with nothing known of them has never played here, so their records are orphaned
+					inactive.put(owner, lastSeen.apply(owner).map(time -> time.isBefore(this.seenCutoff)).orElse(true));
+				} catch (RuntimeException e) {
+					// Keep the records of anyone who can't be looked up, rather than risk purging an active player
+					inactive.put(owner, false);
+				}
+			}
+
+			return inactive;
+		}
+
+		/**
+		 * @param complete Whether the chunk is done with, rather than to be scanned again. Records kept by a chunk
+		 *                 which is to be scanned again are left to be counted by that scan, so none count twice
+		 */
+		private void record(PurgeTarget target, PurgeResult result, boolean complete) {
+			this.scanned.merge(target, (long) (complete ? result.getScanned() : result.getDeleted()), Long::sum);
+			this.deleted.merge(target, (long) result.getDeleted(), Long::sum);
+		}
+
+		private Instant cutoff(int days) {
+			return days > 0 ? this.started.minus(Duration.ofDays(days)) : null;
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package me.nickimpact.gts.tasks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import me.nickimpact.gts.api.listings.Listing;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds expired listings that could not be returned to their owner at the time they expired, typically
+ * because the owner was offline and the entry cannot be delivered to an offline player. Listings parked
+ * here are no longer part of the market, and as such are no longer inspected by the expiration task.
+ * Instead, they wait here until their owner next joins, at which point the owner's mailbox is drained in one go.
+ *
+ * <p>A parked listing is never deleted from storage until it has been delivered, so after a restart the
+ * expiration task simply parks it here again on its first pass.</p>
+ *
+ * @param <T> The type of listing held by this mailbox
+ */
+public class ReturnMailbox<T extends Listing> {
+
+	private final Map<UUID, List<T>> returns = new ConcurrentHashMap<>();
+
+	public void post(T listing) {
+		this.returns.compute(listing.getOwnerUUID(), (owner, existing) -> {
+			List<T> result = existing != null ? existing : Lists.newArrayList();
+			result.add(listing);
+			return result;
+		});
+	}
+
+	/**
+	 * Removes and returns every listing currently awaiting the specified owner.
+	 *
+	 * @param owner The UUID of the owner
+	 * @return Every listing awaiting return to the owner, or an empty list if there are none
+	 */
+	public List<T> drain(UUID owner) {
+		List<T> result = this.returns.remove(owner);
+		return result != null ? ImmutableList.copyOf(result) : ImmutableList.of();
+	}
+
+	public boolean hasReturns(UUID owner) {
+		return this.returns.containsKey(owner);
+	}
+
+	public int size() {
+		return this.returns.values().stream().mapToInt(List::size).sum();
+	}
+}
@@ -0,0 +1,206 @@
+package me.nickimpact.gts.tasks;
+
+import me.nickimpact.gts.api.metrics.Metrics;
+import me.nickimpact.gts.api.plugin.IGTSPlugin;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Accounts for the time GTS spends on the server thread, tick by tick, broken down by where the work came from.
+ * Server profilers tend to lump GTS in with every other scheduled task, so this is the only place its share of a
+ * tick can be read directly.
+ *
+ * <p>The last {@link #WINDOW} ticks are kept, so averages cover roughly the last minute. Should GTS take more than
+ * the configured share of a tick, the overrun is counted and reported once a minute along with the breakdown of the
+ * worst tick, in the same manner as the {@link MainThreadQueue}.</p>
+ *
+ * <p>Timings are expected to be made from the server thread. Work timed while other timed work is running, such
+ * as a UI opened by a command, is attributed to the outermost source only, so nothing is counted twice.</p>
+ */
+public class TickTimings {
+
+	/** The number of ticks timings are kept for */
+	public static final int WINDOW = 1200;
+
+	private static final long TICK = TimeUnit.MILLISECONDS.toNanos(50);
+	private static final long REPORT_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
+	public enum Source {
+		EXPIRY,
+		UI,
+		COMMANDS,
+		JOIN,
+		BROADCASTS,
+		QUEUE;
+
+		public String getName() {
+			return this.name().toLowerCase(Locale.ROOT);
+		}
+	}
+
+	private static final Source[] SOURCES = Source.values();
+
+	private final IGTSPlugin plugin;
+	private final Supplier<Double> share;
+
+	private final AtomicLongArray current = new AtomicLongArray(SOURCES.length);
+	private final long[][] history = new long[WINDOW][SOURCES.length];
+	private final long[] sums = new long[SOURCES.length];
+	private int slot;
+	private int filled;
+	private int depth;
+
+	private long peak;
+	private long exceededSinceReport;
+	private long worstSinceReport;
+	private long[] worstBreakdown = new long[SOURCES.length];
+	private long lastReport = System.nanoTime();
+
+	/**
+	 * @param plugin The plugin owning these timings
+	 * @param share Supplies the percentage of a tick GTS may use before an overrun is counted, or 0 to never warn
+	 */
+	public TickTimings(IGTSPlugin plugin, Supplier<Double> share) {
+		this.plugin = plugin;
+		this.share = share;
+	}
+
+	public void record(Source source, long nanos) {
+		this.current.addAndGet(source.ordinal(), nanos);
+	}
+
+	/**
+	 * Runs the given work, counting the time it takes against the given source for the current tick.
+	 */
+	public <T> T time(Source source, Supplier<T> work) {
+		if(this.depth > 0) {
+			return work.get();
+		}
+
+		this.depth++;
+		long start = System.nanoTime();
+		try {
+			return work.get();
+		} finally {
+			this.depth--;
+			this.record(source, System.nanoTime() - start);
+		}
+	}
+
+	public void time(Source source, Runnable work) {
+		this.time(source, () -> {
+			work.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Wraps a callback, such as the click listener of a UI icon, so its time is counted against the given source.
+	 */
+	public <T> Consumer<T> wrap(Source source, Consumer<T> callback) {
+		return value -> this.time(source, () -> callback.accept(value));
+	}
+
+	/**
+	 * Closes off the current tick, moving its timings into the window. The platform is responsible for calling
+	 * this once per server tick.
+	 */
+	public synchronized void rollover() {
+		long[] row = this.history[this.slot];
+		long total = 0;
+		for(int i = 0; i < SOURCES.length; i++) {
+			long nanos = this.current.getAndSet(i, 0);
+			this.sums[i] += nanos - row[i];
+			row[i] = nanos;
+			total += nanos;
+		}
+
+		this.slot = (this.slot + 1) % WINDOW;
+		this.filled = Math.min(WINDOW, this.filled + 1);
+		this.peak = Math.max(this.peak, total);
+
+		double share = this.share.get();
+		if(share > 0 && total > TICK * share / 100) {
+			this.exceededSinceReport++;
+			if(total > this.worstSinceReport) {
+				this.worstSinceReport = total;
+				this.worstBreakdown = row.clone();
+			}
+		}
+
+		this.report(System.nanoTime(), share);
+	}
+
+	/**
+	 * Averages the time the given source took per tick across the window.
+	 *
+	 * @return The average, in milliseconds
+	 */
+	public synchronized double getAverage(Source source) {
+		return this.filled == 0 ? 0 : millis(this.sums[source.ordinal()]) / this.filled;
+	}
+
+	/**
+	 * Averages the total time GTS took per tick across the window.
+	 *
+	 * @return The average, in milliseconds
+	 */
+	public synchronized double getAverage() {
+		long total = 0;
+		for(long sum : this.sums) {
+			total += sum;
+		}
+		return this.filled == 0 ? 0 : millis(total) / this.filled;
+	}
+
+	/**
+	 * @return The most time, in milliseconds, GTS has taken within a single tick since startup
+	 */
+	public synchronized double getPeak() {
+		return millis(this.peak);
+	}
+
+	/**
+	 * Exposes the averages through the given metrics, as <code>tick.&lt;source&gt;.avg_ms</code>.
+	 */
+	public void register(Metrics metrics) {
+		for(Source source : SOURCES) {
+			metrics.gauge("tick." + source.getName() + ".avg_ms", () -> this.getAverage(source));
+		}
+		metrics.gauge("tick.total.avg_ms", this::getAverage);
+		metrics.gauge("tick.total.peak_ms", this::getPeak);
+	}
+
+	private void report(long now, double share) {
+		if(now - this.lastReport < REPORT_INTERVAL) {
+			return;
+		}
+
+		if(this.exceededSinceReport > 0) {
+			StringJoiner breakdown = new StringJoiner(", ");
+			for(Source source : SOURCES) {
+				if(this.worstBreakdown[source.ordinal()] > 0) {
+					breakdown.add(String.format("%s %.2fms", source.getName(), millis(this.worstBreakdown[source.ordinal()])));
+				}
+			}
+
+			this.plugin.getPluginLogger().warn(String.format(
+					"GTS used more than %.1f%% of a tick %d time(s) within the last minute, the worst taking %.2fms (%s)",
+					share, this.exceededSinceReport, millis(this.worstSinceReport), breakdown
+			));
+		}
+
+		this.exceededSinceReport = 0;
+		this.worstSinceReport = 0;
+		this.lastReport = now;
+	}
+
+	private static double millis(long nanos) {
+		return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+}
@@ -0,0 +1,36 @@
+package me.nickimpact.gts.utils;
+
+import com.nickimpact.impactor.api.logging.Logger;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+public class Blacklists {
+
+	/**
+	 * Resolves a list of names from config into a set of enum constants, such as pokemon species. Names which
+	 * can't be resolved are reported and skipped.
+	 *
+	 * @param type The enum class the names belong to
+	 * @param names The names to resolve
+	 * @param resolver Resolves a name to its constant, returning null if there is no such constant
+	 * @param logger The logger to report unresolved names to
+	 * @return An unmodifiable set of the resolved constants
+	 */
+	public static <E extends Enum<E>> Set<E> compile(Class<E> type, List<String> names, Function<String, E> resolver, Logger logger) {
+		EnumSet<E> result = EnumSet.noneOf(type);
+		for(String name : names) {
+			E value = resolver.apply(name);
+			if(value != null) {
+				result.add(value);
+			} else {
+				logger.warn("Ignoring unknown blacklist entry: " + name);
+			}
+		}
+
+		return Collections.unmodifiableSet(result);
+	}
+}
@@ -0,0 +1,117 @@
+package me.nickimpact.gts.utils;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread-safe set of per-player cooldowns. An entry only lives for as long as its cooldown does. Expired
+ * entries are dropped as they're looked up, and a sweep of the whole map runs at most once per sweep
+ * interval, piggybacking on regular use so no scheduler is needed. A player who never returns is
+ * therefore forgotten shortly after their cooldown ends.
+ */
+public class Cooldowns {
+
+	private static final long DEFAULT_SWEEP_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
+	/** Maps a player to the {@link System#nanoTime()} at which their cooldown ends */
+	private final Map<UUID, Long> deadlines = new ConcurrentHashMap<>();
+
+	private final long sweepInterval;
+	private final AtomicLong nextSweep;
+
+	public Cooldowns() {
+		this(DEFAULT_SWEEP_INTERVAL, TimeUnit.NANOSECONDS);
+	}
+
+	public Cooldowns(long sweepInterval, TimeUnit unit) {
+		this.sweepInterval = unit.toNanos(sweepInterval);
+		this.nextSweep = new AtomicLong(System.nanoTime() + this.sweepInterval);
+	}
+
+	/**
+	 * Places the given player on cooldown for the specified amount of time, replacing any cooldown they
+	 * may already have.
+	 *
+	 * @param uuid The UUID of the player
+	 * @param duration How long the cooldown should last
+	 * @param unit The unit of the duration
+	 */
+	public void start(UUID uuid, long duration, TimeUnit unit) {
+		long now = System.nanoTime();
+		this.deadlines.put(uuid, now + unit.toNanos(duration));
+		this.sweep(now);
+	}
+
+	/**
+	 * Places the given player on cooldown only if they aren't already on one. The check and the update happen
+	 * atomically, which makes this suitable for throttling actions that may be fired concurrently.
+	 *
+	 * @param uuid The UUID of the player
+	 * @param duration How long the cooldown should last
+	 * @param unit The unit of the duration
+	 * @return <code>true</code> if the player was free to act and is now on cooldown, <code>false</code> if they
+	 * were already cooling down
+	 */
+	public boolean tryAcquire(UUID uuid, long duration, TimeUnit unit) {
+		long now = System.nanoTime();
+		long deadline = now + unit.toNanos(duration);
+		boolean[] acquired = new boolean[1];
+		this.deadlines.compute(uuid, (key, current) -> {
+			if(current != null && current - now > 0) {
+				return current;
+			}
+
+			acquired[0] = true;
+			return deadline;
+		});
+		this.sweep(now);
+		return acquired[0];
+	}
+
+	/**
+	 * Fetches the time remaining on the given player's cooldown.
+	 *
+	 * @param uuid The UUID of the player
+	 * @param unit The unit to report the time in
+	 * @return The time remaining, rounded up, or 0 if the player isn't on cooldown
+	 */
+	public long remaining(UUID uuid, TimeUnit unit) {
+		Long deadline = this.deadlines.get(uuid);
+		if(deadline == null) {
+			return 0;
+		}
+
+		long left = deadline - System.nanoTime();
+		if(left <= 0) {
+			this.deadlines.remove(uuid, deadline);
+			return 0;
+		}
+
+		long nanosPerUnit = unit.toNanos(1);
+		return (left + nanosPerUnit - 1) / nanosPerUnit;
+	}
+
+	public boolean isCooling(UUID uuid) {
+		return this.remaining(uuid, TimeUnit.NANOSECONDS) > 0;
+	}
+
+	public void clear(UUID uuid) {
+		this.deadlines.remove(uuid);
+	}
+
+	public int size() {
+		return this.deadlines.size();
+	}
+
+	private void sweep(long now) {
+		long next = this.nextSweep.get();
+		if(now - next < 0 || !this.nextSweep.compareAndSet(next, now + this.sweepInterval)) {
+			return;
+		}
+
+		this.deadlines.values().removeIf(deadline -> deadline - now <= 0);
+	}
+}
@@ -0,0 +1,70 @@
+package me.nickimpact.gts.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * A bounded cache of base display items, such as pokemon sprites, keyed by whatever combination of
+ * attributes decides how the item looks. The cached item is never handed out directly. Every lookup
+ * returns a copy, so callers remain free to set names, lore, and the like on the result.
+ *
+ * <p>Once the cache is full, the least recently used items are evicted first.</p>
+ *
+ * @param <T> The type of item being cached
+ */
+public class IconCache<T> {
+
+	private final Cache<Object, T> cache;
+	private final UnaryOperator<T> copier;
+
+	/**
+	 * @param maximumSize The maximum number of base items to hold at any one time
+	 * @param copier Creates an independent copy of a cached item
+	 */
+	public IconCache(long maximumSize, UnaryOperator<T> copier) {
+		this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+		this.copier = copier;
+	}
+
+	/**
+	 * Fetches a copy of the item for the given key, creating and caching the base item first if it isn't
+	 * already cached.
+	 *
+	 * @param key The key describing the look of the item. It must implement equals and hashCode.
+	 * @param creator Creates the base item on a cache miss
+	 * @return A copy of the base item
+	 */
+	public T get(Object key, Supplier<T> creator) {
+		try {
+			return this.copier.apply(this.cache.get(key, creator::get));
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	public void invalidateAll() {
+		this.cache.invalidateAll();
+	}
+
+	public long size() {
+		return this.cache.size();
+	}
+
+	public CacheStats getStats() {
+		return this.cache.stats();
+	}
+
+	@Override
+	public String toString() {
+		CacheStats stats = this.getStats();
+		return String.format(
+				"IconCache{size=%d, hits=%d, misses=%d, hitRate=%.2f, evictions=%d}",
+				this.size(), stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount()
+		);
+	}
+}
@@ -0,0 +1,90 @@
+package me.nickimpact.gts.utils;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.nickimpact.impactor.api.logging.Logger;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * An item blacklist compiled from config. Plain entries name an item type, with or without its namespace
+ * (<code>minecraft:bedrock</code> and <code>bedrock</code> are equivalent), and are checked with a single hash
+ * lookup. Entries prefixed with <code>nbt:</code> are regular expressions matched against an item's data, allowing
+ * specific variants of an otherwise permitted item to be blocked.
+ */
+public class ItemBlacklist {
+
+	private static final String DEFAULT_NAMESPACE = "minecraft:";
+	private static final String NBT_PREFIX = "nbt:";
+
+	private final Set<String> types;
+	private final List<Pattern> patterns;
+
+	private ItemBlacklist(Set<String> types, List<Pattern> patterns) {
+		this.types = types;
+		this.patterns = patterns;
+	}
+
+	public static ItemBlacklist compile(List<String> entries, Logger logger) {
+		ImmutableSet.Builder<String> types = ImmutableSet.builder();
+		ImmutableList.Builder<Pattern> patterns = ImmutableList.builder();
+		for(String entry : entries) {
+			if(entry.startsWith(NBT_PREFIX)) {
+				try {
+					patterns.add(Pattern.compile(entry.substring(NBT_PREFIX.length())));
+				} catch (PatternSyntaxException e) {
+					logger.error("Skipping invalid item blacklist pattern (" + entry + "): " + e.getDescription());
+				}
+			} else {
+				types.add(normalize(entry));
+			}
+		}
+
+		return new ItemBlacklist(types.build(), patterns.build());
+	}
+
+	/**
+	 * Checks whether an item is blacklisted.
+	 *
+	 * @param type The ID or name of the item's type
+	 * @param data Supplies the item's data for pattern matching. This is only requested if the type itself
+	 *             isn't blacklisted and patterns have been configured.
+	 * @return <code>true</code> if the item is blacklisted
+	 */
+	public boolean isBlacklisted(String type, Supplier<String> data) {
+		if(this.types.contains(normalize(type))) {
+			return true;
+		}
+
+		if(this.patterns.isEmpty()) {
+			return false;
+		}
+
+		String value = data.get();
+		if(value == null) {
+			return false;
+		}
+
+		for(Pattern pattern : this.patterns) {
+			if(pattern.matcher(value).find()) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	public boolean isEmpty() {
+		return this.types.isEmpty() && this.patterns.isEmpty();
+	}
+
+	private static String normalize(String type) {
+		String result = type.trim().toLowerCase(Locale.ROOT);
+		return result.indexOf(':') < 0 ? DEFAULT_NAMESPACE + result : result;
+	}
+}
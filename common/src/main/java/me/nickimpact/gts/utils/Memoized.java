@@ -0,0 +1,57 @@
+package me.nickimpact.gts.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Lazily computes a value once and hands the same result back on every later call. This is intended for
+ * values derived purely from an immutable listing entry and the plugin configuration, such as an entry's
+ * details or minimum price.
+ *
+ * <p>Since such values go stale when the configuration changes, every memoized value is tied to a global
+ * generation. A call to {@link #invalidateAll()} starts a new generation, and each value is then recomputed
+ * the next time it is requested.</p>
+ *
+ * @param <T> The type of value being memoized
+ */
+public class Memoized<T> {
+
+	private static final AtomicLong GENERATION = new AtomicLong();
+
+	private final Supplier<T> supplier;
+	private volatile Snapshot<T> snapshot;
+
+	public Memoized(Supplier<T> supplier) {
+		this.supplier = supplier;
+	}
+
+	public T get() {
+		long generation = GENERATION.get();
+		Snapshot<T> current = this.snapshot;
+		if(current == null || current.generation != generation) {
+			// Racing callers may both compute the value, which is harmless given the supplier is pure
+			current = new Snapshot<>(generation, this.supplier.get());
+			this.snapshot = current;
+		}
+
+		return current.value;
+	}
+
+	/**
+	 * Marks every memoized value as stale. Intended to be called whenever a configuration is reloaded.
+	 */
+	public static void invalidateAll() {
+		GENERATION.incrementAndGet();
+	}
+
+	private static class Snapshot<T> {
+
+		private final long generation;
+		private final T value;
+
+		private Snapshot(long generation, T value) {
+			this.generation = generation;
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package me.nickimpact.gts.utils;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Lists;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Caches the names of players by their UUID, so that rendering listings doesn't need to ask the platform's
+ * user storage for a name every time. For offline players, that lookup can go to disk.
+ *
+ * <p>Names are added when a player joins, or the first time a UUID is looked up. Once an entry is older than
+ * the configured TTL, the next lookup still returns the cached name while a fresh copy is fetched on the
+ * given executor. This means name changes are picked up without anyone waiting on the lookup.</p>
+ *
+ * <p>The resolver is only ever run on the given executor or the thread calling {@link #get(UUID)}, so platforms
+ * whose user storage may only be touched on the main thread should hand over their main thread executor.</p>
+ */
+public class NameCache {
+
+	/** How many uncached names a prefetch resolves per task, so a large read doesn't stall the executor */
+	private static final int PREFETCH_CHUNK = 25;
+
+	private final Executor executor;
+	private final LoadingCache<UUID, Optional<String>> names;
+
+	/**
+	 * @param resolver Looks up the name of a player, returning an empty optional if it's unknown
+	 * @param executor The executor that stale names are refreshed and prefetches are run on, and so the one the
+	 *                 resolver runs on for anything other than a first lookup
+	 * @param ttl The amount of time, in minutes, before a cached name is refreshed
+	 */
+	public NameCache(Function<UUID, Optional<String>> resolver, Executor executor, long ttl) {
+		this.executor = executor;
+		this.names = CacheBuilder.newBuilder()
+				.refreshAfterWrite(ttl, TimeUnit.MINUTES)
+				.expireAfterAccess(ttl * 4, TimeUnit.MINUTES)
+				.build(CacheLoader.asyncReloading(new CacheLoader<UUID, Optional<String>>() {
+					@Override
+					public Optional<String> load(UUID key) {
+						return resolver.apply(key);
+					}
+				}, executor));
+	}
+
+	/**
+	 * Fetches the name of a player, looking it up on the calling thread if it isn't yet cached. Where the resolver
+	 * must run on the main thread, so must this.
+	 *
+	 * @param uuid The UUID of the player
+	 * @return The name of the player, if known
+	 */
+	public Optional<String> get(UUID uuid) {
+		return this.names.getUnchecked(uuid);
+	}
+
+	public String get(UUID uuid, String fallback) {
+		return this.get(uuid).orElse(fallback);
+	}
+
+	/**
+	 * Records the current name of a player. Intended to be called as players join.
+	 */
+	public void put(UUID uuid, String name) {
+		this.names.put(uuid, Optional.of(name));
+	}
+
+	/**
+	 * Looks up the names of any of the given players that aren't cached yet. This runs on the cache's executor,
+	 * a few names per task, so later lookups of the names won't block.
+	 *
+	 * @param uuids The players to look up
+	 */
+	public void prefetch(Iterable<UUID> uuids) {
+		Iterator<UUID> iterator = Lists.newArrayList(uuids).iterator();
+		this.executor.execute(() -> this.prefetch(iterator));
+	}
+
+	private void prefetch(Iterator<UUID> uuids) {
+		int resolved = 0;
+		while(uuids.hasNext() && resolved < PREFETCH_CHUNK) {
+			UUID uuid = uuids.next();
+			if(this.names.getIfPresent(uuid) == null) {
+				this.names.getUnchecked(uuid);
+				++resolved;
+			}
+		}
+
+		if(uuids.hasNext()) {
+			this.executor.execute(() -> this.prefetch(uuids));
+		}
+	}
+
+	public void invalidateAll() {
+		this.names.invalidateAll();
+	}
+
+	public long size() {
+		return this.names.size();
+	}
+}
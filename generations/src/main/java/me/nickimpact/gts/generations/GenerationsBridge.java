@@ -12,26 +12,37 @@ import com.nickimpact.impactor.sponge.AbstractSpongePlugin;
 import com.nickimpact.impactor.sponge.configuration.SpongeConfig;
 import com.nickimpact.impactor.sponge.configuration.SpongeConfigAdapter;
 import com.nickimpact.impactor.sponge.logging.SpongeLogger;
+import com.pixelmongenerations.common.entity.pixelmon.EntityPixelmon;
+import com.pixelmongenerations.core.enums.EnumSpecies;
 import lombok.Getter;
 import me.nickimpact.gts.api.GtsService;
 import me.nickimpact.gts.api.plugin.Extension;
 import me.nickimpact.gts.api.plugin.PluginInstance;
+import me.nickimpact.gts.config.ConfigKeys;
 import me.nickimpact.gts.generations.config.PokemonConfigKeys;
 import me.nickimpact.gts.generations.config.PokemonMsgConfigKeys;
 import me.nickimpact.gts.generations.entries.PokemonEntry;
 import me.nickimpact.gts.generations.text.NucleusPokemonTokens;
 import me.nickimpact.gts.generations.ui.PixelmonUI;
+import me.nickimpact.gts.generations.utils.MinPricing;
+import me.nickimpact.gts.pricing.PriceRules;
 import me.nickimpact.gts.sponge.service.SpongeGtsService;
+import me.nickimpact.gts.utils.Blacklists;
+import me.nickimpact.gts.utils.IconCache;
+import me.nickimpact.gts.utils.Memoized;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.game.GameReloadEvent;
 import org.spongepowered.api.event.game.state.GamePreInitializationEvent;
 import org.spongepowered.api.event.game.state.GameStartingServerEvent;
+import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.plugin.Dependency;
 import org.spongepowered.api.plugin.Plugin;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 @Getter
@@ -50,6 +61,10 @@ public class GenerationsBridge extends AbstractSpongePlugin implements Extension
 	private Config config;
 	private Config msgConfig;
 
+	private IconCache<ItemStack> sprites;
+	private PriceRules<EntityPixelmon> minPricing;
+	private volatile Set<EnumSpecies> blacklist;
+
 	@Listener(order = Order.LATE)
     public void onPreInit(GamePreInitializationEvent e) {
     	instance = this;
@@ -58,6 +73,9 @@ public class GenerationsBridge extends AbstractSpongePlugin implements Extension
 	    this.configDir = PluginInstance.getInstance().getConfigDir();
 	    this.config = new SpongeConfig(new SpongeConfigAdapter(this, configDir.resolve("generations.conf").toFile()), new PokemonConfigKeys());
 	    this.msgConfig = new SpongeConfig(new SpongeConfigAdapter(this, configDir.resolve("lang/generations-en_us.conf").toFile()), new PokemonMsgConfigKeys());
+	    this.minPricing = MinPricing.compile(this.config, this.logger);
+	    this.blacklist = this.compileBlacklist();
+	    this.sprites = new IconCache<>(PluginInstance.getInstance().getConfiguration().get(ConfigKeys.SPRITE_CACHE_SIZE), ItemStack::copy);
 
 	    service = (SpongeGtsService) Sponge.getServiceManager().provideUnchecked(GtsService.class);
 
@@ -70,10 +88,29 @@ public class GenerationsBridge extends AbstractSpongePlugin implements Extension
 			    "pixelmon:gs_ball",
 			    PokemonEntry::execute
 	    );
+	    service.registerBlacklist(PokemonEntry.class, pokemon -> this.blacklist.contains(pokemon.getSpecies()));
+	    service.getMetrics().gauge("cache.sprites.generations", this.sprites::size);
 
 	    service.getAllDeprecatedTypes().add(me.nickimpact.gts.generations.deprecated.PokemonEntry.class);
     }
 
+	@Listener
+	public void onReload(GameReloadEvent e) {
+		this.reload();
+	}
+
+	public void reload() {
+		this.config.reload();
+		this.msgConfig.reload();
+		this.minPricing = MinPricing.compile(this.config, this.logger);
+		this.blacklist = this.compileBlacklist();
+		Memoized.invalidateAll();
+	}
+
+	private Set<EnumSpecies> compileBlacklist() {
+		return Blacklists.compile(EnumSpecies.class, this.config.get(PokemonConfigKeys.BLACKLISTED_POKEMON), EnumSpecies::getFromNameAnyCase, this.logger);
+	}
+
 	@Listener
 	public void onServerStarted(GameStartingServerEvent e) {
 		service.registerTokens(new NucleusPokemonTokens());
@@ -131,9 +168,7 @@ public class GenerationsBridge extends AbstractSpongePlugin implements Extension
 
 	@Override
 	public Consumer<ImpactorPlugin> onReload() {
-    	return x -> {};
-//		this.config.reload();
-//		this.msgConfig.reload();
+		return plugin -> this.reload();
 	}
 
 	@Override
@@ -26,6 +26,7 @@ public class PokemonConfigKeys implements ConfigKeyHolder {
 	public static final ConfigKey<Double> MIN_PRICING_POKEMON_LEGEND = doubleKey("min-pricing.legends", 5000.0);
 	public static final ConfigKey<Double> MIN_PRICING_POKEMON_SHINY = doubleKey("min-pricing.shiny", 2500.0);
 	public static final ConfigKey<Double> MIN_PRICING_POKEMON_HA = doubleKey("min-pricing.hidden-ability", 5000.0);
+	public static final ConfigKey<List<String>> MIN_PRICING_RULES = listKey("min-pricing.rules", Lists.newArrayList());
 
 	public static final ConfigKey<Double> PRICING_LEFTCLICK_BASE = doubleKey("pricing.left-click.base", 1.0);
 	public static final ConfigKey<Double> PRICING_RIGHTCLICK_BASE = doubleKey("pricing.right-click.base", 10.0);
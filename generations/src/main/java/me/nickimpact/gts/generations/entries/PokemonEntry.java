@@ -1,6 +1,7 @@
 package me.nickimpact.gts.generations.entries;
 
 import co.aikar.commands.CommandIssuer;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.nickimpact.impactor.api.configuration.Config;
@@ -13,13 +14,10 @@ import com.pixelmongenerations.common.entity.pixelmon.stats.IVStore;
 import com.pixelmongenerations.common.entity.pixelmon.stats.Moveset;
 import com.pixelmongenerations.core.config.PixelmonConfig;
 import com.pixelmongenerations.core.config.PixelmonEntityList;
-import com.pixelmongenerations.core.config.PixelmonItems;
 import com.pixelmongenerations.core.enums.EnumSpecies;
 import com.pixelmongenerations.core.enums.forms.EnumForms;
-import com.pixelmongenerations.core.storage.NbtKeys;
 import com.pixelmongenerations.core.storage.PixelmonStorage;
 import com.pixelmongenerations.core.storage.PlayerStorage;
-import com.pixelmongenerations.core.util.helper.SpriteHelper;
 import me.nickimpact.gts.api.enums.CommandResults;
 import me.nickimpact.gts.api.listings.Listing;
 import me.nickimpact.gts.api.listings.entries.Entry;
@@ -28,10 +26,11 @@ import me.nickimpact.gts.api.plugin.PluginInstance;
 import me.nickimpact.gts.config.ConfigKeys;
 import me.nickimpact.gts.config.MsgConfigKeys;
 import me.nickimpact.gts.generations.GenerationsBridge;
-import me.nickimpact.gts.generations.config.PokemonConfigKeys;
 import me.nickimpact.gts.generations.config.PokemonMsgConfigKeys;
+import me.nickimpact.gts.generations.ui.PixelmonIcons;
 import me.nickimpact.gts.generations.utils.GsonUtils;
 import me.nickimpact.gts.sponge.*;
+import me.nickimpact.gts.utils.Memoized;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
@@ -62,6 +61,9 @@ import java.util.stream.Collectors;
 public class PokemonEntry extends SpongeEntry<String, EntityPixelmon> implements Minable<MoneyPrice> {
 
 	private transient EntityPixelmon pokemon;
+	private final transient Memoized<List<String>> details = new Memoized<>(() -> ImmutableList.copyOf(this.computeDetails()));
+	private final transient Memoized<MoneyPrice> minPrice = new Memoized<>(this::computeMinPrice);
+	private final transient Memoized<List<String>> priceKeys = new Memoized<>(this::computePriceKeys);
 
 	public PokemonEntry() {
 		super();
@@ -99,6 +101,26 @@ public class PokemonEntry extends SpongeEntry<String, EntityPixelmon> implements
 
 	@Override
 	public List<String> getDetails() {
+		return this.details.get();
+	}
+
+	@Override
+	public List<String> getPriceKeys() {
+		return this.priceKeys.get();
+	}
+
+	private List<String> computePriceKeys() {
+		EntityPixelmon pokemon = this.getEntry();
+		return priceKeys(
+				"pokemon",
+				pokemon.getSpecies().name(),
+				pokemon.getFormEnum() != EnumForms.NoForm ? pokemon.getFormEnum().getFormSuffix().replaceFirst("^-", "") : null,
+				pokemon.isShiny() ? "shiny" : null,
+				pokemon.isEgg ? "egg" : null
+		);
+	}
+
+	private List<String> computeDetails() {
 		EntityPixelmon pokemon = this.getEntry();
 		List<String> output = Lists.newArrayList();
 
@@ -239,12 +261,7 @@ public class PokemonEntry extends SpongeEntry<String, EntityPixelmon> implements
 //			return false;
 //		}
 
-		List<EnumSpecies> blacklisted = GenerationsBridge.getInstance().getConfiguration()
-				.get(PokemonConfigKeys.BLACKLISTED_POKEMON)
-				.stream()
-				.map(EnumSpecies::getFromNameAnyCase)
-				.collect(Collectors.toList());
-		if(blacklisted.contains(this.getEntry().getSpecies())) {
+		if(GenerationsBridge.getInstance().getService().isBlacklisted(PokemonEntry.class, this.getEntry())) {
 			player.sendMessage(parser.fetchAndParseMsg(player, msgs, MsgConfigKeys.ERROR_BLACKLISTED, null, null));
 			return false;
 		}
@@ -261,56 +278,32 @@ public class PokemonEntry extends SpongeEntry<String, EntityPixelmon> implements
 	}
 
 	private static ItemStack getPicture(EntityPixelmon pokemon) {
-		net.minecraft.item.ItemStack item = new net.minecraft.item.ItemStack(PixelmonItems.itemPixelmonSprite);
-		NBTTagCompound nbt = new NBTTagCompound();
-		String idValue = String.format("%03d", pokemon.baseStats.nationalPokedexNumber);
-		if (pokemon.isEgg) {
-			switch (pokemon.getSpecies()) {
-				case Manaphy:
-				case Togepi:
-					nbt.setString(NbtKeys.SPRITE_NAME,
-							String.format("pixelmon:sprites/eggs/%s1", pokemon.getSpecies().name.toLowerCase()));
-					break;
-				default:
-					nbt.setString(NbtKeys.SPRITE_NAME, "pixelmon:sprites/eggs/egg1");
-					break;
-			}
-		} else if (pokemon.isShiny()) {
-			nbt.setString(NbtKeys.SPRITE_NAME, "pixelmon:sprites/shinypokemon/" + idValue + SpriteHelper.getSpriteExtra(pokemon.getSpecies().name, pokemon.getForm()));
-		} else {
-			nbt.setString(NbtKeys.SPRITE_NAME, "pixelmon:sprites/pokemon/" + idValue + SpriteHelper.getSpriteExtra(pokemon.getSpecies().name, pokemon.getForm()));
-		}
-
-		item.setTagCompound(nbt);
-		return (ItemStack) (Object) item;
+		return PixelmonIcons.pokemonDisplay(pokemon, pokemon.getForm());
 	}
 
 	@Override
 	public MoneyPrice calcMinPrice() {
-		MoneyPrice price = new MoneyPrice(GenerationsBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_BASE));
-		EntityPixelmon pokemon = this.getEntry();
-
-		boolean isLegend = EnumSpecies.legendaries.contains(pokemon.getName());
-		if (isLegend && pokemon.isShiny()) {
-			price = new MoneyPrice(GenerationsBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_LEGEND) + GenerationsBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_SHINY) + price.getPrice());
-		} else if (isLegend) {
-			price = new MoneyPrice(GenerationsBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_LEGEND) + price.getPrice());
-		} else if (pokemon.isShiny()) {
-			price = new MoneyPrice(GenerationsBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_SHINY) + price.getPrice());
-
-		}
+		return this.minPrice.get();
+	}
 
-		for (int iv : pokemon.stats.IVs.getArray()) {
-			if (iv >= GenerationsBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_IVS_MINVAL)) {
-				price = new MoneyPrice(GenerationsBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_IVS_PRICE) + price.getPrice());
-			}
-		}
+	private MoneyPrice computeMinPrice() {
+		return new MoneyPrice(minPrice(this.getEntry()));
+	}
 
-		if (pokemon.getAbilitySlot() == 2) {
-			price = new MoneyPrice(GenerationsBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_HA) + price.getPrice());
+	/**
+	 * Prices the given pokemon by the compiled minimum pricing rules, along with any options registered by other
+	 * plugins, such that the sell menu quotes the same minimum the listing is later held to.
+	 *
+	 * @param pokemon The pokemon to price
+	 * @return The lowest price the pokemon may be listed for
+	 */
+	public static double minPrice(EntityPixelmon pokemon) {
+		double total = GenerationsBridge.getInstance().getMinPricing().evaluate(pokemon);
+		for(Function<EntityPixelmon, Double> function : GenerationsBridge.getInstance().getService().getMinPriceOptionsForEntryType(PokemonEntry.class)) {
+			total += function.apply(pokemon);
 		}
 
-		return price;
+		return total;
 	}
 
 	public static CommandResults execute(CommandIssuer src, List<String> args, boolean permanent) {
@@ -367,7 +360,7 @@ public class PokemonEntry extends SpongeEntry<String, EntityPixelmon> implements
 				return CommandResults.FAILED;
 			}
 
-			if(GenerationsBridge.getInstance().getConfig().get(PokemonConfigKeys.BLACKLISTED_POKEMON).stream().anyMatch(species -> species.toLowerCase().equals(pokemon.getLocalizedName().toLowerCase()))) {
+			if(GenerationsBridge.getInstance().getService().isBlacklisted(PokemonEntry.class, pokemon)) {
 				if(!source.hasPermission("gts.command.sell.pokemon.bypass")) {
 					source.sendMessage(parser.fetchAndParseMsg(source, config, MsgConfigKeys.BLACKLISTED, null, null));
 					return CommandResults.FAILED;
@@ -5,9 +5,12 @@ import com.pixelmongenerations.core.config.PixelmonItems;
 import com.pixelmongenerations.core.enums.EnumSpecies;
 import com.pixelmongenerations.core.storage.NbtKeys;
 import com.pixelmongenerations.core.util.helper.SpriteHelper;
+import me.nickimpact.gts.generations.GenerationsBridge;
 import net.minecraft.nbt.NBTTagCompound;
 import org.spongepowered.api.item.inventory.ItemStack;
 
+import java.util.Arrays;
+
 public class PixelmonIcons {
 
 	public static ItemStack pokemonDisplay(EntityPixelmon pokemon, int form) {
@@ -15,6 +18,13 @@ public class PixelmonIcons {
 	}
 
 	public static ItemStack pokemonDisplay(EnumSpecies species, int form, boolean isEgg, boolean isShiny) {
+		return GenerationsBridge.getInstance().getSprites().get(
+				isEgg ? Arrays.asList("egg", species) : Arrays.asList(species, form, isShiny),
+				() -> create(species, form, isEgg, isShiny)
+		);
+	}
+
+	private static ItemStack create(EnumSpecies species, int form, boolean isEgg, boolean isShiny) {
 		net.minecraft.item.ItemStack nativeItem = new net.minecraft.item.ItemStack(PixelmonItems.itemPixelmonSprite);
 		NBTTagCompound nbt = new NBTTagCompound();
 		String idValue = String.format("%03d", species.getNationalPokedexInteger());
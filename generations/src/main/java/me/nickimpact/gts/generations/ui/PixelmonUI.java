@@ -8,7 +8,6 @@ import com.nickimpact.impactor.sponge.ui.SpongeLayout;
 import com.nickimpact.impactor.sponge.ui.SpongeUI;
 import com.pixelmongenerations.common.entity.pixelmon.EntityPixelmon;
 import com.pixelmongenerations.core.config.PixelmonEntityList;
-import com.pixelmongenerations.core.enums.EnumSpecies;
 import com.pixelmongenerations.core.storage.PixelmonStorage;
 import com.pixelmongenerations.core.storage.PlayerStorage;
 import me.nickimpact.gts.api.listings.entries.EntryUI;
@@ -292,26 +291,6 @@ public class PixelmonUI implements EntryUI<Player> {
 	}
 
 	private double calcMin(EntityPixelmon pokemon) {
-		double price = GenerationsBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_BASE);
-		boolean isLegend = EnumSpecies.legendaries.contains(pokemon.getSpecies().name());
-		if (isLegend && pokemon.isShiny()) {
-			price += GenerationsBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_LEGEND) + GenerationsBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_SHINY);
-		} else if (isLegend) {
-			price += GenerationsBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_LEGEND);
-		} else if (pokemon.isShiny()) {
-			price += GenerationsBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_SHINY);
-		}
-
-		for (int iv : pokemon.stats.IVs.getArray()) {
-			if (iv >= GenerationsBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_IVS_MINVAL)) {
-				price += GenerationsBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_IVS_PRICE);
-			}
-		}
-
-		if (pokemon.getAbilitySlot() == 2) {
-			price += GenerationsBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_HA);
-		}
-
-		return price;
+		return PokemonEntry.minPrice(pokemon);
 	}
 }
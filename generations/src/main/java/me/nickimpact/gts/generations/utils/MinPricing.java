@@ -0,0 +1,44 @@
+package me.nickimpact.gts.generations.utils;
+
+import com.google.common.collect.Lists;
+import com.nickimpact.impactor.api.configuration.Config;
+import com.nickimpact.impactor.api.logging.Logger;
+import com.pixelmongenerations.common.entity.pixelmon.EntityPixelmon;
+import com.pixelmongenerations.core.enums.EnumSpecies;
+import me.nickimpact.gts.generations.config.PokemonConfigKeys;
+import me.nickimpact.gts.pricing.PriceRuleCompiler;
+import me.nickimpact.gts.pricing.PriceRules;
+
+import java.util.List;
+
+public class MinPricing {
+
+	private static final PriceRuleCompiler<EntityPixelmon> COMPILER = new PriceRuleCompiler<EntityPixelmon>()
+			.index("species", EntityPixelmon::getName)
+			.flag("shiny", EntityPixelmon::isShiny)
+			.flag("egg", pokemon -> pokemon.isEgg)
+			.flag("legendary", pokemon -> EnumSpecies.legendaries.contains(pokemon.getName()))
+			.flag("hidden-ability", pokemon -> pokemon.getAbilitySlot() == 2)
+			.value("form", EntityPixelmon::getForm)
+			.value("level", pokemon -> pokemon.getLvl().getLevel())
+			.value("gender", EntityPixelmon::getGender)
+			.value("nature", EntityPixelmon::getNature)
+			.value("growth", EntityPixelmon::getGrowth)
+			.counter("ivs", pokemon -> pokemon.stats.IVs.getArray());
+
+	/**
+	 * Compiles the minimum pricing rules from the given config. The fixed pricing options which predate the rule
+	 * list are translated into rules of their own, so existing configs keep pricing pokemon as they always have.
+	 */
+	public static PriceRules<EntityPixelmon> compile(Config config, Logger logger) {
+		List<String> rules = Lists.newArrayList(
+				"legendary = " + config.get(PokemonConfigKeys.MIN_PRICING_POKEMON_LEGEND),
+				"shiny = " + config.get(PokemonConfigKeys.MIN_PRICING_POKEMON_SHINY),
+				"ivs>=" + config.get(PokemonConfigKeys.MIN_PRICING_POKEMON_IVS_MINVAL) + " = " + config.get(PokemonConfigKeys.MIN_PRICING_POKEMON_IVS_PRICE),
+				"hidden-ability = " + config.get(PokemonConfigKeys.MIN_PRICING_POKEMON_HA)
+		);
+		rules.addAll(config.get(PokemonConfigKeys.MIN_PRICING_RULES));
+
+		return COMPILER.compile(config.get(PokemonConfigKeys.MIN_PRICING_POKEMON_BASE), rules, logger);
+	}
+}
@@ -30,26 +30,40 @@ import me.nickimpact.gts.api.holders.ServiceInstance;
 import me.nickimpact.gts.api.listings.Listing;
 import me.nickimpact.gts.api.listings.entries.Entry;
 import me.nickimpact.gts.api.plugin.IGTSPlugin;
+import me.nickimpact.gts.audit.AuditLog;
 import me.nickimpact.gts.commands.SpigotEntryClassificationContextHandler;
 import me.nickimpact.gts.commands.SpigotGtsCmd;
 import me.nickimpact.gts.config.ConfigKeys;
+import me.nickimpact.gts.config.ConfigSnapshot;
 import me.nickimpact.gts.config.MsgConfigKeys;
 import me.nickimpact.gts.discord.DiscordNotifier;
+import me.nickimpact.gts.economy.EconomyTimings;
 import me.nickimpact.gts.api.plugin.PluginInstance;
 import me.nickimpact.gts.json.EntryAdapter;
+import me.nickimpact.gts.listeners.JoinListener;
 import me.nickimpact.gts.listings.SpigotItemEntry;
 import me.nickimpact.gts.listings.SpigotItemUI;
 import me.nickimpact.gts.manager.SpigotListingManager;
+import me.nickimpact.gts.metrics.MetricsDump;
+import me.nickimpact.gts.metrics.MetricsRegistry;
+import me.nickimpact.gts.metrics.Tracer;
+import me.nickimpact.gts.pricing.PriceHistory;
 import me.nickimpact.gts.spigot.MoneyPrice;
 import me.nickimpact.gts.spigot.SpigotGTSPlugin;
 import me.nickimpact.gts.spigot.SpigotGtsService;
 import me.nickimpact.gts.manager.TextParsingUtils;
 import me.nickimpact.gts.spigot.SpigotListing;
+import me.nickimpact.gts.spigot.economy.VaultEconomyAdapter;
 import me.nickimpact.gts.storage.StorageFactory;
+import me.nickimpact.gts.tasks.MainThreadQueue;
+import me.nickimpact.gts.tasks.RetentionTask;
+import me.nickimpact.gts.tasks.TickTimings;
 import me.nickimpact.gts.tasks.SpigotListingTasks;
+import me.nickimpact.gts.utils.NameCache;
 import me.nickimpact.gts.spigot.tokens.TokenService;
 import net.milkbowl.vault.economy.Economy;
 import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.plugin.RegisteredServiceProvider;
@@ -57,8 +71,10 @@ import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.concurrent.*;
 import java.util.function.Consumer;
@@ -68,13 +84,14 @@ public class GTS extends JavaPlugin implements SpigotGTSPlugin, Configurable, Tr
 
 	@Getter private static GTS instance;
 
-	private SpigotGtsService service;
+	@Getter private SpigotGtsService service;
 
 	private Logger logger;
 
 	private Path configDir;
 	private Config config;
 	private Config msgConfig;
+	@Getter private volatile ConfigSnapshot settings;
 
 	private TextParsingUtils textParsingUtils;
 
@@ -89,13 +106,27 @@ public class GTS extends JavaPlugin implements SpigotGTSPlugin, Configurable, Tr
 
 	private DiscordNotifier discordNotifier;
 
+	@Getter private MainThreadQueue workQueue;
+	@Getter private TickTimings tickTimings;
+
+	private MetricsDump metricsDump;
+	private AuditLog auditLog;
+	@Getter private PriceHistory priceHistory;
+	@Getter private RetentionTask retentionTask;
+	@Getter private Tracer tracer;
+
 	@Getter private TokenService tokenService;
 
+	@Getter private NameCache nameCache;
+
+	@Getter private VaultEconomyAdapter economyAdapter;
+
 	@Override
 	public void onLoad() {
 		instance = this;
 		PluginInstance.setInstance(this);
 		this.logger = new SpigotLogger(this);
+		this.tracer = new Tracer(this.logger);
 		logger.info(ChatColor.GREEN + "Loading GTS...");
 		logger.info(ChatColor.GREEN + "Initializing API service...");
 		this.service = new SpigotGtsService(this);
@@ -108,6 +139,13 @@ public class GTS extends JavaPlugin implements SpigotGTSPlugin, Configurable, Tr
 		this.configDir = this.getDataFolder().toPath();
 		this.config = new SpigotConfig(new SpigotConfigAdapter(this, new File(this.configDir.toFile(), "gts.conf")), new ConfigKeys());
 		this.msgConfig = new SpigotConfig(new SpigotConfigAdapter(this, new File(this.configDir.toFile(), "lang/" + this.config.get(ConfigKeys.LANG_OPTION) + ".conf")), new MsgConfigKeys());
+		this.settings = new ConfigSnapshot(this.config, this.logger);
+		this.tracer.configure(this.settings.isTracingEnabled(), this.settings.getTracingThreshold(), this.settings.getTracingBufferSize());
+		this.nameCache = new NameCache(
+				uuid -> Optional.ofNullable(Bukkit.getOfflinePlayer(uuid).getName()),
+				this.getAsyncExecutor(),
+				this.config.get(ConfigKeys.NAME_CACHE_TTL)
+		);
 
 		logger.info("Loading default entry types...");
 		this.service.setRegistry(new EntryRegistry(this));
@@ -118,6 +156,7 @@ public class GTS extends JavaPlugin implements SpigotGTSPlugin, Configurable, Tr
 				Material.DIAMOND.name(),
 				SpigotItemEntry::cmdExecutor
 		);
+		this.service.registerBlacklist(SpigotItemEntry.class, SpigotItemEntry::isBlacklisted);
 
 		this.tokenService = new TokenService(this);
 	}
@@ -148,7 +187,8 @@ public class GTS extends JavaPlugin implements SpigotGTSPlugin, Configurable, Tr
 			Bukkit.getPluginManager().disablePlugin(this);
 			return;
 		}
-		MoneyPrice.setEconomy(economy.getProvider());
+		this.economyAdapter = new VaultEconomyAdapter(economy.getProvider(), new EconomyTimings());
+		MoneyPrice.setEconomy(this.economyAdapter);
 
 		logger.info("Setting up discord notifier...");
 		this.discordNotifier = new DiscordNotifier(this);
@@ -174,20 +214,67 @@ public class GTS extends JavaPlugin implements SpigotGTSPlugin, Configurable, Tr
 		);
 
 		this.cmdManager.registerCommand(new SpigotGtsCmd());
+		Bukkit.getPluginManager().registerEvents(new JoinListener(), this);
 
 		logger.info("Initializing and reading storage...");
 		this.service.setStorage(new StorageFactory(this).getInstance(StorageType.JSON));
 		this.service.getListingManager().readStorage();
 
 		logger.info("Deploying running tasks...");
+		this.tickTimings = new TickTimings(this, () -> this.settings.getTickShareWarning());
+		this.workQueue = new MainThreadQueue(this, () -> this.settings.getTickBudget(), this.tickTimings);
+		Bukkit.getScheduler().runTaskTimer(this, () -> {
+			this.workQueue.tick();
+			this.tickTimings.rollover();
+		}, 1, 1);
 		new SpigotListingTasks().createExpirationTask();
 
+		logger.info("Registering metrics...");
+		MetricsRegistry metrics = this.service.getMetrics();
+		metrics.gauge("listings.active", () -> this.service.getListingManager().getListings().size());
+		metrics.gauge("listings.ignorers", () -> this.service.getListingManager().getIgnorers().size());
+		metrics.gauge("cache.names", this.nameCache::size);
+		metrics.gauge("queue.main_thread.depth", this.workQueue::getQueueDepth);
+		this.tickTimings.register(metrics);
+		this.metricsDump = new MetricsDump(this, metrics);
+		this.metricsDump.schedule();
+
+		logger.info("Opening audit log...");
+		this.auditLog = new AuditLog(this, this.service.getEvents());
+		this.auditLog.configure();
+
+		logger.info("Loading price history...");
+		this.priceHistory = new PriceHistory(this, this.service.getEvents());
+		this.priceHistory.configure();
+
+		logger.info("Scheduling storage retention...");
+		this.retentionTask = new RetentionTask(this, uuid -> {
+			OfflinePlayer player = Bukkit.getOfflinePlayer(uuid);
+			if(player.isOnline()) {
+				return Optional.of(Instant.now());
+			}
+			return player.getLastPlayed() > 0 ? Optional.of(Instant.ofEpochMilli(player.getLastPlayed())) : Optional.empty();
+		}, task -> Bukkit.getScheduler().runTask(this, task));
+		this.retentionTask.schedule();
+
 		logger.info(ChatColor.GREEN + "Startup complete!");
 	}
 
 	@Override
 	public void onDisable() {
-
+		if(this.auditLog != null) {
+			this.auditLog.close();
+		}
+		if(this.priceHistory != null) {
+			this.priceHistory.close();
+		}
+		if(this.retentionTask != null) {
+			this.retentionTask.close();
+		}
+		this.service.getEvents().shutdown();
+		if(this.discordNotifier != null) {
+			this.discordNotifier.shutdown();
+		}
 	}
 
 	@Override
@@ -252,7 +339,24 @@ public class GTS extends JavaPlugin implements SpigotGTSPlugin, Configurable, Tr
 
 	@Override
 	public Consumer<ImpactorPlugin> onReload() {
-		return plugin -> {};
+		return plugin -> {
+			this.config.reload();
+			this.msgConfig.reload();
+			this.settings = new ConfigSnapshot(this.config, this.logger);
+			this.tracer.configure(this.settings.isTracingEnabled(), this.settings.getTracingThreshold(), this.settings.getTracingBufferSize());
+			if(this.metricsDump != null) {
+				this.metricsDump.schedule();
+			}
+			if(this.auditLog != null) {
+				this.auditLog.configure();
+			}
+			if(this.priceHistory != null) {
+				this.priceHistory.configure();
+			}
+			if(this.retentionTask != null) {
+				this.retentionTask.schedule();
+			}
+		};
 	}
 
 	@Override
@@ -8,13 +8,21 @@ import me.nickimpact.gts.GTS;
 import me.nickimpact.gts.api.enums.CommandResults;
 import me.nickimpact.gts.api.holders.EntryClassification;
 import me.nickimpact.gts.api.searching.Searcher;
+import me.nickimpact.gts.config.ConfigKeys;
 import me.nickimpact.gts.config.MsgConfigKeys;
+import me.nickimpact.gts.metrics.Trace;
+import me.nickimpact.gts.pricing.PriceSummary;
 import me.nickimpact.gts.spigot.MessageUtils;
+import me.nickimpact.gts.spigot.economy.VaultEconomyAdapter;
+import me.nickimpact.gts.tasks.RetentionTask;
+import me.nickimpact.gts.tasks.TickTimings;
 import me.nickimpact.gts.ui.SpigotMainUI;
 import me.nickimpact.gts.ui.SpigotSellUI;
+import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -24,9 +32,14 @@ import java.util.stream.Collectors;
 @CommandPermission("gts.command.gts.base")
 public class SpigotGtsCmd extends BaseCommand {
 
+	private static final DateTimeFormatter TRACE_TIME = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+	/** The most price keys listed by a single search */
+	private static final int PRICE_RESULTS = 8;
+
 	@Default
 	public void execute(Player player) {
-		new SpigotMainUI(player, null, null).open();
+		timed(() -> new SpigotMainUI(player, null, null).open());
 	}
 
 	@Subcommand("sell|add")
@@ -36,20 +49,22 @@ public class SpigotGtsCmd extends BaseCommand {
 		@Default
 		@Syntax("(type) (additional arguments) - Allows you to sell something. No type = User GUI")
 		public void execute(CommandIssuer player, @Optional EntryClassification classification, @Optional String... additionals) {
-			if(classification == null) {
-				//new SpigotSellUI(player).open();
-				player.sendMessage(GTS.getInstance().getTokenService().process(MsgConfigKeys.SELL_CMD_INVALID, player.getIssuer(), null, null));
-			} else {
-				if(player.hasPermission("gts.command.sell." + classification.getPrimaryIdentifier().toLowerCase())) {
-					boolean perm = false;
-					List<String> addons = Arrays.stream(additionals).map(String::toLowerCase).collect(Collectors.toList());
-					if(addons.contains("-p")) {
-						perm = true;
-					}
+			timed(() -> {
+				if(classification == null) {
+					//new SpigotSellUI(player).open();
+					player.sendMessage(GTS.getInstance().getTokenService().process(MsgConfigKeys.SELL_CMD_INVALID, player.getIssuer(), null, null));
+				} else {
+					if(player.hasPermission("gts.command.sell." + classification.getPrimaryIdentifier().toLowerCase())) {
+						boolean perm = false;
+						List<String> addons = Arrays.stream(additionals).map(String::toLowerCase).collect(Collectors.toList());
+						if(addons.contains("-p")) {
+							perm = true;
+						}
 
-					classification.getCmdHandler().apply(player, addons, perm);
+						classification.getCmdHandler().apply(player, addons, perm);
+					}
 				}
-			}
+			});
 		}
 	}
 
@@ -60,12 +75,125 @@ public class SpigotGtsCmd extends BaseCommand {
 		@Default
 		@Description("Searches the GTS for a set of listings matching the specified conditions")
 		public void execute(Player player, String key, @Split(" ") String criteria) {
-			java.util.Optional<Searcher> searcher = GTS.getInstance().getAPIService().getSearcher(key);
-			if(searcher.isPresent()) {
-				new SpigotMainUI(player, searcher.get(), criteria).open();
-			} else {
-				player.sendMessage(GTS.getInstance().getTokenService().process(MsgConfigKeys.SEARCH_NO_OPTION, player, null, null));
-			}
+			timed(() -> {
+				java.util.Optional<Searcher> searcher = GTS.getInstance().getAPIService().getSearcher(key);
+				if(searcher.isPresent()) {
+					new SpigotMainUI(player, searcher.get(), criteria).open();
+				} else {
+					player.sendMessage(GTS.getInstance().getTokenService().process(MsgConfigKeys.SEARCH_NO_OPTION, player, null, null));
+				}
+			});
+		}
+
+	}
+
+	@Subcommand("prices")
+	@CommandPermission("gts.command.prices.base")
+	public class Prices extends BaseCommand {
+
+		@Default
+		@Description("Shows what things have typically sold for")
+		@Syntax("(search) - For example, garchomp shiny")
+		public void execute(CommandSender sender, String query) {
+			timed(() -> {
+				if(!GTS.getInstance().getConfiguration().get(ConfigKeys.PRICES_ENABLED)) {
+					sender.sendMessage(ChatColor.GRAY + "Price history is disabled, see prices.enabled within the config");
+					return;
+				}
+
+				List<PriceSummary> prices = GTS.getInstance().getPriceHistory().search(query, PRICE_RESULTS);
+				if(prices.isEmpty()) {
+					sender.sendMessage(ChatColor.GRAY + "Nothing matching " + ChatColor.YELLOW + query + ChatColor.GRAY + " has sold yet");
+					return;
+				}
+
+				VaultEconomyAdapter economy = GTS.getInstance().getEconomyAdapter();
+				sender.sendMessage(ChatColor.YELLOW + "Typical prices for " + query + ":");
+				for(PriceSummary price : prices) {
+					sender.sendMessage(ChatColor.AQUA + price.getKey() + ChatColor.GRAY + ": " + ChatColor.GREEN + economy.format(price.getMedian())
+							+ (price.getKey().startsWith("item/") ? " each" : "")
+							+ ChatColor.GRAY + " over " + price.getSales() + " sale(s), averaging " + economy.format(price.getAverage())
+							+ " (" + economy.format(price.getLow()) + " to " + economy.format(price.getHigh()) + ")");
+				}
+			});
+		}
+
+	}
+
+	@Subcommand("admin")
+	@Description("Admin functionality to GTS")
+	@CommandPermission("gts.command.admin.base")
+	public class Admin extends BaseCommand {
+
+		@Subcommand("economy")
+		@CommandPermission("gts.command.admin.economy")
+		public void economy(CommandSender sender) {
+			timed(() -> {
+				List<String> timings = GTS.getInstance().getEconomyAdapter().getTimings().summarise();
+				if(timings.isEmpty()) {
+					sender.sendMessage(ChatColor.GRAY + "No economy calls have been made yet");
+					return;
+				}
+
+				sender.sendMessage(ChatColor.YELLOW + "Economy call timings:");
+				for(String timing : timings) {
+					sender.sendMessage(ChatColor.GRAY + timing);
+				}
+			});
+		}
+
+		@Subcommand("stats")
+		@CommandPermission("gts.command.admin.stats")
+		public void stats(CommandSender sender) {
+			timed(() -> {
+				List<String> metrics = GTS.getInstance().getService().getMetrics().summarise();
+				if(metrics.isEmpty()) {
+					sender.sendMessage(ChatColor.GRAY + "No metrics have been recorded yet");
+					return;
+				}
+
+				sender.sendMessage(ChatColor.YELLOW + "GTS metrics:");
+				for(String metric : metrics) {
+					sender.sendMessage(ChatColor.GRAY + metric);
+				}
+			});
+		}
+
+		@Subcommand("traces")
+		@CommandPermission("gts.command.admin.traces")
+		public void traces(CommandSender sender) {
+			timed(() -> {
+				if(!GTS.getInstance().getSettings().isTracingEnabled()) {
+					sender.sendMessage(ChatColor.GRAY + "Tracing is disabled, see metrics.tracing.enabled within the config");
+					return;
+				}
+
+				List<Trace> traces = GTS.getInstance().getTracer().getRecent();
+				if(traces.isEmpty()) {
+					sender.sendMessage(ChatColor.GRAY + "No slow operations have been traced yet");
+					return;
+				}
+
+				sender.sendMessage(ChatColor.YELLOW + "Recent slow operations, most recent first:");
+				for(Trace trace : traces) {
+					sender.sendMessage(ChatColor.DARK_GRAY + "[" + trace.getStarted().format(TRACE_TIME) + "] " + ChatColor.GRAY + trace.describe());
+				}
+			});
+		}
+
+		@Subcommand("purge")
+		@CommandPermission("gts.command.admin.purge")
+		public void purge(CommandSender sender) {
+			timed(() -> {
+				RetentionTask retention = GTS.getInstance().getRetentionTask();
+				if(retention.start()) {
+					sender.sendMessage(ChatColor.GRAY + "Started purging storage, the outcome will be written to the console");
+				} else if(retention.isRunning()) {
+					sender.sendMessage(ChatColor.GRAY + "Storage is already being purged");
+				} else {
+					sender.sendMessage(ChatColor.GRAY + "Nothing is set to be purged, see retention within the config");
+				}
+			});
 		}
 
 	}
@@ -74,4 +202,8 @@ public class SpigotGtsCmd extends BaseCommand {
 	public void onHelp(CommandSender sender, CommandHelp help) {
 		help.showHelp();
 	}
+
+	private static void timed(Runnable command) {
+		GTS.getInstance().getTickTimings().time(TickTimings.Source.COMMANDS, command);
+	}
 }
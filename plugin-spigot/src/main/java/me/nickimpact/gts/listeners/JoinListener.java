@@ -0,0 +1,67 @@
+package me.nickimpact.gts.listeners;
+
+import com.google.common.collect.Maps;
+import me.nickimpact.gts.GTS;
+import me.nickimpact.gts.api.listings.SoldListing;
+import me.nickimpact.gts.config.MsgConfigKeys;
+import me.nickimpact.gts.tasks.TickTimings;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class JoinListener implements Listener {
+
+	@EventHandler
+	public void onPlayerJoin(PlayerJoinEvent e) {
+		GTS.getInstance().getTickTimings().time(TickTimings.Source.JOIN, () -> {
+			Player player = e.getPlayer();
+			GTS.getInstance().getNameCache().put(player.getUniqueId(), player.getName());
+
+			GTS.getInstance().getAPIService().getStorage().getAllSoldListingsForPlayer(player.getUniqueId()).thenAccept(sold -> {
+				if(sold == null || sold.isEmpty()) {
+					return;
+				}
+
+				Map<String, Function<CommandSender, Optional<String>>> tokens = Maps.newHashMap();
+				double total = sold.stream().mapToDouble(SoldListing::getMoneyReceived).sum();
+				tokens.put("gts_price", src -> Optional.of(GTS.getInstance().getEconomyAdapter().format(total)));
+				if(sold.size() == 1) {
+					tokens.put("listing_name", src -> Optional.of(sold.get(0).getNameOfEntry()));
+				} else {
+					tokens.put("gts_sold_count", src -> Optional.of("" + sold.size()));
+				}
+
+				Bukkit.getScheduler().runTask(GTS.getInstance(), () -> GTS.getInstance().getTickTimings().time(TickTimings.Source.JOIN, () -> {
+					// Should the player have left in the meantime, their sales are kept to be told of next time
+					if(!player.isOnline()) {
+						return;
+					}
+
+					player.sendMessage(GTS.getInstance().getTokenService().process(sold.size() == 1 ? MsgConfigKeys.SOLD_LISTING_INFORM : MsgConfigKeys.SOLD_LISTING_SUMMARY, player, tokens, null));
+					List<UUID> ids = sold.stream().map(SoldListing::getId).collect(Collectors.toList());
+					GTS.getInstance().getAPIService().getStorage().deleteSoldListings(player.getUniqueId(), ids).exceptionally(e1 -> {
+						e1.printStackTrace();
+						return false;
+					});
+				}));
+			});
+		});
+	}
+
+	@EventHandler
+	public void onPlayerQuit(PlayerQuitEvent e) {
+		GTS.getInstance().getEconomyAdapter().invalidate(e.getPlayer().getUniqueId());
+	}
+
+}
@@ -10,7 +10,6 @@ import me.nickimpact.gts.GTS;
 import me.nickimpact.gts.api.enums.CommandResults;
 import me.nickimpact.gts.api.listings.Listing;
 import me.nickimpact.gts.api.listings.entries.Entry;
-import me.nickimpact.gts.config.ConfigKeys;
 import me.nickimpact.gts.config.MsgConfigKeys;
 import me.nickimpact.gts.spigot.SpigotEntry;
 import me.nickimpact.gts.spigot.SpigotListing;
@@ -86,6 +85,16 @@ public class SpigotItemEntry extends SpigotEntry<Map<String, Object>, ItemStack>
 		return output;
 	}
 
+	@Override
+	public List<String> getPriceKeys() {
+		return priceKeys("item", this.getEntry().getType().name());
+	}
+
+	@Override
+	public int getPriceUnits() {
+		return this.getEntry().getAmount();
+	}
+
 	@Override
 	public ItemStack baseItemStack(Player player, Listing listing) {
 		Map<String, Object> variables = Maps.newHashMap();
@@ -151,6 +160,17 @@ public class SpigotItemEntry extends SpigotEntry<Map<String, Object>, ItemStack>
 		return WordUtils.capitalizeFully(input, delimiters).replaceAll("_", " ");
 	}
 
+	/**
+	 * Checks the item against the item blacklist compiled from the current config. Item meta is only serialized
+	 * when NBT patterns have been configured and the item's type isn't already blacklisted.
+	 */
+	public static boolean isBlacklisted(ItemStack item) {
+		return GTS.getInstance().getSettings().getItemBlacklist().isBlacklisted(
+				item.getType().name(),
+				() -> item.hasItemMeta() ? item.getItemMeta().toString() : null
+		);
+	}
+
 	public static CommandResults cmdExecutor(CommandIssuer src, List<String> args, boolean permanent) {
 		if(args.size() < 2) {
 			src.sendMessage(MessageUtils.parse("Not enough arguments...", true));
@@ -188,7 +208,7 @@ public class SpigotItemEntry extends SpigotEntry<Map<String, Object>, ItemStack>
 				return CommandResults.FAILED;
 			}
 
-			if(GTS.getInstance().getConfiguration().get(ConfigKeys.BLACKLISTED_ITEMS).contains(hand.get().getType().name().toLowerCase())) {
+			if(GTS.getInstance().getAPIService().isBlacklisted(SpigotItemEntry.class, hand.get())) {
 				if(!src.hasPermission("gts.command.sell.items.bypass")) {
 					player.sendMessage(MessageUtils.parse("That item is blacklisted from being sold...", true));
 					return CommandResults.FAILED;
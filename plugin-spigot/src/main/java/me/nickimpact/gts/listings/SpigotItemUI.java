@@ -9,6 +9,7 @@ import me.nickimpact.gts.GTS;
 import me.nickimpact.gts.api.listings.entries.EntryUI;
 import me.nickimpact.gts.config.ConfigKeys;
 import me.nickimpact.gts.config.MsgConfigKeys;
+import me.nickimpact.gts.tasks.TickTimings;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
@@ -100,7 +101,7 @@ public class SpigotItemUI implements EntryUI<Player> {
 		).stream().map(l -> ChatColor.translateAlternateColorCodes('&', l)).collect(Collectors.toList()));
 		money_inc.setItemMeta(miMeta);
 		SpigotIcon miIcon = new SpigotIcon(money_inc);
-		miIcon.addListener(clickable -> {
+		miIcon.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 			if(clickable.getEvent().isShiftClick()) {
 				if(clickable.getEvent().isRightClick()) {
 					this.price = Math.min(config.get(ConfigKeys.MAX_MONEY_PRICE), this.price + config.get(ConfigKeys.PRICING_RIGHTCLICK_SHIFT));
@@ -114,7 +115,7 @@ public class SpigotItemUI implements EntryUI<Player> {
 					this.price = Math.min(config.get(ConfigKeys.MAX_MONEY_PRICE), this.price + config.get(ConfigKeys.PRICING_LEFTCLICK_BASE));
 				}
 			}
-		});
+		}));
 
 		return slb.build();
 	}
@@ -0,0 +1,181 @@
+package me.nickimpact.gts.manager;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.nickimpact.impactor.api.configuration.ConfigKey;
+import com.nickimpact.impactor.api.utilities.Time;
+import me.nickimpact.gts.GTS;
+import me.nickimpact.gts.api.storage.IGtsStorage;
+import me.nickimpact.gts.config.ConfigKeys;
+import me.nickimpact.gts.config.ConfigSnapshot;
+import me.nickimpact.gts.economy.EconomyAdapter;
+import me.nickimpact.gts.events.SpigotListingEvent;
+import me.nickimpact.gts.market.MarketContext;
+import me.nickimpact.gts.market.MarketEventBus;
+import me.nickimpact.gts.market.MarketListener;
+import me.nickimpact.gts.market.MarketMessenger;
+import me.nickimpact.gts.market.MarketPlayers;
+import me.nickimpact.gts.market.MarketServices;
+import me.nickimpact.gts.metrics.Tracer;
+import me.nickimpact.gts.spigot.MessageUtils;
+import me.nickimpact.gts.spigot.SpigotListing;
+import me.nickimpact.gts.tasks.TickTimings;
+import me.nickimpact.gts.utils.DateTimeFormatUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Connects the market engine to Bukkit: its players, its message templates, its events, and the GTS services
+ * held by the plugin.
+ */
+public class SpigotMarket implements MarketPlayers<SpigotListing>, MarketMessenger, MarketListener<SpigotListing>, MarketServices {
+
+	@Override
+	public boolean isOnline(UUID uuid) {
+		return Bukkit.getPlayer(uuid) != null;
+	}
+
+	@Override
+	public boolean takeEntry(UUID lister, SpigotListing listing) {
+		Player player = Bukkit.getPlayer(lister);
+		return player != null && listing.getEntry().doTakeAway(player);
+	}
+
+	@Override
+	public boolean giveEntry(UUID receiver, SpigotListing listing) {
+		return listing.getEntry().giveEntry(Bukkit.getOfflinePlayer(receiver));
+	}
+
+	@Override
+	public void send(UUID recipient, ConfigKey<?> key, MarketContext context) {
+		Player player = Bukkit.getPlayer(recipient);
+		if(player == null) {
+			return;
+		}
+
+		Player subject = Bukkit.getPlayer(context.getSubject());
+		player.sendMessage(this.render(key, subject != null ? subject : player, context));
+	}
+
+	@Override
+	public void broadcast(ConfigKey<?> key, MarketContext context, Predicate<UUID> recipients) {
+		for(Player player : Bukkit.getOnlinePlayers()) {
+			if(recipients.test(player.getUniqueId())) {
+				GTS.getInstance().getWorkQueue().submit(TickTimings.Source.BROADCASTS, () -> {
+					if(player.isOnline()) {
+						player.sendMessage(this.render(key, player, context));
+					}
+				});
+			}
+		}
+	}
+
+	@Override
+	public boolean onListing(UUID lister, SpigotListing listing) {
+		SpigotListingEvent event = new SpigotListingEvent(Bukkit.getPlayer(lister), listing);
+		Bukkit.getPluginManager().callEvent(event);
+		return !event.isCancelled();
+	}
+
+	@Override
+	public void onListed(UUID lister, SpigotListing listing) {
+		List<String> details = Lists.newArrayList("");
+		details.addAll(listing.getEntry().getDetails());
+		String discord = MessageUtils.asSingleWithNewlines(Lists.newArrayList(
+				"Publisher: " + GTS.getInstance().getNameCache().get(listing.getOwnerUUID(), ""),
+				"Publisher Identifier: " + listing.getOwnerUUID().toString(),
+				"",
+				"Published Item: " + listing.getName(),
+				"Item Details: " + MessageUtils.asSingleWithNewlines(details),
+				"",
+				"Requested Price: " + listing.getPrice().getText().toString(),
+				"Expiration Time: " + DateTimeFormatUtils.formatExpiration(listing)
+		));
+
+		GTS.getInstance().getDiscordNotifier().publish(GTS.getInstance().getConfiguration().get(ConfigKeys.DISCORD_NEW_LISTING), () -> discord);
+	}
+
+	@Override
+	public void onPurchased(UUID buyer, SpigotListing listing) {
+		List<String> details = Lists.newArrayList("");
+		details.addAll(listing.getEntry().getDetails());
+		String discord = MessageUtils.asSingleWithNewlines(Lists.newArrayList(
+				"Publisher: " + GTS.getInstance().getNameCache().get(listing.getOwnerUUID(), ""),
+				"Publisher Identifier: " + listing.getOwnerUUID().toString(),
+				"",
+				"Buyer: " + GTS.getInstance().getNameCache().get(buyer, ""),
+				"Buyer Identifier: " + buyer.toString(),
+				"",
+				"Published Item: " + listing.getName(),
+				"Item Details: " + MessageUtils.asSingleWithNewlines(details)
+		));
+
+		GTS.getInstance().getDiscordNotifier().publish(GTS.getInstance().getConfiguration().get(ConfigKeys.DISCORD_SELL_LISTING), () -> discord);
+	}
+
+	@Override
+	public void onLoaded(List<SpigotListing> listings) {
+		GTS.getInstance().getNameCache().prefetch(listings.stream().map(SpigotListing::getOwnerUUID).collect(Collectors.toSet()));
+		GTS.getInstance().getPluginLogger().info("Successfully read in " + ChatColor.AQUA + listings.size() + " listings!");
+	}
+
+	@Override
+	public IGtsStorage getStorage() {
+		return GTS.getInstance().getAPIService().getStorage();
+	}
+
+	@Override
+	public ConfigSnapshot getSettings() {
+		return GTS.getInstance().getSettings();
+	}
+
+	@Override
+	public EconomyAdapter getEconomy() {
+		return GTS.getInstance().getEconomyAdapter();
+	}
+
+	@Override
+	public Tracer getTracer() {
+		return GTS.getInstance().getTracer();
+	}
+
+	@Override
+	public MarketEventBus getEvents() {
+		return GTS.getInstance().getService().getEvents();
+	}
+
+	@SuppressWarnings("unchecked")
+	private String[] render(ConfigKey<?> key, CommandSender source, MarketContext context) {
+		Map<String, Function<CommandSender, Optional<String>>> tokens = Maps.newHashMap();
+		if(context.getCooldown() > 0) {
+			tokens.put("gts_cooldown_wait_time", src -> Optional.of(new Time(context.getCooldown()).toString()));
+		}
+		if(context.getTax() != null) {
+			tokens.put("tax", src -> Optional.of(GTS.getInstance().getEconomyAdapter().format(context.getTax())));
+		}
+		if(context.getMinPrice() != null) {
+			tokens.put("min_price", src -> Optional.of(GTS.getInstance().getEconomyAdapter().format(context.getMinPrice().getPrice())));
+		}
+
+		Map<String, Object> variables = Maps.newHashMap();
+		variables.put("listing", context.getListing());
+		variables.put("entry", context.getListing().getEntry().getEntry());
+
+		Object message = GTS.getInstance().getTokenService().process(key, source, tokens, variables);
+		if(message instanceof List) {
+			return ((List<String>) message).toArray(new String[]{});
+		}
+
+		return new String[]{(String) message};
+	}
+}
@@ -3,12 +3,14 @@ package me.nickimpact.gts.tasks;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.nickimpact.impactor.api.configuration.Config;
 import me.nickimpact.gts.GTS;
+import me.nickimpact.gts.api.metrics.Timer;
 import me.nickimpact.gts.config.ConfigKeys;
 import me.nickimpact.gts.config.MsgConfigKeys;
-import me.nickimpact.gts.discord.DiscordNotifier;
-import me.nickimpact.gts.discord.Message;
+import me.nickimpact.gts.metrics.Trace;
+import me.nickimpact.gts.metrics.Tracer;
 import me.nickimpact.gts.spigot.SpigotListing;
 import me.nickimpact.gts.spigot.MessageUtils;
 import org.bukkit.Bukkit;
@@ -18,53 +20,76 @@ import org.bukkit.OfflinePlayer;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 public class SpigotListingTasks implements ListingTasks<SpigotListing> {
 
+	/** Listings which have been handed to the work queue, but have yet to be processed */
+	private final Set<UUID> queued = Sets.newHashSet();
+
+	/** Times each pass over the market looking for expired listings */
+	private final Timer scans = GTS.getInstance().getAPIService().getMetrics().timer("tasks.expiry.scan");
+
+	/** Times the handling of each expired listing on the server thread */
+	private final Timer expiries = GTS.getInstance().getAPIService().getMetrics().timer("tasks.expiry.process");
+
 	@Override
 	public void createExpirationTask() {
-		Bukkit.getScheduler().runTaskTimer(GTS.getInstance(), () -> {
-			final List<SpigotListing> listings = ImmutableList.copyOf(GTS.getInstance().getAPIService().getListingManager().getListings());
-			listings.stream().filter(listing -> listing.getExpiration().isBefore(LocalDateTime.now())).forEach(listing -> {
-				if(expire(listing)) {
-					GTS.getInstance().getAPIService().getListingManager().deleteListing(listing);
+		Bukkit.getScheduler().runTaskTimer(GTS.getInstance(), () -> GTS.getInstance().getTickTimings().time(TickTimings.Source.EXPIRY, () -> this.scans.time(this::scan)), 0, 20);
+	}
+
+	private void scan() {
+		final List<SpigotListing> listings = ImmutableList.copyOf(GTS.getInstance().getAPIService().getListingManager().getListings());
+		LocalDateTime now = LocalDateTime.now();
+		listings.stream().filter(listing -> listing.getExpiration().isBefore(now) && this.queued.add(listing.getUuid())).forEach(listing -> {
+			GTS.getInstance().getWorkQueue().submit(TickTimings.Source.EXPIRY, () -> {
+				this.queued.remove(listing.getUuid());
+				if(!GTS.getInstance().getAPIService().getListingManager().getListingByID(listing.getUuid()).isPresent()) {
+					// Taken off the market since it was queued, so it's no longer ours to return
+					return;
+				}
+
+				try(Trace trace = GTS.getInstance().getTracer().start("expire", listing.getUuid())) {
+					if(this.expiries.time(() -> expire(listing))) {
+						trace.phase("remove", () -> GTS.getInstance().getAPIService().getListingManager().deleteListing(listing));
+					}
 				}
 			});
-		}, 0, 20);
+		});
 	}
 
 	@Override
 	public boolean expire(SpigotListing listing) {
-		OfflinePlayer owner = Bukkit.getOfflinePlayer(listing.getOwnerUUID());
+		Trace trace = Tracer.active();
+		OfflinePlayer owner = trace.phase("lookup", () -> Bukkit.getOfflinePlayer(listing.getOwnerUUID()));
 		if(!owner.isOnline()) {
 			// Offline player provider
 			if(listing.getEntry().supportsOffline()) {
-				return listing.getEntry().giveEntry(owner);
+				return trace.phase("give_entry", () -> listing.getEntry().giveEntry(owner));
 			}
 			return false;
 		}
 
-		if(!listing.getEntry().giveEntry(owner)) {
+		if(!trace.phase("give_entry", () -> listing.getEntry().giveEntry(owner))) {
 			return false;
 		}
 
 		Map<String, Object> variables = Maps.newHashMap();
 		variables.put("listing", listing);
-		owner.getPlayer().sendMessage(GTS.getInstance().getTokenService().process(MsgConfigKeys.REMOVAL_EXPIRES, owner.getPlayer(), null, variables).toArray(new String[]{}));
+		trace.phase("messages", () -> owner.getPlayer().sendMessage(GTS.getInstance().getTokenService().process(MsgConfigKeys.REMOVAL_EXPIRES, owner.getPlayer(), null, variables).toArray(new String[]{})));
 
 		List<String> details = Lists.newArrayList("");
 		details.addAll(listing.getEntry().getDetails());
 		String discord = MessageUtils.asSingleWithNewlines(Lists.newArrayList(
-				"Publisher: " + Bukkit.getOfflinePlayer(listing.getOwnerUUID()).getName(),
+				"Publisher: " + GTS.getInstance().getNameCache().get(listing.getOwnerUUID(), owner.getName()),
 				"Publisher Identifier: " + listing.getOwnerUUID().toString(),
 				"",
 				"Published Item: " + listing.getName(),
 				"Item Details: " + MessageUtils.asSingleWithNewlines(details)
 		));
 
-		DiscordNotifier notifier = new DiscordNotifier(GTS.getInstance());
-		Message message = notifier.forgeMessage(GTS.getInstance().getConfiguration().get(ConfigKeys.DISCORD_EXPIRE), discord);
-		notifier.sendMessage(message);
+		trace.phase("events", () -> GTS.getInstance().getDiscordNotifier().publish(GTS.getInstance().getConfiguration().get(ConfigKeys.DISCORD_EXPIRE), () -> discord));
 
 		return true;
 	}
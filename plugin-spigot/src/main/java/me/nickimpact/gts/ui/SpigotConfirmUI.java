@@ -8,11 +8,10 @@ import me.nickimpact.gts.GTS;
 import me.nickimpact.gts.api.searching.Searcher;
 import me.nickimpact.gts.config.ConfigKeys;
 import me.nickimpact.gts.config.MsgConfigKeys;
-import me.nickimpact.gts.discord.DiscordNotifier;
-import me.nickimpact.gts.discord.Message;
+import me.nickimpact.gts.manager.SpigotListingManager;
 import me.nickimpact.gts.spigot.SpigotListing;
 import me.nickimpact.gts.spigot.MessageUtils;
-import org.bukkit.Bukkit;
+import me.nickimpact.gts.tasks.TickTimings;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
@@ -63,7 +62,7 @@ public class SpigotConfirmUI {
 			meta.setDisplayName(GTS.getInstance().getTokenService().process(MsgConfigKeys.CONFIRM_SELECTION, viewer, null, null));
 			item.setItemMeta(meta);
 			SpigotIcon confirm = new SpigotIcon(item);
-			confirm.addListener(clickable -> {
+			confirm.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 				SpigotLayout layout = this.view.getLayout();
 				SpigotLayout.SpigotLayoutBuilder slb = SpigotLayout.builder().from(layout);
 
@@ -80,15 +79,15 @@ public class SpigotConfirmUI {
 				c.setDisplayName(GTS.getInstance().getTokenService().process(MsgConfigKeys.CONFIRM_PURCHASE, viewer, null, null));
 				click.setItemMeta(c);
 				SpigotIcon cl = new SpigotIcon(click);
-				cl.addListener(c2 -> {
+				cl.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, c2 -> {
 					if (this.confirmed) {
 						GTS.getInstance().getAPIService().getListingManager().purchase(c2.getPlayer().getUniqueId(), this.focus);
 						this.view.close(c2.getPlayer());
 					}
-				});
+				}));
 				slb.slots(cl, 46, 47, 48);
 				this.view.define(slb.build());
-			});
+			}));
 			builder.hollowSquare(confirm, 22);
 
 			ItemStack require = new ItemStack(Material.BARRIER);
@@ -102,30 +101,29 @@ public class SpigotConfirmUI {
 			m.setDisplayName(GTS.getInstance().getTokenService().process(MsgConfigKeys.REMOVE_BUTTON, viewer, null, null));
 			remover.setItemMeta(m);
 			SpigotIcon icon = new SpigotIcon(remover);
-			icon.addListener(clickable -> {
+			icon.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 				this.view.close(clickable.getPlayer());
-				if(!GTS.getInstance().getAPIService().getListingManager().getListingByID(this.focus.getUuid()).isPresent()) {
+				// Expired listings are returned by the expiration task, which may already be handing this one back
+				if(this.focus.hasExpired() || !GTS.getInstance().getAPIService().getListingManager().getListingByID(this.focus.getUuid()).isPresent()) {
 					clickable.getPlayer().sendMessage(GTS.getInstance().getTokenService().process(MsgConfigKeys.REMOVED_MISSING, viewer, null, null).toArray(new String[]{}));
 					return;
 				}
 
 				this.focus.getEntry().giveEntry(clickable.getPlayer());
-				GTS.getInstance().getAPIService().getListingManager().deleteListing(this.focus);
+				((SpigotListingManager) GTS.getInstance().getAPIService().getListingManager()).deleteListing(this.focus, clickable.getPlayer().getUniqueId());
 
 				List<String> details = Lists.newArrayList("");
 				details.addAll(this.focus.getEntry().getDetails());
 				String discord = MessageUtils.asSingleWithNewlines(Lists.newArrayList(
-						"Publisher: " + Bukkit.getOfflinePlayer(this.focus.getOwnerUUID()).getName(),
+						"Publisher: " + GTS.getInstance().getNameCache().get(this.focus.getOwnerUUID(), ""),
 						"Publisher Identifier: " + this.focus.getOwnerUUID().toString(),
 						"",
 						"Published Item: " + this.focus.getName(),
 						"Item Details: " + MessageUtils.asSingleWithNewlines(details)
 				));
 
-				DiscordNotifier notifier = new DiscordNotifier(GTS.getInstance());
-				Message message = notifier.forgeMessage(GTS.getInstance().getConfiguration().get(ConfigKeys.DISCORD_REMOVE), discord);
-				notifier.sendMessage(message);
-			});
+				GTS.getInstance().getDiscordNotifier().publish(GTS.getInstance().getConfiguration().get(ConfigKeys.DISCORD_REMOVE), () -> discord);
+			}));
 			builder.slots(icon, 46, 47, 48);
 		}
 
@@ -134,10 +132,10 @@ public class SpigotConfirmUI {
 		cMeta.setDisplayName(GTS.getInstance().getTokenService().process(MsgConfigKeys.CANCEL, viewer, null, null));
 		cancel.setItemMeta(cMeta);
 		SpigotIcon icon = new SpigotIcon(cancel);
-		icon.addListener(clickable -> {
+		icon.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 			this.view.close(this.viewer);
 			new SpigotMainUI(this.viewer, this.searcher, this.input).open();
-		});
+		}));
 		builder.slots(icon, 50, 51, 52);
 
 		return builder.build();
@@ -13,7 +13,10 @@ import me.nickimpact.gts.api.listings.ListingManager;
 import me.nickimpact.gts.api.listings.entries.Entry;
 import me.nickimpact.gts.api.searching.Searcher;
 import me.nickimpact.gts.config.MsgConfigKeys;
+import me.nickimpact.gts.metrics.Trace;
 import me.nickimpact.gts.spigot.SpigotListing;
+import me.nickimpact.gts.tasks.TickTimings;
+import me.nickimpact.gts.utils.Cooldowns;
 import org.apache.commons.lang.StringUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -25,19 +28,20 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 import javax.annotation.Nullable;
-import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 public class SpigotMainUI {
 
-	private static Map<UUID, Instant> delays = Maps.newHashMap();
+	/** Throttles how often a player may swap the classification filter, as each swap re-filters the market */
+	private static final Cooldowns filterDelays = new Cooldowns();
 
 	private SpigotPage<SpigotListing> page;
 	private Player viewer;
@@ -86,25 +90,27 @@ public class SpigotMainUI {
 				.build();
 		this.page.applier(listing -> {
 			SpigotIcon icon = new SpigotIcon(listing.getDisplay(this.viewer));
-			icon.addListener(clickable -> {
+			icon.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 				UUID uuid = listing.getUuid();
 				if(GTS.getInstance().getAPIService().getListingManager().getListingByID(uuid).isPresent()) {
 					this.page.close();
 					new SpigotConfirmUI(this.viewer, listing, this.searcher, this.input).open();
 				}
-			});
+			}));
 
 			return icon;
 		});
-		this.page.define(this.getListings());
 		this.page.getView().attachCloseListener(e -> {
 			Bukkit.getScheduler().cancelTask(this.runner);
 		});
 	}
 
 	public void open() {
-		this.page.open();
-		this.runner = Bukkit.getScheduler().runTaskTimer(GTS.getInstance(), this::apply, 0, 20).getTaskId();
+		try(Trace trace = GTS.getInstance().getTracer().start("ui.open", this.viewer.getUniqueId())) {
+			trace.phase("render", this::apply);
+			trace.phase("open", () -> this.page.open());
+		}
+		this.runner = Bukkit.getScheduler().runTaskTimer(GTS.getInstance(), () -> GTS.getInstance().getTickTimings().time(TickTimings.Source.UI, this::apply), 20, 20).getTaskId();
 	}
 
 	private SpigotLayout design() {
@@ -118,9 +124,9 @@ public class SpigotMainUI {
 		rMeta.setDisplayName(GTS.getInstance().getTokenService().process(MsgConfigKeys.UI_ITEMS_REFRESH_TITLE, viewer, null, null));
 		refresher.setItemMeta(rMeta);
 		SpigotIcon rIcon = new SpigotIcon(refresher);
-		rIcon.addListener(clickable -> {
+		rIcon.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 			this.apply();
-		});
+		}));
 
 		builder.slot(rIcon, 49);
 
@@ -132,13 +138,13 @@ public class SpigotMainUI {
 		pMeta.hasItemFlag(ItemFlag.HIDE_ENCHANTS);
 		pListings.setItemMeta(pMeta);
 		SpigotIcon pIcon = new SpigotIcon(pListings);
-		pIcon.addListener(clickable -> {
+		pIcon.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 			this.justPlayer = !this.justPlayer;
 			pMeta.setLore(Lists.newArrayList(GTS.getInstance().getTokenService().process(this.justPlayer ? MsgConfigKeys.UI_ITEMS_PLAYER_LISTINGS_LORE_ENABLED : MsgConfigKeys.UI_ITEMS_PLAYER_LISTINGS_LORE_DISABLED, viewer, null, null)));
 			pListings.setItemMeta(pMeta);
 			this.page.getView().setSlot(45, pIcon);
 			this.apply();
-		});
+		}));
 		builder.slot(pIcon, 45);
 
 		if(classifications.size() != 0) {
@@ -156,7 +162,7 @@ public class SpigotMainUI {
 	}
 
 	private void apply() {
-		this.page.define(this.getListings());
+		GTS.getInstance().getAPIService().getMetrics().timer("ui.market.render").time(() -> this.page.define(this.getListings()));
 	}
 
 	private List<SpigotListing> getListings() {
@@ -208,7 +214,7 @@ public class SpigotMainUI {
 		rep.setItemMeta(repMeta);
 
 		SpigotIcon icon = new SpigotIcon(rep);
-		icon.addListener(clickable -> {
+		icon.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 			if(clickable.getEvent().isRightClick()) {
 				if(index + 1 >= classifications.size()) {
 					index = -1;
@@ -216,10 +222,8 @@ public class SpigotMainUI {
 
 				this.page.getView().setSlot(53, this.classificationToIcon(classifications.get(++index)));
 			} else {
-				if (delays.containsKey(clickable.getPlayer().getUniqueId())) {
-					if (!Instant.now().isAfter(delays.get(clickable.getPlayer().getUniqueId()))) {
-						return;
-					}
+				if(!filterDelays.tryAcquire(clickable.getPlayer().getUniqueId(), 3, TimeUnit.SECONDS)) {
+					return;
 				}
 
 				List<String> l = repMeta.getLore();
@@ -237,9 +241,8 @@ public class SpigotMainUI {
 
 				this.page.getView().setSlot(53, icon);
 				this.apply();
-				delays.put(clickable.getPlayer().getUniqueId(), Instant.now().plusSeconds(3));
 			}
-		});
+		}));
 
 		return icon;
 	}
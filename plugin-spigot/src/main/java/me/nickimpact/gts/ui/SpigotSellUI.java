@@ -12,6 +12,7 @@ import me.nickimpact.gts.GTS;
 import me.nickimpact.gts.api.holders.EntryClassification;
 import me.nickimpact.gts.api.holders.EntryRegistry;
 import me.nickimpact.gts.config.MsgConfigKeys;
+import me.nickimpact.gts.tasks.TickTimings;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
@@ -76,10 +77,10 @@ public class SpigotSellUI {
 			display.setItemMeta(meta);
 
 			SpigotIcon icon = new SpigotIcon(display);
-			icon.addListener(clickable -> {
+			icon.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 				this.ui.close(this.viewer);
 				classification.getUi().createFor(viewer).getDisplay().open(viewer);
-			});
+			}));
 			icons.add(icon);
 		}
 
@@ -10,4 +10,13 @@ CREATE TABLE `{prefix}listings_v3` (
 CREATE TABLE `{prefix}ignorers` (
   `uuid`      VARCHAR(36) NOT NULL,
   PRIMARY KEY (`uuid`)
+) DEFAULT CHARSET = utf8;
+
+CREATE TABLE `{prefix}sold` (
+  `id`          VARCHAR(36)     NOT NULL,
+  `owner`       VARCHAR(36)     NOT NULL,
+  `name`        VARCHAR(200)    NOT NULL,
+  `price`       NUMERIC(12, 2)  NOT NULL,
+  `sold_at`     TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`id`)
 ) DEFAULT CHARSET = utf8;
\ No newline at end of file
@@ -30,47 +30,71 @@ import me.nickimpact.gts.api.holders.EntryRegistry;
 import me.nickimpact.gts.api.listings.Listing;
 import me.nickimpact.gts.api.listings.entries.Entry;
 import me.nickimpact.gts.api.plugin.PluginInstance;
+import me.nickimpact.gts.audit.AuditLog;
 import me.nickimpact.gts.commands.SpongeEntryClassificationContextHandler;
 import me.nickimpact.gts.commands.SpongeGtsCmd;
 import me.nickimpact.gts.config.ConfigKeys;
+import me.nickimpact.gts.config.ConfigSnapshot;
 import me.nickimpact.gts.config.MsgConfigKeys;
 import me.nickimpact.gts.deprecated.ItemEntry;
 import me.nickimpact.gts.deprecated.adapters.OldEntryAdapter;
 import me.nickimpact.gts.deprecated.adapters.OldPriceAdapter;
 import me.nickimpact.gts.discord.DiscordNotifier;
+import me.nickimpact.gts.economy.EconomyTimings;
 import me.nickimpact.gts.json.DataContainerAdapter;
 import me.nickimpact.gts.json.EntryAdapter;
 import me.nickimpact.gts.listeners.JoinListener;
+import me.nickimpact.gts.listings.ItemMinPricing;
 import me.nickimpact.gts.listings.SpongeItemEntry;
 import me.nickimpact.gts.listings.SpongeItemUI;
 import me.nickimpact.gts.listings.searching.ItemSearcher;
 import me.nickimpact.gts.manager.SpongeListingManager;
+import me.nickimpact.gts.metrics.MetricsDump;
+import me.nickimpact.gts.metrics.MetricsRegistry;
+import me.nickimpact.gts.metrics.Tracer;
+import me.nickimpact.gts.pricing.PriceHistory;
+import me.nickimpact.gts.pricing.PriceRules;
 import me.nickimpact.gts.sponge.*;
+import me.nickimpact.gts.sponge.economy.SpongeEconomyAdapter;
 import me.nickimpact.gts.sponge.service.SpongeGtsService;
 import me.nickimpact.gts.storage.StorageFactory;
+import me.nickimpact.gts.tasks.MainThreadQueue;
+import me.nickimpact.gts.tasks.RetentionTask;
+import me.nickimpact.gts.tasks.TickTimings;
 import me.nickimpact.gts.tasks.SpongeListingTasks;
 import me.nickimpact.gts.sponge.text.TokenService;
 import me.nickimpact.gts.text.ItemTokens;
+import me.nickimpact.gts.ui.ListingViewTracker;
+import me.nickimpact.gts.utils.Memoized;
+import me.nickimpact.gts.utils.NameCache;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.config.ConfigDir;
 import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.key.Keys;
+import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.game.GameReloadEvent;
 import org.spongepowered.api.event.game.state.GamePostInitializationEvent;
 import org.spongepowered.api.event.game.state.GamePreInitializationEvent;
 import org.spongepowered.api.event.game.state.GameStartedServerEvent;
+import org.spongepowered.api.event.game.state.GameStoppingServerEvent;
 import org.spongepowered.api.event.service.ChangeServiceProviderEvent;
+import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.plugin.Dependency;
 import org.spongepowered.api.plugin.Plugin;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.scheduler.AsynchronousExecutor;
 import org.spongepowered.api.scheduler.SpongeExecutorService;
+import org.spongepowered.api.scheduler.SynchronousExecutor;
 import org.spongepowered.api.service.economy.EconomyService;
+import org.spongepowered.api.service.user.UserStorageService;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
@@ -98,16 +122,31 @@ public class GTS extends AbstractSpongePlugin implements SpongePlugin {
 
 	private Config config;
 	private Config msgConfig;
+	private volatile ConfigSnapshot settings;
+	private NameCache nameCache;
 
 	private SpongeGtsService service;
 
 	private EconomyService economy;
+	private SpongeEconomyAdapter economyAdapter;
+	private final EconomyTimings economyTimings = new EconomyTimings();
 	private TextParsingUtils textParsingUtils;
 
 	private Gson gson;
 
 	private DiscordNotifier discordNotifier;
 
+	private PriceRules<ItemStack> itemMinPricing;
+
+	private ListingViewTracker viewTracker;
+	private MainThreadQueue workQueue;
+	private TickTimings tickTimings;
+	private MetricsDump metricsDump;
+	private AuditLog auditLog;
+	private PriceHistory priceHistory;
+	private RetentionTask retentionTask;
+	private Tracer tracer;
+
 	private SpongeCommandManager cmdManager;
 
 	private PluginClassLoader loader;
@@ -117,6 +156,10 @@ public class GTS extends AbstractSpongePlugin implements SpongePlugin {
 	@AsynchronousExecutor
 	private SpongeExecutorService async;
 
+	@Inject
+	@SynchronousExecutor
+	private SpongeExecutorService sync;
+
 	public GTS() {
 		instance = this;
 		PluginInstance.setInstance(this);
@@ -125,15 +168,40 @@ public class GTS extends AbstractSpongePlugin implements SpongePlugin {
 
 	@Listener
 	public void onReload(GameReloadEvent e) {
+		this.reload();
+	}
+
+	/**
+	 * Reloads the config and message config, then rebuilds everything derived from them. Each derived value
+	 * is replaced wholesale, so anything reading them mid-reload sees either the old value or the new one.
+	 */
+	public void reload() {
 		this.config.reload();
 		this.msgConfig.reload();
+		this.settings = new ConfigSnapshot(this.config, this.logger);
+		this.tracer.configure(this.settings.isTracingEnabled(), this.settings.getTracingThreshold(), this.settings.getTracingBufferSize());
+		this.itemMinPricing = ItemMinPricing.compile(this.config, this.logger);
+		Memoized.invalidateAll();
+		if(this.metricsDump != null) {
+			this.metricsDump.schedule();
+		}
+		if(this.auditLog != null) {
+			this.auditLog.configure();
+		}
+		if(this.priceHistory != null) {
+			this.priceHistory.configure();
+		}
+		if(this.retentionTask != null) {
+			this.retentionTask.schedule();
+		}
 	}
 
 	@Listener
 	public void registerServices(ChangeServiceProviderEvent e) {
 		if(e.getService().equals(EconomyService.class)) {
 			this.economy = (EconomyService) e.getNewProviderRegistration().getProvider();
-			MoneyPrice.setEconomy(this.economy);
+			this.economyAdapter = new SpongeEconomyAdapter(this.economy, this.economyTimings);
+			MoneyPrice.setEconomy(this.economyAdapter);
 		} else if(e.getService().equals(NucleusMessageTokenService.class)) {
 			this.textParsingUtils = new TextParsingUtils(this);
 		}
@@ -142,6 +210,7 @@ public class GTS extends AbstractSpongePlugin implements SpongePlugin {
 	@Listener
 	public void onPreInit(GamePreInitializationEvent e) {
 		this.logger = new SpongeLogger(this, this.fallback);
+		this.tracer = new Tracer(this.logger);
 		((GTSInfo)this.getPluginInfo()).displayBanner();
 		this.logger.info("Initializing GTS...");
 		this.logger.info("Registering Service with Sponge...");
@@ -150,6 +219,14 @@ public class GTS extends AbstractSpongePlugin implements SpongePlugin {
 		logger.info("Loading configuration...");
 		this.config = new SpongeConfig(new SpongeConfigAdapter(this, new File(this.configDir.toFile(), "gts.conf")), new ConfigKeys());
 		this.msgConfig = new SpongeConfig(new SpongeConfigAdapter(this, new File(this.configDir.toFile(), "lang/en_us.conf")), new MsgConfigKeys());
+		this.settings = new ConfigSnapshot(this.config, this.logger);
+		this.tracer.configure(this.settings.isTracingEnabled(), this.settings.getTracingThreshold(), this.settings.getTracingBufferSize());
+		this.itemMinPricing = ItemMinPricing.compile(this.config, this.logger);
+		this.nameCache = new NameCache(
+				uuid -> Sponge.getServiceManager().provideUnchecked(UserStorageService.class).get(uuid).map(User::getName),
+				this.sync,
+				this.config.get(ConfigKeys.NAME_CACHE_TTL)
+		);
 
 		this.logger.info("Loading default entry types...");
 		this.service.setRegistry(new EntryRegistry(this));
@@ -162,6 +239,7 @@ public class GTS extends AbstractSpongePlugin implements SpongePlugin {
 					"diamond",
 					SpongeItemEntry::cmdExecutor
 			);
+			this.service.registerBlacklist(SpongeItemEntry.class, SpongeItemEntry::isBlacklisted);
 		} else {
 			this.logger.info("Ignoring item entry type (disabled in configuration)");
 		}
@@ -247,7 +325,38 @@ public class GTS extends AbstractSpongePlugin implements SpongePlugin {
 		this.service.setStorage(new StorageFactory(this).getInstance(StorageType.JSON));
 
 		logger.info("Deploying running tasks...");
+		this.tickTimings = new TickTimings(this, () -> this.settings.getTickShareWarning());
+		this.workQueue = new MainThreadQueue(this, () -> this.settings.getTickBudget(), this.tickTimings);
+		Sponge.getScheduler().createTaskBuilder().execute(() -> {
+			this.workQueue.tick();
+			this.tickTimings.rollover();
+		}).intervalTicks(1).name("GTS - Work Queue").submit(this);
 		new SpongeListingTasks().createExpirationTask();
+		this.viewTracker = new ListingViewTracker();
+		this.viewTracker.start();
+
+		logger.info("Registering metrics...");
+		MetricsRegistry metrics = this.service.getMetrics();
+		metrics.gauge("listings.active", () -> this.service.getListingManager().getListings().size());
+		metrics.gauge("listings.ignorers", () -> this.service.getListingManager().getIgnorers().size());
+		metrics.gauge("cache.names", this.nameCache::size);
+		metrics.gauge("queue.main_thread.depth", this.workQueue::getQueueDepth);
+		this.tickTimings.register(metrics);
+		this.metricsDump = new MetricsDump(this, metrics);
+		this.metricsDump.schedule();
+
+		logger.info("Opening audit log...");
+		this.auditLog = new AuditLog(this, this.service.getEvents());
+		this.auditLog.configure();
+
+		logger.info("Loading price history...");
+		this.priceHistory = new PriceHistory(this, this.service.getEvents());
+		this.priceHistory.configure();
+
+		logger.info("Scheduling storage retention...");
+		this.retentionTask = new RetentionTask(this, uuid -> Sponge.getServiceManager().provideUnchecked(UserStorageService.class).get(uuid)
+				.flatMap(user -> user.isOnline() ? Optional.of(Instant.now()) : user.get(Keys.LAST_DATE_PLAYED)), this.sync);
+		this.retentionTask.schedule();
 
 		logger.info("&aStartup complete!");
 	}
@@ -258,6 +367,26 @@ public class GTS extends AbstractSpongePlugin implements SpongePlugin {
 		this.service.getListingManager().readStorage();
 	}
 
+	@Listener
+	public void onStop(GameStoppingServerEvent event) {
+		if(this.auditLog != null) {
+			this.auditLog.close();
+		}
+		if(this.priceHistory != null) {
+			this.priceHistory.close();
+		}
+		if(this.viewTracker != null) {
+			this.viewTracker.shutdown();
+		}
+		if(this.retentionTask != null) {
+			this.retentionTask.close();
+		}
+		this.service.getEvents().shutdown();
+		if(this.discordNotifier != null) {
+			this.discordNotifier.shutdown();
+		}
+	}
+
 	@Override
 	public GtsService getAPIService() {
 		return this.service;
@@ -322,7 +451,7 @@ public class GTS extends AbstractSpongePlugin implements SpongePlugin {
 
 	@Override
 	public Consumer<ImpactorPlugin> onReload() {
-		return plugin -> {};
+		return plugin -> this.reload();
 	}
 
 	@Override
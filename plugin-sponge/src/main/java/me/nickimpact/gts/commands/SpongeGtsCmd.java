@@ -6,15 +6,27 @@ import co.aikar.commands.CommandIssuer;
 import co.aikar.commands.annotation.*;
 import me.nickimpact.gts.GTS;
 import me.nickimpact.gts.api.holders.EntryClassification;
-import me.nickimpact.gts.api.listings.Listing;
 import me.nickimpact.gts.api.listings.ListingManager;
+import me.nickimpact.gts.api.plugin.Extension;
 import me.nickimpact.gts.api.searching.Searcher;
+import me.nickimpact.gts.config.ConfigKeys;
 import me.nickimpact.gts.config.MsgConfigKeys;
+import me.nickimpact.gts.manager.SpongeListingManager;
+import me.nickimpact.gts.metrics.Trace;
+import me.nickimpact.gts.pricing.PriceSummary;
+import me.nickimpact.gts.sponge.MoneyPrice;
+import me.nickimpact.gts.tasks.RetentionTask;
+import me.nickimpact.gts.tasks.TickTimings;
 import me.nickimpact.gts.ui.SellUI;
 import me.nickimpact.gts.ui.SpongeMainUI;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.format.TextColors;
 
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -24,9 +36,14 @@ import java.util.stream.Collectors;
 @CommandPermission("gts.command.gts.base")
 public class SpongeGtsCmd extends BaseCommand {
 
+	private static final DateTimeFormatter TRACE_TIME = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+	/** The most price keys listed by a single search */
+	private static final int PRICE_RESULTS = 8;
+
 	@Default
 	public void execute(Player player) {
-		new SpongeMainUI(player, null, null).open();
+		timed(() -> new SpongeMainUI(player, null, null).open());
 	}
 
 	@Subcommand("sell|add")
@@ -34,41 +51,43 @@ public class SpongeGtsCmd extends BaseCommand {
 	@Description("Allows you to sell something. No type specified = User GUI")
 	@Syntax("(type) (additional arguments)")
 	public void sell(CommandIssuer issuer, @Optional EntryClassification classification, @Optional String... additionals) {
-		if(issuer.isPlayer()) {
-			Player player = issuer.getIssuer();
-
-			if (classification == null) {
-				if(GTS.getInstance().getAPIService().getEntryRegistry().getClassifications().size() == 1) {
-					if(additionals.length == 0) {
-						GTS.getInstance().getAPIService().getEntryRegistry().getClassifications().get(0).getUi().createFor(player).getDisplay().open(player);
-						return;
-					} else {
-						boolean perm = false;
-						List<String> addons = Arrays.stream(additionals).map(String::toLowerCase).collect(Collectors.toList());
-						if (addons.contains("-p")) {
-							perm = true;
-						}
+		timed(() -> {
+			if(issuer.isPlayer()) {
+				Player player = issuer.getIssuer();
 
-						GTS.getInstance().getAPIService().getEntryRegistry().getClassifications().get(0).getCmdHandler().apply(issuer, addons, perm);
-					}
-				}
-				new SellUI(player).open();
-			} else {
-				if (player.hasPermission("gts.command.sell." + classification.getPrimaryIdentifier().toLowerCase())) {
-					if (additionals.length == 0) {
-						classification.getUi().createFor(player).getDisplay().open(player);
-					} else {
-						boolean perm = false;
-						List<String> addons = Arrays.stream(additionals).map(String::toLowerCase).collect(Collectors.toList());
-						if (addons.contains("-p")) {
-							perm = true;
+				if (classification == null) {
+					if(GTS.getInstance().getAPIService().getEntryRegistry().getClassifications().size() == 1) {
+						if(additionals.length == 0) {
+							GTS.getInstance().getAPIService().getEntryRegistry().getClassifications().get(0).getUi().createFor(player).getDisplay().open(player);
+							return;
+						} else {
+							boolean perm = false;
+							List<String> addons = Arrays.stream(additionals).map(String::toLowerCase).collect(Collectors.toList());
+							if (addons.contains("-p")) {
+								perm = true;
+							}
+
+							GTS.getInstance().getAPIService().getEntryRegistry().getClassifications().get(0).getCmdHandler().apply(issuer, addons, perm);
 						}
+					}
+					new SellUI(player).open();
+				} else {
+					if (player.hasPermission("gts.command.sell." + classification.getPrimaryIdentifier().toLowerCase())) {
+						if (additionals.length == 0) {
+							classification.getUi().createFor(player).getDisplay().open(player);
+						} else {
+							boolean perm = false;
+							List<String> addons = Arrays.stream(additionals).map(String::toLowerCase).collect(Collectors.toList());
+							if (addons.contains("-p")) {
+								perm = true;
+							}
 
-						classification.getCmdHandler().apply(issuer, addons, perm);
+							classification.getCmdHandler().apply(issuer, addons, perm);
+						}
 					}
 				}
 			}
-		}
+		});
 	}
 
 	@Subcommand("ignore")
@@ -79,14 +98,14 @@ public class SpongeGtsCmd extends BaseCommand {
 		@Default
 		@Description("Silences all broadcasts from GTS")
 		public void execute(Player player) {
-			ListingManager manager = GTS.getInstance().getAPIService().getListingManager();
-			if(manager.getIgnorers().contains(player.getUniqueId())) {
-				GTS.getInstance().getAPIService().getStorage().removeIgnorer(player.getUniqueId());
-				player.sendMessage(GTS.getInstance().getTextParsingUtils().fetchAndParseMsg(player, MsgConfigKeys.IGNORE_OFF, null, null));
-			} else {
-				GTS.getInstance().getAPIService().getStorage().addIgnorer(player.getUniqueId());
-				player.sendMessage(GTS.getInstance().getTextParsingUtils().fetchAndParseMsg(player, MsgConfigKeys.IGNORE_ON, null, null));
-			}
+			timed(() -> {
+				ListingManager manager = GTS.getInstance().getAPIService().getListingManager();
+				if(manager.toggleIgnoring(player.getUniqueId())) {
+					player.sendMessage(GTS.getInstance().getTextParsingUtils().fetchAndParseMsg(player, MsgConfigKeys.IGNORE_ON, null, null));
+				} else {
+					player.sendMessage(GTS.getInstance().getTextParsingUtils().fetchAndParseMsg(player, MsgConfigKeys.IGNORE_OFF, null, null));
+				}
+			});
 		}
 	}
 
@@ -98,12 +117,48 @@ public class SpongeGtsCmd extends BaseCommand {
 		@Default
 		@Description("Searches the GTS for a set of listings matching the specified conditions")
 		public void execute(Player player, String key, @Split(" ") String criteria) {
-			java.util.Optional<Searcher> searcher = GTS.getInstance().getAPIService().getSearcher(key);
-			if(searcher.isPresent()) {
-				new SpongeMainUI(player, searcher.get(), criteria).open();
-			} else {
-				player.sendMessage(GTS.getInstance().getTextParsingUtils().fetchAndParseMsg(player, MsgConfigKeys.SEARCH_NO_OPTION, null, null));
-			}
+			timed(() -> {
+				java.util.Optional<Searcher> searcher = GTS.getInstance().getAPIService().getSearcher(key);
+				if(searcher.isPresent()) {
+					new SpongeMainUI(player, searcher.get(), criteria).open();
+				} else {
+					player.sendMessage(GTS.getInstance().getTextParsingUtils().fetchAndParseMsg(player, MsgConfigKeys.SEARCH_NO_OPTION, null, null));
+				}
+			});
+		}
+
+	}
+
+	@Subcommand("prices")
+	@Description("Shows what things have typically sold for")
+	@CommandPermission("gts.command.prices.base")
+	public class Prices extends BaseCommand {
+
+		@Default
+		@Syntax("(search) - For example, garchomp shiny")
+		public void execute(CommandSource issuer, String query) {
+			timed(() -> {
+				if(!GTS.getInstance().getConfig().get(ConfigKeys.PRICES_ENABLED)) {
+					issuer.sendMessage(Text.of(TextColors.GRAY, "Price history is disabled, see prices.enabled within the config"));
+					return;
+				}
+
+				List<PriceSummary> prices = GTS.getInstance().getPriceHistory().search(query, PRICE_RESULTS);
+				if(prices.isEmpty()) {
+					issuer.sendMessage(Text.of(TextColors.GRAY, "Nothing matching ", TextColors.YELLOW, query, TextColors.GRAY, " has sold yet"));
+					return;
+				}
+
+				issuer.sendMessage(Text.of(TextColors.YELLOW, "Typical prices for ", query, ":"));
+				for(PriceSummary price : prices) {
+					issuer.sendMessage(Text.of(
+							TextColors.AQUA, price.getKey(), TextColors.GRAY, ": ",
+							new MoneyPrice(price.getMedian()).getText(), price.getKey().startsWith("item/") ? " each" : "",
+							TextColors.GRAY, " over ", price.getSales(), " sale(s), averaging ", new MoneyPrice(price.getAverage()).getText(),
+							TextColors.GRAY, " (", new MoneyPrice(price.getLow()).getText(), TextColors.GRAY, " to ", new MoneyPrice(price.getHigh()).getText(), TextColors.GRAY, ")"
+					));
+				}
+			});
 		}
 
 	}
@@ -115,20 +170,111 @@ public class SpongeGtsCmd extends BaseCommand {
 
 		@Default
 		public void base(CommandSource issuer) {
-			issuer.sendMessage(GTS.getInstance().getTextParsingUtils().parse("{{gts_error}} Functionality coming soon...", issuer, null, null));
+			timed(() -> issuer.sendMessage(GTS.getInstance().getTextParsingUtils().parse("{{gts_error}} Functionality coming soon...", issuer, null, null)));
 		}
 
 		@Subcommand("edit")
 		@CommandPermission("gts.command.admin.edit")
 		public void edit(Player player) {
-			player.sendMessage(GTS.getInstance().getTextParsingUtils().parse("{{gts_error}} Functionality coming soon...", player, null, null));
+			timed(() -> player.sendMessage(GTS.getInstance().getTextParsingUtils().parse("{{gts_error}} Functionality coming soon...", player, null, null)));
 		}
 
 		@Subcommand("fix")
 		@CommandPermission("gts.command.admin.fix")
 		public void fix(CommandSource issuer) {
-			((List<Listing>) GTS.getInstance().getAPIService().getListingManager().getListings()).removeIf(listing -> listing.getEntry().getElement() == null);
-			issuer.sendMessage(GTS.getInstance().getTextParsingUtils().parse("{{gts_prefix}} Removed any broken listings!", issuer, null, null));
+			timed(() -> {
+				((SpongeListingManager) GTS.getInstance().getAPIService().getListingManager()).detachIf(listing -> listing.getEntry().getElement() == null);
+				GTS.getInstance().getViewTracker().invalidateAll();
+				issuer.sendMessage(GTS.getInstance().getTextParsingUtils().parse("{{gts_prefix}} Removed any broken listings!", issuer, null, null));
+			});
+		}
+
+		@Subcommand("reload")
+		@CommandPermission("gts.command.admin.reload")
+		public void reload(CommandSource issuer) {
+			timed(() -> {
+				GTS.getInstance().reload();
+				Sponge.getPluginManager().getPlugins().stream()
+						.map(PluginContainer::getInstance)
+						.filter(java.util.Optional::isPresent)
+						.map(java.util.Optional::get)
+						.filter(instance -> instance instanceof Extension)
+						.map(instance -> (Extension) instance)
+						.forEach(extension -> extension.onReload().accept(extension));
+				GTS.getInstance().getViewTracker().invalidateAll();
+				issuer.sendMessage(GTS.getInstance().getTextParsingUtils().parse("{{gts_prefix}} Reloaded the GTS configuration!", issuer, null, null));
+			});
+		}
+
+		@Subcommand("economy")
+		@CommandPermission("gts.command.admin.economy")
+		public void economy(CommandSource issuer) {
+			timed(() -> {
+				List<String> timings = GTS.getInstance().getEconomyTimings().summarise();
+				if(timings.isEmpty()) {
+					issuer.sendMessage(Text.of(TextColors.GRAY, "No economy calls have been made yet"));
+					return;
+				}
+
+				issuer.sendMessage(Text.of(TextColors.YELLOW, "Economy call timings:"));
+				for(String timing : timings) {
+					issuer.sendMessage(Text.of(TextColors.GRAY, timing));
+				}
+			});
+		}
+
+		@Subcommand("stats")
+		@CommandPermission("gts.command.admin.stats")
+		public void stats(CommandSource issuer) {
+			timed(() -> {
+				List<String> metrics = GTS.getInstance().getService().getMetrics().summarise();
+				if(metrics.isEmpty()) {
+					issuer.sendMessage(Text.of(TextColors.GRAY, "No metrics have been recorded yet"));
+					return;
+				}
+
+				issuer.sendMessage(Text.of(TextColors.YELLOW, "GTS metrics:"));
+				for(String metric : metrics) {
+					issuer.sendMessage(Text.of(TextColors.GRAY, metric));
+				}
+			});
+		}
+
+		@Subcommand("traces")
+		@CommandPermission("gts.command.admin.traces")
+		public void traces(CommandSource issuer) {
+			timed(() -> {
+				if(!GTS.getInstance().getSettings().isTracingEnabled()) {
+					issuer.sendMessage(Text.of(TextColors.GRAY, "Tracing is disabled, see metrics.tracing.enabled within the config"));
+					return;
+				}
+
+				List<Trace> traces = GTS.getInstance().getTracer().getRecent();
+				if(traces.isEmpty()) {
+					issuer.sendMessage(Text.of(TextColors.GRAY, "No slow operations have been traced yet"));
+					return;
+				}
+
+				issuer.sendMessage(Text.of(TextColors.YELLOW, "Recent slow operations, most recent first:"));
+				for(Trace trace : traces) {
+					issuer.sendMessage(Text.of(TextColors.DARK_GRAY, "[", trace.getStarted().format(TRACE_TIME), "] ", TextColors.GRAY, trace.describe()));
+				}
+			});
+		}
+
+		@Subcommand("purge")
+		@CommandPermission("gts.command.admin.purge")
+		public void purge(CommandSource issuer) {
+			timed(() -> {
+				RetentionTask retention = GTS.getInstance().getRetentionTask();
+				if(retention.start()) {
+					issuer.sendMessage(Text.of(TextColors.GRAY, "Started purging storage, the outcome will be written to the console"));
+				} else if(retention.isRunning()) {
+					issuer.sendMessage(Text.of(TextColors.GRAY, "Storage is already being purged"));
+				} else {
+					issuer.sendMessage(Text.of(TextColors.GRAY, "Nothing is set to be purged, see retention within the config"));
+				}
+			});
 		}
 
 	}
@@ -137,4 +283,8 @@ public class SpongeGtsCmd extends BaseCommand {
 	public void onHelp(Player player, CommandHelp help) {
 		help.showHelp();
 	}
+
+	private static void timed(Runnable command) {
+		GTS.getInstance().getTickTimings().time(TickTimings.Source.COMMANDS, command);
+	}
 }
@@ -1,10 +1,13 @@
 package me.nickimpact.gts.listeners;
 
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import me.nickimpact.gts.GTS;
+import me.nickimpact.gts.api.listings.SoldListing;
 import me.nickimpact.gts.config.MsgConfigKeys;
+import me.nickimpact.gts.manager.SpongeListingManager;
 import me.nickimpact.gts.sponge.SpongeListing;
+import me.nickimpact.gts.tasks.TickTimings;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.event.Listener;
@@ -18,37 +21,68 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class JoinListener {
 
 	@Listener
 	public void onPlayerJoin(ClientConnectionEvent.Join e, @First Player player) {
-		ImmutableList.copyOf((List<SpongeListing>)GTS.getInstance().getAPIService().getListingManager().getListings()).stream()
-				.filter(listing -> listing.getOwnerUUID().equals(player.getUniqueId()) && listing.hasExpired())
-				.forEach(listing -> {
+		GTS.getInstance().getTickTimings().time(TickTimings.Source.JOIN, () -> {
+			GTS.getInstance().getNameCache().put(player.getUniqueId(), player.getName());
+
+			SpongeListingManager manager = (SpongeListingManager) GTS.getInstance().getAPIService().getListingManager();
+			for(SpongeListing listing : manager.getReturns().drain(player.getUniqueId())) {
+				GTS.getInstance().getWorkQueue().submit(TickTimings.Source.JOIN, () -> {
 					Map<String, Object> variables = Maps.newHashMap();
 					variables.put("listing_specifics", listing);
 					variables.put("listing_name", listing);
 					variables.put("time_left", listing);
 					variables.put("id", listing);
-					if(listing.getEntry().giveEntry(player)) {
-						GTS.getInstance().getAPIService().getListingManager().deleteListing(listing);
+					if(player.isOnline() && listing.getEntry().giveEntry(player)) {
+						manager.deleteListing(listing);
 						player.sendMessages(GTS.getInstance().getTextParsingUtils().parse(GTS.getInstance().getMsgConfig().get(MsgConfigKeys.REMOVAL_EXPIRES), player, null, variables));
+					} else {
+						// Hand it back to the expiration task, which keeps retrying deliveries while the owner is online
+						manager.restore(listing);
 					}
 				});
-		GTS.getInstance().getAPIService().getStorage().getAllSoldListingsForPlayer(player.getUniqueId()).thenAccept(sold -> {
-			sold.forEach(l -> {
+			}
+			GTS.getInstance().getAPIService().getStorage().getAllSoldListingsForPlayer(player.getUniqueId()).thenAccept(sold -> {
+				if(sold == null || sold.isEmpty()) {
+					return;
+				}
+
 				Map<String, Function<CommandSource, Optional<Text>>> tokens = Maps.newHashMap();
-				tokens.put("listing_name", src -> Optional.of(Text.of(l.getNameOfEntry())));
-				tokens.put("gts_price", src -> Optional.of(GTS.getInstance().getEconomy().getDefaultCurrency().format(new BigDecimal(l.getMoneyReceived()))));
-				player.sendMessage(GTS.getInstance().getTextParsingUtils().fetchAndParseMsg(player, MsgConfigKeys.SOLD_LISTING_INFORM, tokens, null));
+				double total = sold.stream().mapToDouble(SoldListing::getMoneyReceived).sum();
+				tokens.put("gts_price", src -> Optional.of(GTS.getInstance().getEconomy().getDefaultCurrency().format(BigDecimal.valueOf(total))));
+				if(sold.size() == 1) {
+					tokens.put("listing_name", src -> Optional.of(Text.of(sold.get(0).getNameOfEntry())));
+				} else {
+					tokens.put("gts_sold_count", src -> Optional.of(Text.of(sold.size())));
+				}
 
-				GTS.getInstance().getAPIService().getStorage().deleteSoldListing(l.getId(), player.getUniqueId()).exceptionally(e1 -> {
-					e1.printStackTrace();
-					return false;
-				});
+				Sponge.getScheduler().createTaskBuilder().execute(() -> GTS.getInstance().getTickTimings().time(TickTimings.Source.JOIN, () -> {
+					// Should the player have left in the meantime, their sales are kept to be told of next time
+					if(!player.isOnline()) {
+						return;
+					}
+
+					player.sendMessage(GTS.getInstance().getTextParsingUtils().fetchAndParseMsg(player, sold.size() == 1 ? MsgConfigKeys.SOLD_LISTING_INFORM : MsgConfigKeys.SOLD_LISTING_SUMMARY, tokens, null));
+					List<UUID> ids = sold.stream().map(SoldListing::getId).collect(Collectors.toList());
+					GTS.getInstance().getAPIService().getStorage().deleteSoldListings(player.getUniqueId(), ids).exceptionally(e1 -> {
+						e1.printStackTrace();
+						return false;
+					});
+				})).submit(GTS.getInstance());
 			});
 		});
 	}
 
+	@Listener
+	public void onPlayerQuit(ClientConnectionEvent.Disconnect e, @First Player player) {
+		if(GTS.getInstance().getEconomyAdapter() != null) {
+			GTS.getInstance().getEconomyAdapter().invalidate(player.getUniqueId());
+		}
+	}
+
 }
@@ -0,0 +1,27 @@
+package me.nickimpact.gts.listings;
+
+import com.nickimpact.impactor.api.configuration.Config;
+import com.nickimpact.impactor.api.logging.Logger;
+import me.nickimpact.gts.config.ConfigKeys;
+import me.nickimpact.gts.pricing.PriceRuleCompiler;
+import me.nickimpact.gts.pricing.PriceRules;
+import org.spongepowered.api.data.key.Keys;
+import org.spongepowered.api.item.enchantment.Enchantment;
+import org.spongepowered.api.item.inventory.ItemStack;
+
+public class ItemMinPricing {
+
+	private static final PriceRuleCompiler<ItemStack> COMPILER = new PriceRuleCompiler<ItemStack>()
+			.index("item", item -> item.getType().getId())
+			.flag("named", item -> item.get(Keys.DISPLAY_NAME).isPresent())
+			.flag("enchanted", item -> item.get(Keys.ITEM_ENCHANTMENTS).map(list -> !list.isEmpty()).orElse(false))
+			.value("quantity", ItemStack::getQuantity)
+			.counter("enchantments", item -> item.get(Keys.ITEM_ENCHANTMENTS)
+					.map(list -> list.stream().mapToInt(Enchantment::getLevel).toArray())
+					.orElse(new int[0])
+			);
+
+	public static PriceRules<ItemStack> compile(Config config, Logger logger) {
+		return COMPILER.compile(config.get(ConfigKeys.MIN_PRICING_ITEMS_BASE), config.get(ConfigKeys.MIN_PRICING_ITEMS_RULES), logger);
+	}
+}
@@ -1,6 +1,7 @@
 package me.nickimpact.gts.listings;
 
 import co.aikar.commands.CommandIssuer;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.nickimpact.impactor.api.configuration.Config;
@@ -9,13 +10,17 @@ import me.nickimpact.gts.GTS;
 import me.nickimpact.gts.api.enums.CommandResults;
 import me.nickimpact.gts.api.listings.Listing;
 import me.nickimpact.gts.api.listings.entries.Entry;
+import me.nickimpact.gts.api.listings.prices.Minable;
 import me.nickimpact.gts.config.ConfigKeys;
 import me.nickimpact.gts.config.MsgConfigKeys;
+import me.nickimpact.gts.sponge.MoneyPrice;
 import me.nickimpact.gts.sponge.SpongeEntry;
 import me.nickimpact.gts.sponge.SpongeListing;
 import me.nickimpact.gts.sponge.TextParsingUtils;
+import me.nickimpact.gts.utils.Memoized;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.data.key.Keys;
 import org.spongepowered.api.data.type.HandTypes;
 import org.spongepowered.api.entity.living.player.Player;
@@ -34,15 +39,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @JsonTyping("item")
-public class SpongeItemEntry extends SpongeEntry<DataContainer, ItemStack> {
+public class SpongeItemEntry extends SpongeEntry<DataContainer, ItemStack> implements Minable<MoneyPrice> {
 
 	private transient ItemStack item;
 	private transient boolean messageSent;
+	private final transient Memoized<List<String>> details = new Memoized<>(() -> ImmutableList.copyOf(this.computeDetails()));
+	private final transient Memoized<MoneyPrice> minPrice = new Memoized<>(this::computeMinPrice);
+	private final transient Memoized<List<String>> priceKeys = new Memoized<>(() -> priceKeys("item", this.getEntry().getType().getId()));
 
 	private String name;
 
@@ -86,6 +95,20 @@ public class SpongeItemEntry extends SpongeEntry<DataContainer, ItemStack> {
 
 	@Override
 	public List<String> getDetails() {
+		return this.details.get();
+	}
+
+	@Override
+	public List<String> getPriceKeys() {
+		return this.priceKeys.get();
+	}
+
+	@Override
+	public int getPriceUnits() {
+		return this.getEntry().getQuantity();
+	}
+
+	private List<String> computeDetails() {
 		List<String> output = Lists.newArrayList();
 		ItemStack item = this.getEntry();
 		if(item.get(Keys.DISPLAY_NAME).isPresent()) {
@@ -147,6 +170,32 @@ public class SpongeItemEntry extends SpongeEntry<DataContainer, ItemStack> {
 		return icon;
 	}
 
+	/**
+	 * Checks the item against the item blacklist compiled from the current config. Item data is only serialized
+	 * when NBT patterns have been configured and the item's type isn't already blacklisted.
+	 */
+	public static boolean isBlacklisted(ItemStack item) {
+		return GTS.getInstance().getSettings().getItemBlacklist().isBlacklisted(
+				item.getType().getId(),
+				() -> item.toContainer().getView(DataQuery.of("UnsafeData")).map(Object::toString).orElse(null)
+		);
+	}
+
+	@Override
+	public MoneyPrice calcMinPrice() {
+		return this.minPrice.get();
+	}
+
+	private MoneyPrice computeMinPrice() {
+		ItemStack item = this.getEntry();
+		double total = GTS.getInstance().getItemMinPricing().evaluate(item);
+		for(Function<ItemStack, Double> function : GTS.getInstance().getAPIService().getMinPriceOptionsForEntryType(SpongeItemEntry.class)) {
+			total += function.apply(item);
+		}
+
+		return new MoneyPrice(total);
+	}
+
 	@Override
 	public boolean supportsOffline() {
 		return false;
@@ -185,7 +234,7 @@ public class SpongeItemEntry extends SpongeEntry<DataContainer, ItemStack> {
 				}
 			}
 
-			if(GTS.getInstance().getConfig().get(ConfigKeys.BLACKLISTED_ITEMS).contains(item.get().getType().getId())) {
+			if(GTS.getInstance().getAPIService().isBlacklisted(SpongeItemEntry.class, item.get())) {
 				player.sendMessage(parser.fetchAndParseMsg(player, config, MsgConfigKeys.BLACKLISTED, null, null));
 				return false;
 			}
@@ -233,7 +282,7 @@ public class SpongeItemEntry extends SpongeEntry<DataContainer, ItemStack> {
 				return CommandResults.FAILED;
 			}
 
-			if(GTS.getInstance().getConfiguration().get(ConfigKeys.BLACKLISTED_ITEMS).contains(hand.get().getType().getName().toLowerCase())) {
+			if(GTS.getInstance().getAPIService().isBlacklisted(SpongeItemEntry.class, hand.get())) {
 				if(!source.hasPermission("gts.command.sell.items.bypass")) {
 					source.sendMessage(GTS.getInstance().getTextParsingUtils().fetchAndParseMsg(source, MsgConfigKeys.BLACKLISTED, null, null));
 					return CommandResults.FAILED;
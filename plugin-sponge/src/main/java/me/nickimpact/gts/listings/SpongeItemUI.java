@@ -9,11 +9,12 @@ import com.nickimpact.impactor.sponge.ui.SpongeUI;
 import me.nickimpact.gts.GTS;
 import me.nickimpact.gts.api.listings.entries.EntryUI;
 import me.nickimpact.gts.api.plugin.PluginInstance;
-import me.nickimpact.gts.config.ConfigKeys;
+import me.nickimpact.gts.config.ConfigSnapshot;
 import me.nickimpact.gts.config.MsgConfigKeys;
 import me.nickimpact.gts.sponge.SpongeListing;
 import me.nickimpact.gts.sponge.SpongePlugin;
 import me.nickimpact.gts.sponge.TextParsingUtils;
+import me.nickimpact.gts.tasks.TickTimings;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.data.key.Keys;
 import org.spongepowered.api.data.type.DyeColors;
@@ -118,7 +119,7 @@ public class SpongeItemUI implements EntryUI<Player> {
 				.add(Keys.DYE_COLOR, DyeColors.LIME)
 				.build()
 		);
-		confirm.addListener(clickable -> {
+		confirm.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 			if(this.selection != null) {
 				this.display.close(clickable.getPlayer());
 
@@ -127,12 +128,12 @@ public class SpongeItemUI implements EntryUI<Player> {
 						.price(this.amount)
 						.id(UUID.randomUUID())
 						.owner(clickable.getPlayer().getUniqueId())
-						.expiration(LocalDateTime.now().plusSeconds(GTS.getInstance().getConfiguration().get(ConfigKeys.LISTING_TIME)))
+						.expiration(LocalDateTime.now().plusSeconds(GTS.getInstance().getSettings().getListingTime()))
 						.build();
 
 				listing.publish(PluginInstance.getInstance(), clickable.getPlayer().getUniqueId());
 			}
-		});
+		}));
 		slb.slot(confirm, 35);
 
 		SpongeIcon cancel = new SpongeIcon(ItemStack.builder().itemType(ItemTypes.DYE)
@@ -140,16 +141,16 @@ public class SpongeItemUI implements EntryUI<Player> {
 				.add(Keys.DYE_COLOR, DyeColors.RED)
 				.build()
 		);
-		cancel.addListener(clickable -> {
+		cancel.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 			this.display.close(clickable.getPlayer());
-		});
+		}));
 		slb.slot(cancel, 53);
 
 		return slb.build();
 	}
 
 	private SpongeIcon moneyIncIcon() {
-		Config config = GTS.getInstance().getConfig();
+		ConfigSnapshot settings = GTS.getInstance().getSettings();
 		TextParsingUtils parser = GTS.getInstance().getTextParsingUtils();
 		ItemStack inc = ItemStack.builder()
 				.itemType(ItemTypes.DYE)
@@ -162,23 +163,23 @@ public class SpongeItemUI implements EntryUI<Player> {
 				)
 				.build();
 		SpongeIcon icon = new SpongeIcon(inc);
-		icon.addListener(clickable -> {
+		icon.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 			ClickInventoryEvent event = clickable.getEvent();
 			if(event instanceof ClickInventoryEvent.Shift) {
 				if(event instanceof ClickInventoryEvent.Shift.Secondary) {
-					this.amount = Math.min(PluginInstance.getInstance().getConfiguration().get(ConfigKeys.MAX_MONEY_PRICE), this.amount + config.get(ConfigKeys.PRICING_RIGHTCLICK_SHIFT));
+					this.amount = Math.min(settings.getMaxMoneyPrice(), this.amount + settings.getRightClickShift());
 				} else {
-					this.amount = Math.min(PluginInstance.getInstance().getConfiguration().get(ConfigKeys.MAX_MONEY_PRICE), this.amount + config.get(ConfigKeys.PRICING_LEFTCLICK_SHIFT));
+					this.amount = Math.min(settings.getMaxMoneyPrice(), this.amount + settings.getLeftClickShift());
 				}
 			} else {
 				if(event instanceof ClickInventoryEvent.Secondary) {
-					this.amount = Math.min(PluginInstance.getInstance().getConfiguration().get(ConfigKeys.MAX_MONEY_PRICE), this.amount + config.get(ConfigKeys.PRICING_RIGHTCLICK_BASE));
+					this.amount = Math.min(settings.getMaxMoneyPrice(), this.amount + settings.getRightClickBase());
 				} else {
-					this.amount = Math.min(PluginInstance.getInstance().getConfiguration().get(ConfigKeys.MAX_MONEY_PRICE), this.amount + config.get(ConfigKeys.PRICING_LEFTCLICK_BASE));
+					this.amount = Math.min(settings.getMaxMoneyPrice(), this.amount + settings.getLeftClickBase());
 				}
 			}
 			this.display.setSlot(30, this.moneyIcon());
-		});
+		}));
 
 		return icon;
 	}
@@ -199,7 +200,7 @@ public class SpongeItemUI implements EntryUI<Player> {
 	}
 
 	private SpongeIcon moneyDecIcon() {
-		Config config = GTS.getInstance().getConfig();
+		ConfigSnapshot settings = GTS.getInstance().getSettings();
 		TextParsingUtils parser = GTS.getInstance().getTextParsingUtils();
 		ItemStack inc = ItemStack.builder()
 				.itemType(ItemTypes.DYE)
@@ -212,38 +213,38 @@ public class SpongeItemUI implements EntryUI<Player> {
 				)
 				.build();
 		SpongeIcon icon = new SpongeIcon(inc);
-		icon.addListener(clickable -> {
+		icon.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 			ClickInventoryEvent event = clickable.getEvent();
 			if(event instanceof ClickInventoryEvent.Shift) {
 				if(event instanceof ClickInventoryEvent.Shift.Secondary) {
-					this.amount = Math.max(1, this.amount - config.get(ConfigKeys.PRICING_RIGHTCLICK_SHIFT));
+					this.amount = Math.max(1, this.amount - settings.getRightClickShift());
 				} else {
-					this.amount = Math.max(1, this.amount - config.get(ConfigKeys.PRICING_LEFTCLICK_SHIFT));
+					this.amount = Math.max(1, this.amount - settings.getLeftClickShift());
 				}
 			} else {
 				if(event instanceof ClickInventoryEvent.Secondary) {
-					this.amount = Math.max(1, this.amount - config.get(ConfigKeys.PRICING_RIGHTCLICK_BASE));
+					this.amount = Math.max(1, this.amount - settings.getRightClickBase());
 				} else {
-					this.amount = Math.max(1, this.amount - config.get(ConfigKeys.PRICING_LEFTCLICK_BASE));
+					this.amount = Math.max(1, this.amount - settings.getLeftClickBase());
 				}
 			}
 			this.display.setSlot(30, this.moneyIcon());
-		});
+		}));
 
 		return icon;
 	}
 
 	private Map<String, Function<CommandSource, Optional<Text>>> getCurrencyTokens() {
 		EconomyService economy = GTS.getInstance().getEconomy();
-		Config config = GTS.getInstance().getConfiguration();
+		ConfigSnapshot settings = GTS.getInstance().getSettings();
 
 		Map<String, Function<CommandSource, Optional<Text>>> tokens = Maps.newHashMap();
-		tokens.put("gts_button_currency_left_click", src -> Optional.of(economy.getDefaultCurrency().format(new BigDecimal(config.get(ConfigKeys.PRICING_LEFTCLICK_BASE)))));
-		tokens.put("gts_button_currency_right_click", src -> Optional.of(economy.getDefaultCurrency().format(new BigDecimal(config.get(ConfigKeys.PRICING_RIGHTCLICK_BASE)))));
-		tokens.put("gts_button_currency_shift_left_click", src -> Optional.of(economy.getDefaultCurrency().format(new BigDecimal(config.get(ConfigKeys.PRICING_LEFTCLICK_SHIFT)))));
-		tokens.put("gts_button_currency_shift_right_click", src -> Optional.of(economy.getDefaultCurrency().format(new BigDecimal(config.get(ConfigKeys.PRICING_RIGHTCLICK_SHIFT)))));
+		tokens.put("gts_button_currency_left_click", src -> Optional.of(economy.getDefaultCurrency().format(new BigDecimal(settings.getLeftClickBase()))));
+		tokens.put("gts_button_currency_right_click", src -> Optional.of(economy.getDefaultCurrency().format(new BigDecimal(settings.getRightClickBase()))));
+		tokens.put("gts_button_currency_shift_left_click", src -> Optional.of(economy.getDefaultCurrency().format(new BigDecimal(settings.getLeftClickShift()))));
+		tokens.put("gts_button_currency_shift_right_click", src -> Optional.of(economy.getDefaultCurrency().format(new BigDecimal(settings.getRightClickShift()))));
 		tokens.put("gts_min_price", src -> Optional.of(economy.getDefaultCurrency().format(new BigDecimal(1))));
-		tokens.put("gts_max_price", src -> Optional.of(economy.getDefaultCurrency().format(new BigDecimal(config.get(ConfigKeys.MAX_MONEY_PRICE)))));
+		tokens.put("gts_max_price", src -> Optional.of(economy.getDefaultCurrency().format(new BigDecimal(settings.getMaxMoneyPrice()))));
 		tokens.put("gts_price", src -> Optional.of(economy.getDefaultCurrency().format(new BigDecimal(this.amount))));
 
 		return tokens;
@@ -277,7 +278,7 @@ public class SpongeItemUI implements EntryUI<Player> {
 						parser.fetchAndParseMsgs(this.viewer, MsgConfigKeys.BUTTONS_INCREASE_AMOUNT_LORE, this.getAmountTokens(), null)
 				)
 				.build());
-		icon.addListener(clickable -> {
+		icon.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 			int max = this.selection != null ? this.selection.getQuantity() : 64;
 
 			if(clickable.getEvent() instanceof ClickInventoryEvent.Shift) {
@@ -292,7 +293,7 @@ public class SpongeItemUI implements EntryUI<Player> {
 				this.size = Math.min(max, this.size + 5);
 			}
 			this.display.setSlot(48, this.amountIcon());
-		});
+		}));
 		return icon;
 	}
 
@@ -319,7 +320,7 @@ public class SpongeItemUI implements EntryUI<Player> {
 						parser.fetchAndParseMsgs(this.viewer, MsgConfigKeys.BUTTONS_DECREASE_AMOUNT_LORE, this.getAmountTokens(), null)
 				)
 				.build());
-		icon.addListener(clickable -> {
+		icon.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 			if(clickable.getEvent() instanceof ClickInventoryEvent.Shift) {
 				if(clickable.getEvent() instanceof ClickInventoryEvent.Shift.Primary) {
 					this.size = Math.max(1, this.size - 10);
@@ -332,7 +333,7 @@ public class SpongeItemUI implements EntryUI<Player> {
 				this.size = Math.max(1, this.size - 5);
 			}
 			this.display.setSlot(48, this.amountIcon());
-		});
+		}));
 		return icon;
 	}
 }
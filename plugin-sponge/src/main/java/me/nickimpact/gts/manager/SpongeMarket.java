@@ -0,0 +1,211 @@
+package me.nickimpact.gts.manager;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.nickimpact.impactor.api.configuration.ConfigKey;
+import com.nickimpact.impactor.api.utilities.Time;
+import me.nickimpact.gts.GTS;
+import me.nickimpact.gts.api.storage.IGtsStorage;
+import me.nickimpact.gts.config.ConfigKeys;
+import me.nickimpact.gts.config.ConfigSnapshot;
+import me.nickimpact.gts.config.MsgConfigKeys;
+import me.nickimpact.gts.discord.DiscordNotifier;
+import me.nickimpact.gts.economy.EconomyAdapter;
+import me.nickimpact.gts.events.SpongeListingEvent;
+import me.nickimpact.gts.market.MarketContext;
+import me.nickimpact.gts.market.MarketEventBus;
+import me.nickimpact.gts.market.MarketListener;
+import me.nickimpact.gts.market.MarketMessenger;
+import me.nickimpact.gts.market.MarketPlayers;
+import me.nickimpact.gts.market.MarketServices;
+import me.nickimpact.gts.metrics.Tracer;
+import me.nickimpact.gts.sponge.MoneyPrice;
+import me.nickimpact.gts.sponge.SpongeListing;
+import me.nickimpact.gts.sponge.TextParsingUtils;
+import me.nickimpact.gts.sponge.discord.DiscordEvent;
+import me.nickimpact.gts.sponge.utils.MessageUtils;
+import me.nickimpact.gts.tasks.TickTimings;
+import me.nickimpact.gts.utils.DateTimeFormatUtils;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.service.user.UserStorageService;
+import org.spongepowered.api.text.Text;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Connects the market engine to Sponge: its players, its message templates, its events, and the GTS services
+ * held by the plugin.
+ */
+public class SpongeMarket implements MarketPlayers<SpongeListing>, MarketMessenger, MarketListener<SpongeListing>, MarketServices {
+
+	@Override
+	public boolean isOnline(UUID uuid) {
+		return Sponge.getServer().getPlayer(uuid).isPresent();
+	}
+
+	@Override
+	public boolean takeEntry(UUID lister, SpongeListing listing) {
+		return Sponge.getServer().getPlayer(lister).map(player -> listing.getEntry().doTakeAway(player)).orElse(false);
+	}
+
+	@Override
+	public boolean giveEntry(UUID receiver, SpongeListing listing) {
+		return Sponge.getServiceManager().provideUnchecked(UserStorageService.class).get(receiver)
+				.map(user -> listing.getEntry().giveEntry(user))
+				.orElse(false);
+	}
+
+	@Override
+	public void send(UUID recipient, ConfigKey<?> key, MarketContext context) {
+		Sponge.getServer().getPlayer(recipient).ifPresent(player -> {
+			CommandSource source = Sponge.getServer().getPlayer(context.getSubject()).map(p -> (CommandSource) p).orElse(player);
+			player.sendMessages(this.render(key, source, context));
+		});
+	}
+
+	@Override
+	public void broadcast(ConfigKey<?> key, MarketContext context, Predicate<UUID> recipients) {
+		Optional<Player> subject = Sponge.getServer().getPlayer(context.getSubject());
+		if(!subject.isPresent()) {
+			return;
+		}
+
+		// The broadcast is parsed against the subject, so it only needs rendering the once
+		List<Text> broadcast = this.render(key, subject.get(), context);
+		GTS.getInstance().getWorkQueue().submit(TickTimings.Source.BROADCASTS, () -> {
+			for(Player player : Sponge.getServer().getOnlinePlayers()) {
+				if(recipients.test(player.getUniqueId())) {
+					player.sendMessages(broadcast);
+				}
+			}
+		});
+	}
+
+	@Override
+	public boolean onListing(UUID lister, SpongeListing listing) {
+		SpongeListingEvent event = new SpongeListingEvent(Sponge.getServer().getPlayer(lister).orElse(null), listing);
+		Sponge.getEventManager().post(event);
+		return !event.isCancelled();
+	}
+
+	@Override
+	public void onListed(UUID lister, SpongeListing listing) {
+		GTS.getInstance().getViewTracker().listingAdded(listing);
+
+		DiscordNotifier notifier = GTS.getInstance().getDiscordNotifier();
+		if(notifier.isEnabled()) {
+			List<String> details = Lists.newArrayList("");
+			details.addAll(listing.getEntry().getDetails());
+
+			DiscordEvent.builder()
+					.option(GTS.getInstance().getConfiguration().get(ConfigKeys.DISCORD_NEW_LISTING))
+					.template(GTS.getInstance().getMsgConfig().get(MsgConfigKeys.DISCORD_PUBLISH_TEMPLATE))
+					.token("gts_publisher", GTS.getInstance().getNameCache().get(lister, ""))
+					.token("gts_publisher_id", lister.toString())
+					.token("gts_published_item", listing.getEntry().getName())
+					.token("gts_published_item_details", MessageUtils.asSingleWithNewlines(details))
+					.token("gts_publishing_price", ((MoneyPrice) listing.getPrice()).getText())
+					.token("gts_publishing_expiration", DateTimeFormatUtils.formatExpiration(listing))
+					.variable("listing", listing)
+					.variable("entry", listing.getEntry().getEntry())
+					.build()
+					.publish(notifier);
+		}
+	}
+
+	@Override
+	public void onPurchased(UUID buyer, SpongeListing listing) {
+		DiscordNotifier notifier = GTS.getInstance().getDiscordNotifier();
+		if(notifier.isEnabled()) {
+			List<String> details = Lists.newArrayList("");
+			details.addAll(listing.getEntry().getDetails());
+
+			DiscordEvent.builder()
+					.option(GTS.getInstance().getConfiguration().get(ConfigKeys.DISCORD_SELL_LISTING))
+					.template(GTS.getInstance().getMsgConfig().get(MsgConfigKeys.DISCORD_PURCHASE_TEMPLATE))
+					.token("gts_seller", GTS.getInstance().getNameCache().get(listing.getOwnerUUID(), ""))
+					.token("gts_seller_id", listing.getOwnerUUID().toString())
+					.token("gts_published_item", listing.getEntry().getName())
+					.token("gts_published_item_details", MessageUtils.asSingleWithNewlines(details))
+					.token("gts_publishing_price", GTS.getInstance().getEconomy().getDefaultCurrency().format(BigDecimal.valueOf(listing.getPrice().getPrice())))
+					.token("gts_buyer", GTS.getInstance().getNameCache().get(buyer, ""))
+					.token("gts_buyer_id", buyer.toString())
+					.variable("listing", listing)
+					.variable("entry", listing.getEntry().getEntry())
+					.build()
+					.publish(notifier);
+		}
+	}
+
+	@Override
+	public void onRemoved(SpongeListing listing) {
+		GTS.getInstance().getViewTracker().listingRemoved(listing);
+	}
+
+	@Override
+	public void onLoaded(List<SpongeListing> listings) {
+		GTS.getInstance().getViewTracker().invalidateAll();
+		GTS.getInstance().getNameCache().prefetch(listings.stream().map(SpongeListing::getOwnerUUID).collect(Collectors.toSet()));
+		GTS.getInstance().getPluginLogger().info("Successfully read in &b" + listings.size() + " listings!");
+	}
+
+	@Override
+	public IGtsStorage getStorage() {
+		return GTS.getInstance().getAPIService().getStorage();
+	}
+
+	@Override
+	public ConfigSnapshot getSettings() {
+		return GTS.getInstance().getSettings();
+	}
+
+	@Override
+	public EconomyAdapter getEconomy() {
+		return GTS.getInstance().getEconomyAdapter();
+	}
+
+	@Override
+	public Tracer getTracer() {
+		return GTS.getInstance().getTracer();
+	}
+
+	@Override
+	public MarketEventBus getEvents() {
+		return GTS.getInstance().getService().getEvents();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Text> render(ConfigKey<?> key, CommandSource source, MarketContext context) {
+		TextParsingUtils parser = GTS.getInstance().getTextParsingUtils();
+		Map<String, Function<CommandSource, Optional<Text>>> tokens = Maps.newHashMap();
+		if(context.getCooldown() > 0) {
+			tokens.put("gts_cooldown_wait_time", src -> Optional.of(Text.of(new Time(context.getCooldown()).toString())));
+		}
+		if(context.getTax() != null) {
+			tokens.put("tax", src -> Optional.of(GTS.getInstance().getEconomy().getDefaultCurrency().format(BigDecimal.valueOf(context.getTax()), 2)));
+		}
+		if(context.getMinPrice() != null) {
+			tokens.put("min_price", src -> Optional.of((Text) context.getMinPrice().getText()));
+		}
+
+		Map<String, Object> variables = Maps.newHashMap();
+		variables.put("listing", context.getListing());
+		variables.put("entry", context.getListing().getEntry().getEntry());
+
+		Object template = GTS.getInstance().getMsgConfig().get(key);
+		if(template instanceof List) {
+			return parser.parse((List<String>) template, source, tokens, variables);
+		}
+
+		return Lists.newArrayList(parser.parse((String) template, source, tokens, variables));
+	}
+}
@@ -3,51 +3,106 @@ package me.nickimpact.gts.tasks;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.nickimpact.impactor.api.configuration.Config;
 import me.nickimpact.gts.GTS;
+import me.nickimpact.gts.api.metrics.Timer;
 import me.nickimpact.gts.config.ConfigKeys;
 import me.nickimpact.gts.config.MsgConfigKeys;
 import me.nickimpact.gts.discord.DiscordNotifier;
-import me.nickimpact.gts.discord.Message;
+import me.nickimpact.gts.manager.SpongeListingManager;
+import me.nickimpact.gts.metrics.Trace;
+import me.nickimpact.gts.metrics.Tracer;
 import me.nickimpact.gts.sponge.SpongeListing;
+import me.nickimpact.gts.sponge.discord.DiscordEvent;
 import me.nickimpact.gts.sponge.utils.MessageUtils;
 import org.spongepowered.api.Sponge;
-import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.service.user.UserStorageService;
-import org.spongepowered.api.text.Text;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 public class SpongeListingTasks implements ListingTasks<SpongeListing> {
+
+	/** Listings which have been handed to the work queue, but have yet to be processed */
+	private final Set<UUID> queued = Sets.newHashSet();
+
+	/** Times each pass over the market looking for expired listings */
+	private final Timer scans = GTS.getInstance().getAPIService().getMetrics().timer("tasks.expiry.scan");
+
+	/** Times the handling of each expired listing on the server thread */
+	private final Timer expiries = GTS.getInstance().getAPIService().getMetrics().timer("tasks.expiry.process");
+
 	@Override
 	public void createExpirationTask() {
-		Sponge.getScheduler().createTaskBuilder().execute(() -> {
-			final List<SpongeListing> listings = ImmutableList.copyOf(GTS.getInstance().getAPIService().getListingManager().getListings());
-			listings.stream().filter(listing -> listing.getExpiration().isBefore(LocalDateTime.now())).forEach(listing -> {
-				if(expire(listing)) {
-					GTS.getInstance().getAPIService().getListingManager().deleteListing(listing);
+		Sponge.getScheduler().createTaskBuilder().execute(() -> GTS.getInstance().getTickTimings().time(TickTimings.Source.EXPIRY, () -> this.scans.time(this::scan))).interval(1, TimeUnit.SECONDS).submit(GTS.getInstance());
+	}
+
+	private void scan() {
+		final SpongeListingManager manager = (SpongeListingManager) GTS.getInstance().getAPIService().getListingManager();
+		final List<SpongeListing> listings = ImmutableList.copyOf(manager.getListings());
+		final LocalDateTime now = LocalDateTime.now();
+		listings.stream().filter(listing -> listing.getExpiration().isBefore(now) && this.queued.add(listing.getUuid())).forEach(listing -> {
+			GTS.getInstance().getWorkQueue().submit(TickTimings.Source.EXPIRY, () -> {
+				if(!manager.getListingByID(listing.getUuid()).isPresent()) {
+					// Taken off the market since it was queued, so it's no longer ours to return
+					this.queued.remove(listing.getUuid());
+					return;
+				}
+
+				try(Trace trace = GTS.getInstance().getTracer().start("expire", listing.getUuid())) {
+					Optional<User> offline = trace.phase("lookup", () -> this.getOfflineOwner(listing));
+					if(offline.isPresent() && listing.getEntry().supportsOffline()) {
+						// Offline deliveries may complete on a later tick, so the listing is pulled off the market
+						// until its outcome is known, leaving nobody able to buy or remove it in the meantime. It
+						// also stays marked as queued, so the scan leaves it be
+						manager.detach(listing);
+						CompletableFuture<Boolean> delivery = trace.phase("give_entry", () -> listing.getEntry().giveEntryOffline(offline.get()));
+						delivery.whenComplete((state, throwable) -> GTS.getInstance().getWorkQueue().submit(TickTimings.Source.EXPIRY, () -> {
+							this.queued.remove(listing.getUuid());
+							if(Boolean.TRUE.equals(state)) {
+								this.sendDiscordMessage(listing, offline.get());
+								manager.deleteListing(listing);
+							} else {
+								// Put back to be retried on a later scan
+								manager.restore(listing);
+							}
+						}));
+						return;
+					}
+
+					this.queued.remove(listing.getUuid());
+					if(trace.phase("lookup", () -> this.isUndeliverable(listing))) {
+						manager.park(listing);
+					} else if(this.expiries.time(() -> expire(listing))) {
+						trace.phase("remove", () -> manager.deleteListing(listing));
+					} else {
+						// Still awaiting its owner, but it should no longer be shown to browsers
+						GTS.getInstance().getViewTracker().listingRemoved(listing);
+					}
 				}
 			});
-		}).interval(1, TimeUnit.SECONDS).submit(GTS.getInstance());
+		});
 	}
 
 	@Override
 	public boolean expire(SpongeListing listing) {
-		Optional<User> user = Sponge.getServiceManager().provideUnchecked(UserStorageService.class).get(listing.getOwnerUUID());
+		Trace trace = Tracer.active();
+		Optional<User> user = trace.phase("lookup", () -> Sponge.getServiceManager().provideUnchecked(UserStorageService.class).get(listing.getOwnerUUID()));
 		if(user.isPresent()) {
 			if(!user.get().isOnline()) {
 				if(listing.getEntry().supportsOffline()) {
-					boolean state = listing.getEntry().giveEntry(user.get());
+					boolean state = trace.phase("give_entry", () -> listing.getEntry().giveEntry(user.get()));
 					if(state) {
-						this.sendDiscordMessage(listing, user.get());
+						trace.phase("events", () -> this.sendDiscordMessage(listing, user.get()));
 					}
 
 					return state;
@@ -56,7 +111,7 @@ public class SpongeListingTasks implements ListingTasks<SpongeListing> {
 				}
 			}
 
-			if(!listing.getEntry().giveEntry(user.get())) {
+			if(!trace.phase("give_entry", () -> listing.getEntry().giveEntry(user.get()))) {
 				return false;
 			}
 
@@ -66,34 +121,47 @@ public class SpongeListingTasks implements ListingTasks<SpongeListing> {
 			if(user.get().getPlayer().isPresent()) {
 				Player player = user.get().getPlayer().get();
 				Config config = GTS.getInstance().getMsgConfig();
-				player.sendMessages(GTS.getInstance().getTextParsingUtils().fetchAndParseMsgs(player, config, MsgConfigKeys.REMOVAL_EXPIRES, null, variables));
+				trace.phase("messages", () -> player.sendMessages(GTS.getInstance().getTextParsingUtils().fetchAndParseMsgs(player, config, MsgConfigKeys.REMOVAL_EXPIRES, null, variables)));
 			}
 
-			this.sendDiscordMessage(listing, user.get());
+			trace.phase("events", () -> this.sendDiscordMessage(listing, user.get()));
 			return true;
 		}
 
 		return false;
 	}
 
+	private Optional<User> getOfflineOwner(SpongeListing listing) {
+		return Sponge.getServiceManager().provideUnchecked(UserStorageService.class).get(listing.getOwnerUUID()).filter(user -> !user.isOnline());
+	}
+
+	/**
+	 * Checks whether the listing can't possibly be returned right now, in which case there's no point in
+	 * re-examining it every second until its owner logs in.
+	 */
+	private boolean isUndeliverable(SpongeListing listing) {
+		Optional<User> user = Sponge.getServiceManager().provideUnchecked(UserStorageService.class).get(listing.getOwnerUUID());
+		return !user.isPresent() || (!user.get().isOnline() && !listing.getEntry().supportsOffline());
+	}
+
 	private void sendDiscordMessage(SpongeListing listing, User user) {
-		Map<String, Object> variables = Maps.newHashMap();
-		variables.put("listing", listing);
+		DiscordNotifier notifier = GTS.getInstance().getDiscordNotifier();
+		if(!notifier.isEnabled()) {
+			return;
+		}
+
 		List<String> details = Lists.newArrayList("");
 		details.addAll(listing.getEntry().getDetails());
 
-		Map<String, Function<CommandSource, Optional<Text>>> tokens = Maps.newHashMap();
-		tokens.put("gts_publisher", src -> Optional.of(Text.of(user.getName())));
-		tokens.put("gts_publisher_id", src -> Optional.of(Text.of(listing.getOwnerUUID().toString())));
-		tokens.put("gts_published_item", src -> Optional.of(Text.of(listing.getEntry().getName())));
-		tokens.put("gts_published_item_details", src -> Optional.of(Text.of(MessageUtils.asSingleWithNewlines(details))));
-
-		String discord = MessageUtils.asSingleWithNewlines(GTS.getInstance().getTextParsingUtils().fetchAndParseMsgs(
-				null, GTS.getInstance().getMsgConfig(), MsgConfigKeys.DISCORD_EXPIRATION_TEMPLATE, tokens, variables
-		).stream().map(Text::toPlain).collect(Collectors.toList()));
-
-		DiscordNotifier notifier = new DiscordNotifier(GTS.getInstance());
-		Message message = notifier.forgeMessage(GTS.getInstance().getConfiguration().get(ConfigKeys.DISCORD_EXPIRE), discord);
-		notifier.sendMessage(message);
+		DiscordEvent.builder()
+				.option(GTS.getInstance().getConfiguration().get(ConfigKeys.DISCORD_EXPIRE))
+				.template(GTS.getInstance().getMsgConfig().get(MsgConfigKeys.DISCORD_EXPIRATION_TEMPLATE))
+				.token("gts_publisher", user.getName())
+				.token("gts_publisher_id", listing.getOwnerUUID().toString())
+				.token("gts_published_item", listing.getEntry().getName())
+				.token("gts_published_item_details", MessageUtils.asSingleWithNewlines(details))
+				.variable("listing", listing)
+				.build()
+				.publish(notifier);
 	}
 }
@@ -0,0 +1,120 @@
+package me.nickimpact.gts.ui;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import me.nickimpact.gts.GTS;
+import me.nickimpact.gts.sponge.SpongeListing;
+import me.nickimpact.gts.tasks.TickTimings;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.scheduler.Task;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps open GTS browser windows up to date with the market. Listing changes are queued as they
+ * happen and handed out once per tick, so a burst of purchases or expirations only ever costs a
+ * single update per open window.
+ */
+public class ListingViewTracker {
+
+	private final Set<SpongeMainUI> viewers = Sets.newConcurrentHashSet();
+
+	private final Object lock = new Object();
+	private Map<UUID, SpongeListing> added = Maps.newLinkedHashMap();
+	private Set<UUID> removed = Sets.newHashSet();
+	private boolean reset;
+
+	private Task task;
+
+	public void start() {
+		this.task = Sponge.getScheduler().createTaskBuilder()
+				.execute(this::flush)
+				.intervalTicks(1)
+				.name("GTS - Listing View Updates")
+				.submit(GTS.getInstance());
+	}
+
+	public void shutdown() {
+		if(this.task != null) {
+			this.task.cancel();
+		}
+		this.viewers.clear();
+	}
+
+	public void subscribe(SpongeMainUI ui) {
+		this.viewers.add(ui);
+	}
+
+	public void unsubscribe(SpongeMainUI ui) {
+		this.viewers.remove(ui);
+	}
+
+	public void listingAdded(SpongeListing listing) {
+		synchronized (this.lock) {
+			this.removed.remove(listing.getUuid());
+			this.added.put(listing.getUuid(), listing);
+		}
+	}
+
+	/**
+	 * Marks a listing as no longer browsable, whether it was sold, removed by its owner, or has simply
+	 * run out of time.
+	 *
+	 * @param listing The listing to hide from open windows
+	 */
+	public void listingRemoved(SpongeListing listing) {
+		synchronized (this.lock) {
+			this.added.remove(listing.getUuid());
+			this.removed.add(listing.getUuid());
+		}
+	}
+
+	/**
+	 * Forces every open window to rebuild its contents from the market on the next tick. Used when the
+	 * market is replaced wholesale, such as after reading storage.
+	 */
+	public void invalidateAll() {
+		synchronized (this.lock) {
+			this.reset = true;
+		}
+	}
+
+	private void flush() {
+		final ImmutableList<SpongeListing> additions;
+		final ImmutableSet<UUID> removals;
+		final boolean full;
+
+		synchronized (this.lock) {
+			if(this.added.isEmpty() && this.removed.isEmpty() && !this.reset) {
+				return;
+			}
+
+			additions = ImmutableList.copyOf(this.added.values());
+			removals = ImmutableSet.copyOf(this.removed);
+			full = this.reset;
+
+			this.added = Maps.newLinkedHashMap();
+			this.removed = Sets.newHashSet();
+			this.reset = false;
+		}
+
+		for(SpongeMainUI viewer : this.viewers) {
+			GTS.getInstance().getWorkQueue().submit(TickTimings.Source.UI, () -> {
+				// The viewer may have closed their window while this update was queued
+				if(!this.viewers.contains(viewer)) {
+					return;
+				}
+
+				if(full) {
+					viewer.refresh();
+				} else {
+					viewer.update(additions, removals);
+				}
+			});
+		}
+	}
+}
@@ -8,6 +8,7 @@ import me.nickimpact.gts.GTS;
 import me.nickimpact.gts.api.holders.EntryClassification;
 import me.nickimpact.gts.api.holders.EntryRegistry;
 import me.nickimpact.gts.config.MsgConfigKeys;
+import me.nickimpact.gts.tasks.TickTimings;
 import me.nickimpact.gts.utils.SpongeItemTypeUtil;
 import org.spongepowered.api.data.key.Keys;
 import org.spongepowered.api.entity.living.player.Player;
@@ -73,10 +74,10 @@ public class SellUI {
 					.add(Keys.DISPLAY_NAME, Text.of(TextColors.YELLOW, classification.getPrimaryIdentifier()))
 					.build()
 			);
-			icon.addListener(clickable -> {
+			icon.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 				this.ui.close(this.viewer);
 				classification.getUi().createFor(viewer).getDisplay().open(viewer);
-			});
+			}));
 			icons.add(icon);
 		}
 
@@ -11,25 +11,22 @@ import me.nickimpact.gts.api.searching.Searcher;
 import me.nickimpact.gts.config.ConfigKeys;
 import me.nickimpact.gts.config.MsgConfigKeys;
 import me.nickimpact.gts.discord.DiscordNotifier;
-import me.nickimpact.gts.discord.Message;
+import me.nickimpact.gts.manager.SpongeListingManager;
 import me.nickimpact.gts.sponge.SpongeListing;
 import me.nickimpact.gts.sponge.TextParsingUtils;
+import me.nickimpact.gts.sponge.discord.DiscordEvent;
 import me.nickimpact.gts.sponge.utils.MessageUtils;
-import org.spongepowered.api.command.CommandSource;
+import me.nickimpact.gts.tasks.TickTimings;
 import org.spongepowered.api.data.key.Keys;
 import org.spongepowered.api.data.type.DyeColors;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.item.ItemTypes;
 import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.item.inventory.property.InventoryDimension;
-import org.spongepowered.api.text.Text;
 
 import javax.annotation.Nullable;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 public class SpongeConfirmUI {
 
@@ -76,7 +73,7 @@ public class SpongeConfirmUI {
 					.add(Keys.DYE_COLOR, DyeColors.GRAY)
 					.build()
 			);
-			confirmer.addListener(clickable -> {
+			confirmer.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 				SpongeLayout layout = this.view.getLayout();
 				SpongeLayout.SpongeLayoutBuilder slbm = SpongeLayout.builder().from(layout);
 
@@ -96,15 +93,15 @@ public class SpongeConfirmUI {
 						.add(Keys.DYE_COLOR, DyeColors.LIME)
 						.build()
 				);
-				purchase.addListener(c2 -> {
+				purchase.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, c2 -> {
 					if(this.confirmed) {
 						GTS.getInstance().getAPIService().getListingManager().purchase(c2.getPlayer().getUniqueId(), this.focus);
 						this.view.close(c2.getPlayer());
 					}
-				});
+				}));
 				slbm.slots(purchase, 46, 47, 48);
 				this.view.define(slbm.build());
-			});
+			}));
 			slb.hollowSquare(confirmer, 22);
 
 			SpongeIcon require = new SpongeIcon(ItemStack.builder()
@@ -124,35 +121,37 @@ public class SpongeConfirmUI {
 			variables.put("listing", this.focus);
 			variables.put("entry", this.focus.getEntry().getEntry());
 
-			remover.addListener(clickable -> {
+			remover.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 				this.view.close(clickable.getPlayer());
-				if(!GTS.getInstance().getAPIService().getListingManager().getListingByID(this.focus.getUuid()).isPresent()) {
+				// Expired listings are returned by the expiration task, which may already be handing this one back
+				if(this.focus.hasExpired() || !GTS.getInstance().getAPIService().getListingManager().getListingByID(this.focus.getUuid()).isPresent()) {
 					clickable.getPlayer().sendMessages(parser.fetchAndParseMsgs(this.viewer, msgs, MsgConfigKeys.REMOVED_MISSING, null, variables));
 					return;
 				}
 
 				this.focus.getEntry().giveEntry(clickable.getPlayer());
-				GTS.getInstance().getAPIService().getListingManager().deleteListing(this.focus);
-
-				List<String> details = Lists.newArrayList("");
-				details.addAll(this.focus.getEntry().getDetails());
+				((SpongeListingManager) GTS.getInstance().getAPIService().getListingManager()).deleteListing(this.focus, clickable.getPlayer().getUniqueId());
 
 				clickable.getPlayer().sendMessages(GTS.getInstance().getTextParsingUtils().fetchAndParseMsgs(clickable.getPlayer(), MsgConfigKeys.REMOVAL_CHOICE, null, null));
 
-				Map<String, Function<CommandSource, Optional<Text>>> tokens = Maps.newHashMap();
-				tokens.put("gts_publisher", src -> Optional.of(Text.of(clickable.getPlayer().getName())));
-				tokens.put("gts_publisher_id", src -> Optional.of(Text.of(clickable.getPlayer().getUniqueId().toString())));
-				tokens.put("gts_published_item", src -> Optional.of(Text.of(this.focus.getEntry().getName())));
-				tokens.put("gts_published_item_details", src -> Optional.of(Text.of(MessageUtils.asSingleWithNewlines(details))));
-
-				String discord = MessageUtils.asSingleWithNewlines(GTS.getInstance().getTextParsingUtils().fetchAndParseMsgs(
-						null, GTS.getInstance().getMsgConfig(), MsgConfigKeys.DISCORD_REMOVAL_TEMPLATE, tokens, variables
-				).stream().map(Text::toPlain).collect(Collectors.toList()));
-
-				DiscordNotifier notifier = new DiscordNotifier(GTS.getInstance());
-				Message message = notifier.forgeMessage(GTS.getInstance().getConfiguration().get(ConfigKeys.DISCORD_REMOVE), discord);
-				notifier.sendMessage(message);
-			});
+				DiscordNotifier notifier = GTS.getInstance().getDiscordNotifier();
+				if(notifier.isEnabled()) {
+					List<String> details = Lists.newArrayList("");
+					details.addAll(this.focus.getEntry().getDetails());
+
+					DiscordEvent.builder()
+							.option(GTS.getInstance().getConfiguration().get(ConfigKeys.DISCORD_REMOVE))
+							.template(msgs.get(MsgConfigKeys.DISCORD_REMOVAL_TEMPLATE))
+							.token("gts_publisher", clickable.getPlayer().getName())
+							.token("gts_publisher_id", clickable.getPlayer().getUniqueId().toString())
+							.token("gts_published_item", this.focus.getEntry().getName())
+							.token("gts_published_item_details", MessageUtils.asSingleWithNewlines(details))
+							.variable("listing", this.focus)
+							.variable("entry", this.focus.getEntry().getEntry())
+							.build()
+							.publish(notifier);
+				}
+			}));
 			slb.slots(remover, 46, 47, 48);
 		}
 
@@ -162,10 +161,10 @@ public class SpongeConfirmUI {
 				.add(Keys.DYE_COLOR, DyeColors.GRAY)
 				.build()
 		);
-		cancel.addListener(clickable -> {
+		cancel.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 			this.view.close(this.viewer);
 			new SpongeMainUI(this.viewer, this.searcher, this.input).open();
-		});
+		}));
 		return slb.slots(cancel, 50, 51, 52).build();
 	}
 }
@@ -12,7 +12,10 @@ import me.nickimpact.gts.api.listings.ListingManager;
 import me.nickimpact.gts.api.listings.entries.Entry;
 import me.nickimpact.gts.api.searching.Searcher;
 import me.nickimpact.gts.config.MsgConfigKeys;
+import me.nickimpact.gts.metrics.Trace;
 import me.nickimpact.gts.sponge.SpongeListing;
+import me.nickimpact.gts.tasks.TickTimings;
+import me.nickimpact.gts.utils.Cooldowns;
 import me.nickimpact.gts.utils.SpongeItemTypeUtil;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandSource;
@@ -27,11 +30,9 @@ import org.spongepowered.api.item.ItemTypes;
 import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.item.inventory.property.InventoryDimension;
 import org.spongepowered.api.item.potion.PotionTypes;
-import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.text.Text;
 
 import javax.annotation.Nullable;
-import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -40,11 +41,15 @@ import java.util.stream.Collectors;
 
 public class SpongeMainUI {
 
-	private static Map<UUID, Instant> delays = Maps.newHashMap();
+	/** Throttles how often a player may swap the classification filter, as each swap re-filters the market */
+	private static final Cooldowns filterDelays = new Cooldowns();
 
 	private SpongePage<SpongeListing> page;
 	private Player viewer;
 
+	/** The filtered set of listings currently defined on the page */
+	private List<SpongeListing> contents = Lists.newArrayList();
+
 	private Collection<Predicate<Listing>> searchConditions = Lists.newArrayList();
 
 	private Class<? extends Entry> classSelection;
@@ -55,8 +60,6 @@ public class SpongeMainUI {
 	private static List<EntryClassification> classifications = GTS.getInstance().getAPIService().getEntryRegistry().getClassifications();
 	private int index = 0;
 
-	private Task runner;
-
 	/** These settings are for search specific settings */
 	private Searcher searcher;
 	private String input;
@@ -96,25 +99,55 @@ public class SpongeMainUI {
 				.build();
 		this.page.applier(listing -> {
 			SpongeIcon icon = new SpongeIcon(listing.getDisplay(this.viewer));
-			icon.addListener(clickable -> {
+			icon.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 				UUID uuid = listing.getUuid();
 				if(GTS.getInstance().getAPIService().getListingManager().getListingByID(uuid).isPresent()) {
 					this.page.close();
 					new SpongeConfirmUI(this.viewer, listing, searcher, input).open();
 				}
-			});
+			}));
 
 			return icon;
 		});
-		this.page.define(this.getListings());
-		this.page.getView().attachCloseListener(e -> {
-			//this.runner.cancel();
-		});
+		this.page.getView().attachCloseListener(e -> GTS.getInstance().getViewTracker().unsubscribe(this));
 	}
 
 	public void open() {
-		this.page.open();
-		//this.runner = Sponge.getScheduler().createTaskBuilder().execute(this::apply).interval(1, TimeUnit.SECONDS).submit(GTS.getInstance());
+		try(Trace trace = GTS.getInstance().getTracer().start("ui.open", this.viewer.getUniqueId())) {
+			trace.phase("render", this::apply);
+			trace.phase("open", () -> this.page.open());
+			GTS.getInstance().getViewTracker().subscribe(this);
+		}
+	}
+
+	/**
+	 * Rebuilds the page from the full market. Only used when the market has been replaced entirely,
+	 * as regular changes arrive through {@link #update(Collection, Set)}.
+	 */
+	void refresh() {
+		this.apply();
+	}
+
+	/**
+	 * Applies a batch of market changes to this window. The changes are checked against the listings
+	 * already on display and this viewer's filters, so the market itself is never re-scanned. Nothing
+	 * is redrawn unless the change actually affects what this viewer can see.
+	 *
+	 * @param added Listings published since the last update
+	 * @param removed IDs of listings that have been sold, removed, or have expired since the last update
+	 */
+	void update(Collection<SpongeListing> added, Set<UUID> removed) {
+		boolean changed = this.contents.removeIf(listing -> removed.contains(listing.getUuid()) || listing.hasExpired());
+		for(SpongeListing listing : added) {
+			if(this.matches(listing)) {
+				this.contents.add(listing);
+				changed = true;
+			}
+		}
+
+		if(changed) {
+			GTS.getInstance().getAPIService().getMetrics().timer("ui.market.update").time(() -> this.page.define(this.contents));
+		}
 	}
 
 	private SpongeLayout design() {
@@ -125,9 +158,9 @@ public class SpongeMainUI {
 
 		ItemStack refresher = ItemStack.builder().itemType(ItemTypes.CLOCK).add(Keys.DISPLAY_NAME, GTS.getInstance().getTextParsingUtils().fetchAndParseMsg(this.viewer, GTS.getInstance().getMsgConfig(), MsgConfigKeys.UI_ITEMS_REFRESH_TITLE, null, null)).build();
 		SpongeIcon rIcon = new SpongeIcon(refresher);
-		rIcon.addListener(clickable -> {
+		rIcon.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 			this.apply();
-		});
+		}));
 
 		builder.slot(rIcon, 49);
 
@@ -141,14 +174,14 @@ public class SpongeMainUI {
 				.add(Keys.HIDE_ENCHANTMENTS, true)
 				.build();
 		SpongeIcon pIcon = new SpongeIcon(pListings);
-		pIcon.addListener(clickable -> {
+		pIcon.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 			this.justPlayer = !this.justPlayer;
 			List<Text> lore = pListings.get(Keys.ITEM_LORE).get();
 			lore.set(0, GTS.getInstance().getTextParsingUtils().fetchAndParseMsg(this.viewer, GTS.getInstance().getMsgConfig(), this.justPlayer ? MsgConfigKeys.UI_ITEMS_PLAYER_LISTINGS_LORE_ENABLED : MsgConfigKeys.UI_ITEMS_PLAYER_LISTINGS_LORE_DISABLED, null, null));
 			pListings.offer(Keys.ITEM_LORE, lore);
 			this.page.getView().setSlot(45, pIcon);
 			this.apply();
-		});
+		}));
 		builder.slot(pIcon, 45);
 
 		if(classifications.size() != 0) {
@@ -163,42 +196,31 @@ public class SpongeMainUI {
 	}
 
 	private void apply() {
-		this.page.define(this.getListings());
+		GTS.getInstance().getAPIService().getMetrics().timer("ui.market.render").time(() -> {
+			this.contents = this.getListings();
+			this.page.define(this.contents);
+		});
 	}
 
 	private List<SpongeListing> getListings() {
-		List<SpongeListing> listings = Lists.newArrayList();
 		ListingManager<SpongeListing> manager = GTS.getInstance().getAPIService().getListingManager();
+		return manager.getListings().stream().filter(this::matches).collect(Collectors.toList());
+	}
+
+	private boolean matches(SpongeListing listing) {
 		if(justPlayer) {
-			listings = manager.getListings().stream()
-					.filter(listing -> listing.getOwnerUUID().equals(this.viewer.getUniqueId()))
-					.filter(listing -> {
-						if(searcher == null) {
-							return true;
-						}
-
-						return searcher.parse(listing, this.input);
-					}).collect(Collectors.toList());
+			if(!listing.getOwnerUUID().equals(this.viewer.getUniqueId())) {
+				return false;
+			}
 		} else {
-			if(!this.searchConditions.isEmpty()) {
-				listings = manager.getListings().stream().filter(listing -> {
-					boolean passed = true;
-					for(Predicate<Listing> predicate : this.searchConditions) {
-						passed = passed && predicate.test(listing);
-					}
-
-					return passed;
-				}).filter(listing -> {
-					if(searcher == null) {
-						return true;
-					}
-
-					return searcher.parse(listing, this.input);
-				}).collect(Collectors.toList());
+			for(Predicate<Listing> predicate : this.searchConditions) {
+				if(!predicate.test(listing)) {
+					return false;
+				}
 			}
 		}
 
-		return listings;
+		return searcher == null || searcher.parse(listing, this.input);
 	}
 
 	private SpongeIcon classificationToIcon(EntryClassification classification) {
@@ -214,7 +236,7 @@ public class SpongeMainUI {
 		rep.offer(Keys.ITEM_LORE, lore);
 
 		SpongeIcon icon = new SpongeIcon(rep);
-		icon.addListener(clickable -> {
+		icon.addListener(GTS.getInstance().getTickTimings().wrap(TickTimings.Source.UI, clickable -> {
 			if(clickable.getEvent() instanceof ClickInventoryEvent.Secondary) {
 				if(index + 1 >= classifications.size()) {
 					index = -1;
@@ -222,10 +244,8 @@ public class SpongeMainUI {
 
 				this.page.getView().setSlot(53, this.classificationToIcon(classifications.get(++index)));
 			} else {
-				if (delays.containsKey(clickable.getPlayer().getUniqueId())) {
-					if (!Instant.now().isAfter(delays.get(clickable.getPlayer().getUniqueId()))) {
-						return;
-					}
+				if(!filterDelays.tryAcquire(clickable.getPlayer().getUniqueId(), 3, TimeUnit.SECONDS)) {
+					return;
 				}
 
 				List<Text> l = rep.get(Keys.ITEM_LORE).get();
@@ -240,9 +260,8 @@ public class SpongeMainUI {
 
 				this.page.getView().setSlot(53, icon);
 				this.apply();
-				delays.put(clickable.getPlayer().getUniqueId(), Instant.now().plusSeconds(3));
 			}
-		});
+		}));
 
 		return icon;
 	}
@@ -17,5 +17,6 @@ CREATE TABLE `{prefix}sold` (
   `owner`       VARCHAR(36)     NOT NULL,
   `name`        VARCHAR(200)    NOT NULL,
   `price`       NUMERIC(12, 2)  NOT NULL,
+  `sold_at`     TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP,
   PRIMARY KEY (`id`)
 ) DEFAULT CHARSET = utf8;
\ No newline at end of file
@@ -30,9 +30,12 @@ import me.nickimpact.gts.reforged.ui.ReforgedUI;
 import me.nickimpact.gts.spigot.SpigotGTSPlugin;
 import me.nickimpact.gts.spigot.SpigotGtsService;
 import me.nickimpact.gts.spigot.SpigotListing;
+import me.nickimpact.gts.utils.Blacklists;
+import me.nickimpact.gts.utils.IconCache;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Listener;
+import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
@@ -40,6 +43,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
 
@@ -56,6 +60,11 @@ public class ReforgedBridge extends JavaPlugin implements Extension, Listener {
 	private Config config;
 	private Config msgConfig;
 
+	@Getter
+	private IconCache<ItemStack> sprites;
+
+	private volatile Set<EnumSpecies> blacklist;
+
 	@Override
 	public void onLoad() {
 		instance = this;
@@ -66,6 +75,8 @@ public class ReforgedBridge extends JavaPlugin implements Extension, Listener {
 		this.configDir = Paths.get("./plugins/config/GTS");
 		this.config = new SpigotConfig(new SpigotConfigAdapter(this, new File(this.configDir.toFile(), "reforged.conf")), new ReforgedKeys());
 		this.msgConfig = new SpigotConfig(new SpigotConfigAdapter(this, new File(this.configDir.toFile(), "lang/" + PluginInstance.getInstance().getConfiguration().get(ConfigKeys.LANG_OPTION) + ".conf")), new ReforgedMsgConfigKeys());
+		this.blacklist = this.compileBlacklist();
+		this.sprites = new IconCache<>(PluginInstance.getInstance().getConfiguration().get(ConfigKeys.SPRITE_CACHE_SIZE), ItemStack::clone);
 
 		this.service.registerEntry(
 				Lists.newArrayList("pokemon", "reforged"),
@@ -74,11 +85,17 @@ public class ReforgedBridge extends JavaPlugin implements Extension, Listener {
 				"PIXELMON_GS_BALL",
 				ReforgedEntry::execute
 		);
+		this.service.registerBlacklist(ReforgedEntry.class, pokemon -> this.blacklist.contains(pokemon.getSpecies()));
+		this.service.getMetrics().gauge("cache.sprites.reforged", this.sprites::size);
 		this.service.addSearcher("pokemon", new ReforgedSearcher());
 		new PokemonTokens(((SpigotGTSPlugin) PluginInstance.getInstance()).getTokenService());
 		this.logger.info("Integration successful!");
 	}
 
+	private Set<EnumSpecies> compileBlacklist() {
+		return Blacklists.compile(EnumSpecies.class, this.config.get(ReforgedKeys.BLACKLISTED_POKEMON), EnumSpecies::getFromNameAnyCase, this.logger);
+	}
+
 	@Override
 	public GtsService getAPIService() {
 		return this.service;
@@ -147,7 +164,11 @@ public class ReforgedBridge extends JavaPlugin implements Extension, Listener {
 
 	@Override
 	public Consumer<ImpactorPlugin> onReload() {
-		return x -> {};
+		return x -> {
+			this.config.reload();
+			this.msgConfig.reload();
+			this.blacklist = this.compileBlacklist();
+		};
 	}
 
 	@Override
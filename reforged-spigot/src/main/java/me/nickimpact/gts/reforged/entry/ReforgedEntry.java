@@ -27,7 +27,6 @@ import me.nickimpact.gts.config.ConfigKeys;
 import me.nickimpact.gts.config.MsgConfigKeys;
 import me.nickimpact.gts.discord.Message;
 import me.nickimpact.gts.reforged.ReforgedBridge;
-import me.nickimpact.gts.reforged.config.ReforgedKeys;
 import me.nickimpact.gts.reforged.config.ReforgedMsgConfigKeys;
 import me.nickimpact.gts.reforged.utils.Flags;
 import me.nickimpact.gts.reforged.utils.GsonUtils;
@@ -118,6 +117,18 @@ public class ReforgedEntry extends SpigotEntry<String, Pokemon> {
 		return this.getEntry().getSpecies().getLocalizedName();
 	}
 
+	@Override
+	public List<String> getPriceKeys() {
+		Pokemon pokemon = this.getEntry();
+		return priceKeys(
+				"pokemon",
+				pokemon.getSpecies().name(),
+				pokemon.getFormEnum() != EnumNoForm.NoForm ? pokemon.getFormEnum().getFormSuffix().replaceFirst("^-", "") : null,
+				pokemon.isShiny() ? "shiny" : null,
+				pokemon.isEgg() ? "egg" : null
+		);
+	}
+
 	@Override
 	public List<String> getDetails() {
 		Pokemon pokemon = this.getEntry();
@@ -266,12 +277,7 @@ public class ReforgedEntry extends SpigotEntry<String, Pokemon> {
 			return false;
 		}
 
-		List<EnumSpecies> blacklisted = ReforgedBridge.getInstance().getConfiguration()
-				.get(ReforgedKeys.BLACKLISTED_POKEMON)
-				.stream()
-				.map(EnumSpecies::getFromNameAnyCase)
-				.collect(Collectors.toList());
-		if(blacklisted.contains(this.getEntry().getSpecies())) {
+		if(ReforgedBridge.getInstance().getAPIService().isBlacklisted(ReforgedEntry.class, this.getEntry())) {
 			service.process(MsgConfigKeys.BLACKLISTED, player, null, null);
 			return false;
 		}
@@ -19,40 +19,47 @@ import me.nickimpact.gts.reforged.config.ReforgedMsgConfigKeys;
 import me.nickimpact.gts.reforged.entry.EnumHidableDetail;
 import me.nickimpact.gts.reforged.entry.KeyDetailHolder;
 import me.nickimpact.gts.spigot.SpigotGTSPlugin;
+import me.nickimpact.gts.utils.IconCache;
 import net.minecraft.nbt.NBTTagCompound;
 import org.bukkit.craftbukkit.v1_12_R1.inventory.CraftItemStack;
 import org.bukkit.inventory.ItemStack;
 
-import java.util.Calendar;
+import java.time.Month;
+import java.time.MonthDay;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
 public class SpriteItemUtil {
 
-	public static ItemStack createPicture(Pokemon pokemon) {
-		Calendar calendar = Calendar.getInstance();
-		boolean aprilFools = false;
-		if(calendar.get(Calendar.MONTH) == Calendar.APRIL && calendar.get(Calendar.DAY_OF_MONTH) == 1) {
-			aprilFools = true;
-		}
+	private static final MonthDay APRIL_FOOLS = MonthDay.of(Month.APRIL, 1);
 
+	public static ItemStack createPicture(Pokemon pokemon) {
+		IconCache<ItemStack> sprites = ReforgedBridge.getInstance().getSprites();
 		if(pokemon.isEgg()) {
-			net.minecraft.item.ItemStack item = new net.minecraft.item.ItemStack(PixelmonItems.itemPixelmonSprite);
-			NBTTagCompound nbt = new NBTTagCompound();
-			switch (pokemon.getSpecies()) {
-				case Manaphy:
-				case Togepi:
-					nbt.setString(NbtKeys.SPRITE_NAME,
-							String.format("pixelmon:sprites/eggs/%s1", pokemon.getSpecies().name.toLowerCase()));
-					break;
-				default:
-					nbt.setString(NbtKeys.SPRITE_NAME, "pixelmon:sprites/eggs/egg1");
-					break;
-			}
-			item.setTagCompound(nbt);
-			return CraftItemStack.asBukkitCopy((net.minecraft.server.v1_12_R1.ItemStack) (Object) item);
+			return sprites.get(Arrays.asList("egg", pokemon.getSpecies()), () -> {
+				net.minecraft.item.ItemStack item = new net.minecraft.item.ItemStack(PixelmonItems.itemPixelmonSprite);
+				NBTTagCompound nbt = new NBTTagCompound();
+				switch (pokemon.getSpecies()) {
+					case Manaphy:
+					case Togepi:
+						nbt.setString(NbtKeys.SPRITE_NAME,
+								String.format("pixelmon:sprites/eggs/%s1", pokemon.getSpecies().name.toLowerCase()));
+						break;
+					default:
+						nbt.setString(NbtKeys.SPRITE_NAME, "pixelmon:sprites/eggs/egg1");
+						break;
+				}
+				item.setTagCompound(nbt);
+				return CraftItemStack.asBukkitCopy((net.minecraft.server.v1_12_R1.ItemStack) (Object) item);
+			});
+		} else if(MonthDay.now().equals(APRIL_FOOLS)) {
+			return sprites.get("april-fools", () -> CraftItemStack.asBukkitCopy((net.minecraft.server.v1_12_R1.ItemStack) (Object) ItemPixelmonSprite.getPhoto(Pixelmon.pokemonFactory.create(EnumSpecies.Bidoof))));
 		} else {
-			return CraftItemStack.asBukkitCopy((net.minecraft.server.v1_12_R1.ItemStack) (Object) (aprilFools ? ItemPixelmonSprite.getPhoto(Pixelmon.pokemonFactory.create(EnumSpecies.Bidoof)) : ItemPixelmonSprite.getPhoto(pokemon)));
+			return sprites.get(
+					Arrays.asList(pokemon.getSpecies(), pokemon.getForm(), pokemon.getGender(), pokemon.isShiny(), pokemon.getSpecialTexture(), pokemon.getCustomTexture()),
+					() -> CraftItemStack.asBukkitCopy((net.minecraft.server.v1_12_R1.ItemStack) (Object) ItemPixelmonSprite.getPhoto(pokemon))
+			);
 		}
 	}
 
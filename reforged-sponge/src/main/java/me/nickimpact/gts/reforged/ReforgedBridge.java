@@ -12,10 +12,14 @@ import com.nickimpact.impactor.sponge.AbstractSpongePlugin;
 import com.nickimpact.impactor.sponge.configuration.SpongeConfig;
 import com.nickimpact.impactor.sponge.configuration.SpongeConfigAdapter;
 import com.nickimpact.impactor.sponge.logging.SpongeLogger;
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
 import lombok.Getter;
 import me.nickimpact.gts.api.GtsService;
 import me.nickimpact.gts.api.plugin.Extension;
 import me.nickimpact.gts.api.plugin.PluginInstance;
+import me.nickimpact.gts.config.ConfigKeys;
+import me.nickimpact.gts.pricing.PriceRules;
 import me.nickimpact.gts.reforged.config.PokemonConfigKeys;
 import me.nickimpact.gts.reforged.config.PokemonMsgConfigKeys;
 import me.nickimpact.gts.reforged.deprecated.PokemonEntry;
@@ -23,19 +27,27 @@ import me.nickimpact.gts.reforged.entries.ReforgedEntry;
 import me.nickimpact.gts.reforged.entries.ReforgedUI;
 import me.nickimpact.gts.reforged.entries.searching.ReforgedSearcher;
 import me.nickimpact.gts.reforged.text.PokemonTokens;
+import me.nickimpact.gts.reforged.utils.MinPricing;
+import me.nickimpact.gts.reforged.utils.OfflineDeliveries;
 import me.nickimpact.gts.sponge.service.SpongeGtsService;
+import me.nickimpact.gts.utils.Blacklists;
+import me.nickimpact.gts.utils.IconCache;
+import me.nickimpact.gts.utils.Memoized;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.game.GameReloadEvent;
 import org.spongepowered.api.event.game.state.GamePreInitializationEvent;
 import org.spongepowered.api.event.game.state.GameStartedServerEvent;
 import org.spongepowered.api.event.service.ChangeServiceProviderEvent;
+import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.plugin.Dependency;
 import org.spongepowered.api.plugin.Plugin;
 import org.spongepowered.api.service.economy.EconomyService;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 @Getter
@@ -55,6 +67,11 @@ public class ReforgedBridge extends AbstractSpongePlugin implements Extension {
 
 	private EconomyService ecomony;
 
+	private OfflineDeliveries deliveries = new OfflineDeliveries();
+	private IconCache<ItemStack> sprites;
+	private PriceRules<Pokemon> minPricing;
+	private volatile Set<EnumSpecies> blacklist;
+
 	@Listener(order = Order.LATE)
 	public void onPreInit(GamePreInitializationEvent e) {
 		instance = this;
@@ -63,6 +80,9 @@ public class ReforgedBridge extends AbstractSpongePlugin implements Extension {
 		this.configDir = PluginInstance.getInstance().getConfigDir();
 		this.config = new SpongeConfig(new SpongeConfigAdapter(this, configDir.resolve("reforged.conf").toFile()), new PokemonConfigKeys());
 		this.msgConfig = new SpongeConfig(new SpongeConfigAdapter(this, configDir.resolve("lang/reforged-en_us.conf").toFile()), new PokemonMsgConfigKeys());
+		this.minPricing = MinPricing.compile(this.config, this.logger);
+		this.blacklist = this.compileBlacklist();
+		this.sprites = new IconCache<>(PluginInstance.getInstance().getConfiguration().get(ConfigKeys.SPRITE_CACHE_SIZE), ItemStack::copy);
 
 		service = (SpongeGtsService) Sponge.getServiceManager().provideUnchecked(GtsService.class);
 
@@ -75,10 +95,29 @@ public class ReforgedBridge extends AbstractSpongePlugin implements Extension {
 				"pixelmon:gs_ball",
 				ReforgedEntry::execute
 		);
+		service.registerBlacklist(ReforgedEntry.class, pokemon -> this.blacklist.contains(pokemon.getSpecies()));
+		service.getMetrics().gauge("cache.sprites.reforged", this.sprites::size);
 		service.addSearcher("pokemon", new ReforgedSearcher());
 		service.getAllDeprecatedTypes().add(PokemonEntry.class);
 	}
 
+	@Listener
+	public void onReload(GameReloadEvent e) {
+		this.reload();
+	}
+
+	public void reload() {
+		this.config.reload();
+		this.msgConfig.reload();
+		this.minPricing = MinPricing.compile(this.config, this.logger);
+		this.blacklist = this.compileBlacklist();
+		Memoized.invalidateAll();
+	}
+
+	private Set<EnumSpecies> compileBlacklist() {
+		return Blacklists.compile(EnumSpecies.class, this.config.get(PokemonConfigKeys.BLACKLISTED_POKEMON), EnumSpecies::getFromNameAnyCase, this.logger);
+	}
+
 	@Listener
 	public void onServerStart(GameStartedServerEvent e) {
 		service.registerTokens(new PokemonTokens());
@@ -148,7 +187,7 @@ public class ReforgedBridge extends AbstractSpongePlugin implements Extension {
 
 	@Override
 	public Consumer<ImpactorPlugin> onReload() {
-		return plugin -> {};
+		return plugin -> this.reload();
 	}
 
 	@Override
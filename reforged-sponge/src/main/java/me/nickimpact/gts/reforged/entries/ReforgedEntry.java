@@ -1,6 +1,7 @@
 package me.nickimpact.gts.reforged.entries;
 
 import co.aikar.commands.CommandIssuer;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.nickimpact.impactor.api.configuration.Config;
@@ -32,11 +33,12 @@ import me.nickimpact.gts.api.plugin.PluginInstance;
 import me.nickimpact.gts.config.ConfigKeys;
 import me.nickimpact.gts.config.MsgConfigKeys;
 import me.nickimpact.gts.reforged.ReforgedBridge;
-import me.nickimpact.gts.reforged.config.PokemonConfigKeys;
 import me.nickimpact.gts.reforged.config.PokemonMsgConfigKeys;
 import me.nickimpact.gts.reforged.utils.Flags;
 import me.nickimpact.gts.reforged.utils.GsonUtils;
 import me.nickimpact.gts.sponge.*;
+import me.nickimpact.gts.utils.IconCache;
+import me.nickimpact.gts.utils.Memoized;
 import net.minecraft.nbt.NBTTagCompound;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.data.key.Keys;
@@ -46,15 +48,23 @@ import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.text.Text;
 
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.MonthDay;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @JsonTyping("pokemon")
 public class ReforgedEntry extends SpongeEntry<String, Pokemon> implements Minable<MoneyPrice> {
 
+	private static final MonthDay APRIL_FOOLS = MonthDay.of(Month.APRIL, 1);
+
 	private transient Pokemon pokemon;
 	private transient boolean messaged;
+	private final transient Memoized<List<String>> details = new Memoized<>(() -> ImmutableList.copyOf(this.computeDetails()));
+	private final transient Memoized<MoneyPrice> minPrice = new Memoized<>(this::computeMinPrice);
+	private final transient Memoized<List<String>> priceKeys = new Memoized<>(this::computePriceKeys);
 
 	public ReforgedEntry() {}
 
@@ -90,6 +100,26 @@ public class ReforgedEntry extends SpongeEntry<String, Pokemon> implements Minab
 
 	@Override
 	public List<String> getDetails() {
+		return this.details.get();
+	}
+
+	@Override
+	public List<String> getPriceKeys() {
+		return this.priceKeys.get();
+	}
+
+	private List<String> computePriceKeys() {
+		Pokemon pokemon = this.getEntry();
+		return priceKeys(
+				"pokemon",
+				pokemon.getSpecies().name(),
+				pokemon.getFormEnum() != EnumNoForm.NoForm ? pokemon.getFormEnum().getFormSuffix().replaceFirst("^-", "") : null,
+				pokemon.isShiny() ? "shiny" : null,
+				pokemon.isEgg() ? "egg" : null
+		);
+	}
+
+	private List<String> computeDetails() {
 		Pokemon pokemon = this.getEntry();
 		List<String> output = Lists.newArrayList();
 
@@ -164,7 +194,7 @@ public class ReforgedEntry extends SpongeEntry<String, Pokemon> implements Minab
 
 	@Override
 	public ItemStack baseItemStack(Player player, Listing listing) {
-		ItemStack icon = this.getPicture(this.getEntry());
+		ItemStack icon = getPicture(this.getEntry());
 		Map<String, Object> variables = Maps.newHashMap();
 		variables.put("listing", listing);
 		variables.put("pokemon", this.getEntry());
@@ -215,6 +245,11 @@ public class ReforgedEntry extends SpongeEntry<String, Pokemon> implements Minab
 		return true;
 	}
 
+	@Override
+	public CompletableFuture<Boolean> giveEntryOffline(User user) {
+		return ReforgedBridge.getInstance().getDeliveries().deliver(user.getUniqueId(), this.getEntry());
+	}
+
 	@Override
 	public boolean doTakeAway(Player player) {
 		Config msgs = PluginInstance.getInstance().getMsgConfig();
@@ -231,12 +266,7 @@ public class ReforgedEntry extends SpongeEntry<String, Pokemon> implements Minab
 			return false;
 		}
 
-		List<EnumSpecies> blacklisted = ReforgedBridge.getInstance().getConfiguration()
-				.get(PokemonConfigKeys.BLACKLISTED_POKEMON)
-				.stream()
-				.map(EnumSpecies::getFromNameAnyCase)
-				.collect(Collectors.toList());
-		if(blacklisted.contains(this.getEntry().getSpecies())) {
+		if(ReforgedBridge.getInstance().getService().isBlacklisted(ReforgedEntry.class, this.getEntry())) {
 			player.sendMessage(parser.fetchAndParseMsg(player, msgs, MsgConfigKeys.ERROR_BLACKLISTED, null, null));
 			return false;
 		}
@@ -247,65 +277,65 @@ public class ReforgedEntry extends SpongeEntry<String, Pokemon> implements Minab
 		return true;
 	}
 
-	private ItemStack getPicture(Pokemon pokemon) {
-		Calendar calendar = Calendar.getInstance();
-		boolean aprilFools = false;
-		if(calendar.get(Calendar.MONTH) == Calendar.APRIL && calendar.get(Calendar.DAY_OF_MONTH) == 1) {
-			aprilFools = true;
-		}
-
+	/**
+	 * Fetches a copy of the sprite for the given pokemon, built once per look and shared between the listing icons
+	 * and the sell menu.
+	 *
+	 * @param pokemon The pokemon to picture
+	 * @return A copy of the cached sprite, free to be decorated by the caller
+	 */
+	static ItemStack getPicture(Pokemon pokemon) {
+		IconCache<ItemStack> sprites = ReforgedBridge.getInstance().getSprites();
 		if(pokemon.isEgg()) {
-			net.minecraft.item.ItemStack item = new net.minecraft.item.ItemStack(PixelmonItems.itemPixelmonSprite);
-			NBTTagCompound nbt = new NBTTagCompound();
-			switch (pokemon.getSpecies()) {
-				case Manaphy:
-				case Togepi:
-					nbt.setString(NbtKeys.SPRITE_NAME,
-							String.format("pixelmon:sprites/eggs/%s1", pokemon.getSpecies().name.toLowerCase()));
-					break;
-				default:
-					nbt.setString(NbtKeys.SPRITE_NAME, "pixelmon:sprites/eggs/egg1");
-					break;
-			}
-			item.setTagCompound(nbt);
-			return (ItemStack) (Object) item;
+			return sprites.get(Arrays.asList("egg", pokemon.getSpecies()), () -> {
+				net.minecraft.item.ItemStack item = new net.minecraft.item.ItemStack(PixelmonItems.itemPixelmonSprite);
+				NBTTagCompound nbt = new NBTTagCompound();
+				switch (pokemon.getSpecies()) {
+					case Manaphy:
+					case Togepi:
+						nbt.setString(NbtKeys.SPRITE_NAME,
+								String.format("pixelmon:sprites/eggs/%s1", pokemon.getSpecies().name.toLowerCase()));
+						break;
+					default:
+						nbt.setString(NbtKeys.SPRITE_NAME, "pixelmon:sprites/eggs/egg1");
+						break;
+				}
+				item.setTagCompound(nbt);
+				return (ItemStack) (Object) item;
+			});
+		} else if(MonthDay.now().equals(APRIL_FOOLS)) {
+			return sprites.get("april-fools", () -> (ItemStack) (Object) ItemPixelmonSprite.getPhoto(Pixelmon.pokemonFactory.create(EnumSpecies.Bidoof)));
 		} else {
-			return (ItemStack) (Object) (aprilFools ? ItemPixelmonSprite.getPhoto(Pixelmon.pokemonFactory.create(EnumSpecies.Bidoof)) : ItemPixelmonSprite.getPhoto(pokemon));
+			return sprites.get(
+					Arrays.asList(pokemon.getSpecies(), pokemon.getForm(), pokemon.getGender(), pokemon.isShiny(), pokemon.getSpecialTexture(), pokemon.getCustomTexture()),
+					() -> (ItemStack) (Object) ItemPixelmonSprite.getPhoto(pokemon)
+			);
 		}
 	}
 
 	@Override
 	public MoneyPrice calcMinPrice() {
-		MoneyPrice price = new MoneyPrice(ReforgedBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_BASE));
-		Pokemon pokemon = this.getEntry();
-
-		boolean isLegend = EnumSpecies.legendaries.contains(pokemon.getSpecies().getPokemonName());
-		if (isLegend && pokemon.isShiny()) {
-			price = new MoneyPrice(ReforgedBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_LEGEND) + ReforgedBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_SHINY) + price.getPrice());
-		} else if (isLegend) {
-			price = new MoneyPrice(ReforgedBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_LEGEND) + price.getPrice());
-		} else if (pokemon.isShiny()) {
-			price = new MoneyPrice(ReforgedBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_SHINY) + price.getPrice());
-
-		}
-
-		for (int iv : pokemon.getStats().ivs.getArray()) {
-			if (iv >= ReforgedBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_IVS_MINVAL)) {
-				price = new MoneyPrice(ReforgedBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_IVS_PRICE) + price.getPrice());
-			}
-		}
+		return this.minPrice.get();
+	}
 
-		if (pokemon.getAbilitySlot() == 2) {
-			price = new MoneyPrice(ReforgedBridge.getInstance().getConfig().get(PokemonConfigKeys.MIN_PRICING_POKEMON_HA) + price.getPrice());
-		}
+	private MoneyPrice computeMinPrice() {
+		return new MoneyPrice(minPrice(this.getEntry()));
+	}
 
-		double total = 0.0;
+	/**
+	 * Prices the given pokemon by the compiled minimum pricing rules, along with any options registered by other
+	 * plugins, such that the sell menu quotes the same minimum the listing is later held to.
+	 *
+	 * @param pokemon The pokemon to price
+	 * @return The lowest price the pokemon may be listed for
+	 */
+	static double minPrice(Pokemon pokemon) {
+		double total = ReforgedBridge.getInstance().getMinPricing().evaluate(pokemon);
 		for(Function<Pokemon, Double> function : ReforgedBridge.getInstance().getAPIService().getMinPriceOptionsForEntryType(ReforgedEntry.class)) {
 			total += function.apply(pokemon);
 		}
-		price = new MoneyPrice(price.getPrice() + total);
 
-		return price;
+		return total;
 	}
 
 	public enum LakeTrio {
@@ -430,7 +460,7 @@ public class ReforgedEntry extends SpongeEntry<String, Pokemon> implements Minab
 				return CommandResults.FAILED;
 			}
 
-			if(ReforgedBridge.getInstance().getConfig().get(PokemonConfigKeys.BLACKLISTED_POKEMON).stream().anyMatch(species -> species.toLowerCase().equals(pokemon.getSpecies().getPokemonName().toLowerCase()))) {
+			if(ReforgedBridge.getInstance().getService().isBlacklisted(ReforgedEntry.class, pokemon)) {
 				if(!source.hasPermission("gts.command.sell.pokemon.bypass")) {
 					source.sendMessage(parser.fetchAndParseMsg(source, config, MsgConfigKeys.BLACKLISTED, null, null));
 					return CommandResults.FAILED;
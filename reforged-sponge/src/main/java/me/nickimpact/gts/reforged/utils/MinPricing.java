@@ -0,0 +1,45 @@
+package me.nickimpact.gts.reforged.utils;
+
+import com.google.common.collect.Lists;
+import com.nickimpact.impactor.api.configuration.Config;
+import com.nickimpact.impactor.api.logging.Logger;
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import me.nickimpact.gts.pricing.PriceRuleCompiler;
+import me.nickimpact.gts.pricing.PriceRules;
+import me.nickimpact.gts.reforged.config.PokemonConfigKeys;
+
+import java.util.List;
+
+public class MinPricing {
+
+	private static final PriceRuleCompiler<Pokemon> COMPILER = new PriceRuleCompiler<Pokemon>()
+			.index("species", pokemon -> pokemon.getSpecies().getPokemonName())
+			.flag("shiny", Pokemon::isShiny)
+			.flag("egg", Pokemon::isEgg)
+			.flag("legendary", pokemon -> EnumSpecies.legendaries.contains(pokemon.getSpecies().getPokemonName()))
+			.flag("hidden-ability", pokemon -> pokemon.getAbilitySlot() == 2)
+			.value("form", Pokemon::getForm)
+			.value("level", Pokemon::getLevel)
+			.value("gender", Pokemon::getGender)
+			.value("nature", Pokemon::getNature)
+			.value("ability", Pokemon::getAbilityName)
+			.value("texture", Pokemon::getCustomTexture)
+			.counter("ivs", pokemon -> pokemon.getStats().ivs.getArray());
+
+	/**
+	 * Compiles the minimum pricing rules from the given config. The fixed pricing options which predate the rule
+	 * list are translated into rules of their own, so existing configs keep pricing pokemon as they always have.
+	 */
+	public static PriceRules<Pokemon> compile(Config config, Logger logger) {
+		List<String> rules = Lists.newArrayList(
+				"legendary = " + config.get(PokemonConfigKeys.MIN_PRICING_POKEMON_LEGEND),
+				"shiny = " + config.get(PokemonConfigKeys.MIN_PRICING_POKEMON_SHINY),
+				"ivs>=" + config.get(PokemonConfigKeys.MIN_PRICING_POKEMON_IVS_MINVAL) + " = " + config.get(PokemonConfigKeys.MIN_PRICING_POKEMON_IVS_PRICE),
+				"hidden-ability = " + config.get(PokemonConfigKeys.MIN_PRICING_POKEMON_HA)
+		);
+		rules.addAll(config.get(PokemonConfigKeys.MIN_PRICING_RULES));
+
+		return COMPILER.compile(config.get(PokemonConfigKeys.MIN_PRICING_POKEMON_BASE), rules, logger);
+	}
+}
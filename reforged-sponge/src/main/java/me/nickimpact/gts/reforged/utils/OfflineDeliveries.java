@@ -0,0 +1,149 @@
+package me.nickimpact.gts.reforged.utils;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.pixelmonmod.pixelmon.Pixelmon;
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import com.pixelmonmod.pixelmon.storage.PlayerPartyStorage;
+import me.nickimpact.gts.reforged.ReforgedBridge;
+import org.spongepowered.api.Sponge;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Delivers pokemon to owners who are offline, grouping every delivery for the same owner into a single batch.
+ * A batch fetches the owner's party through <code>Pixelmon.storageManager.getPartyAsync</code>, so a party
+ * which isn't cached is read from disk away from the server thread, and Pixelmon's cached copy stays the
+ * authoritative one. The batch then hops to the server thread only to place the pokemon into the party, and
+ * saves the party once, regardless of how many pokemon were delivered.
+ *
+ * <p>Deliveries requested while a batch is still loading join that batch. Saves share a single worker thread,
+ * so the saves of consecutive batches for the same owner are written in order. Should the owner log in while
+ * a batch is waiting, they simply receive the same cached party, which Pixelmon then saves itself.</p>
+ */
+public class OfflineDeliveries {
+
+	private static final ExecutorService WORKER = Executors.newSingleThreadExecutor(
+			new ThreadFactoryBuilder().setNameFormat("GTS Reforged Deliveries").setDaemon(true).build()
+	);
+
+	/** Batches which have yet to be applied to their owner's party, keyed by owner */
+	private final Map<UUID, Batch> pending = Maps.newHashMap();
+
+	/**
+	 * Queues a pokemon for delivery to an offline owner.
+	 *
+	 * @param owner The UUID of the owner
+	 * @param pokemon The pokemon to deliver
+	 * @return A future completing with <code>true</code> once the pokemon has been placed in the owner's
+	 * party and that party has been saved, or <code>false</code> if the delivery failed
+	 */
+	public CompletableFuture<Boolean> deliver(UUID owner, Pokemon pokemon) {
+		synchronized (this.pending) {
+			Batch batch = this.pending.get(owner);
+			if(batch == null) {
+				Batch created = new Batch(owner);
+				this.pending.put(owner, created);
+				this.load(created);
+				batch = created;
+			}
+
+			return batch.add(pokemon);
+		}
+	}
+
+	private void load(Batch batch) {
+		CompletableFuture<PlayerPartyStorage> party;
+		try {
+			party = Pixelmon.storageManager.getPartyAsync(batch.owner);
+		} catch (Exception e) {
+			party = new CompletableFuture<>();
+			party.completeExceptionally(e);
+		}
+
+		party.whenComplete((loaded, throwable) -> {
+			if(throwable != null) {
+				ReforgedBridge.getInstance().getPluginLogger().error("Unable to load the party of " + batch.owner + ", a stacktrace is available below:");
+				throwable.printStackTrace();
+			}
+
+			Sponge.getScheduler().createTaskBuilder()
+					.execute(() -> this.apply(batch, loaded))
+					.submit(ReforgedBridge.getInstance());
+		});
+	}
+
+	private void apply(Batch batch, PlayerPartyStorage party) {
+		synchronized (this.pending) {
+			// Anything requested from here on starts a new batch
+			this.pending.remove(batch.owner);
+		}
+
+		if(party == null) {
+			batch.complete(null);
+			return;
+		}
+
+		List<Boolean> results = Lists.newArrayList();
+		boolean changed = false;
+		for(Pokemon pokemon : batch.pokemon) {
+			boolean added = party.add(pokemon);
+			results.add(added);
+			changed |= added;
+		}
+
+		// An owner who has since logged in has their party saved by Pixelmon along with everything else
+		if(!changed || Sponge.getServer().getPlayer(batch.owner).isPresent()) {
+			batch.complete(results);
+			return;
+		}
+
+		WORKER.execute(() -> {
+			try {
+				Pixelmon.storageManager.getSaveAdapter().save(party);
+				batch.complete(results);
+			} catch (Exception e) {
+				// The pokemon are already held by Pixelmon's cached party, which it goes on to save itself, so
+				// the deliveries stand. Failing them here would hand the listings back a second time
+				ReforgedBridge.getInstance().getPluginLogger().error("Unable to save the party of " + batch.owner + ", a stacktrace is available below:");
+				e.printStackTrace();
+				batch.complete(results);
+			}
+		});
+	}
+
+	private static class Batch {
+
+		private final UUID owner;
+		private final List<Pokemon> pokemon = Lists.newArrayList();
+		private final List<CompletableFuture<Boolean>> futures = Lists.newArrayList();
+
+		private Batch(UUID owner) {
+			this.owner = owner;
+		}
+
+		private CompletableFuture<Boolean> add(Pokemon pokemon) {
+			CompletableFuture<Boolean> future = new CompletableFuture<>();
+			this.pokemon.add(pokemon);
+			this.futures.add(future);
+			return future;
+		}
+
+		/**
+		 * Completes every delivery within this batch.
+		 *
+		 * @param results The result of each delivery, in order, or null if the batch failed as a whole
+		 */
+		private void complete(List<Boolean> results) {
+			for(int i = 0; i < this.futures.size(); i++) {
+				this.futures.get(i).complete(results != null && results.get(i));
+			}
+		}
+	}
+}
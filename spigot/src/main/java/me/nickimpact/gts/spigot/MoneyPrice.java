@@ -2,17 +2,14 @@ package me.nickimpact.gts.spigot;
 
 import lombok.Setter;
 import me.nickimpact.gts.api.listings.prices.Price;
-import me.xanium.gemseconomy.api.GemsEconomyAPI;
-import me.xanium.gemseconomy.economy.Currency;
-import net.milkbowl.vault.economy.Economy;
-import org.bukkit.Bukkit;
+import me.nickimpact.gts.spigot.economy.VaultEconomyAdapter;
 
 import java.util.UUID;
 
 public class MoneyPrice implements Price<String> {
 
 	@Setter
-	private static Economy economy;
+	private static VaultEconomyAdapter economy;
 
 	private double price;
 
@@ -32,21 +29,17 @@ public class MoneyPrice implements Price<String> {
 
 	@Override
 	public boolean canPay(UUID uuid) {
-		return economy.getBalance(Bukkit.getOfflinePlayer(uuid)) >= price;
+		return economy.getBalance(uuid) >= price;
 	}
 
 	@Override
 	public boolean pay(UUID uuid) {
-		if(this.canPay(uuid)) {
-			economy.withdrawPlayer(Bukkit.getOfflinePlayer(uuid), price);
-			return true;
-		}
-		return false;
+		return economy.withdrawIfSufficient(uuid, price);
 	}
 
 	@Override
 	public void reward(UUID uuid) {
-		economy.depositPlayer(Bukkit.getOfflinePlayer(uuid), price);
+		economy.deposit(uuid, price);
 	}
 
 	@Override
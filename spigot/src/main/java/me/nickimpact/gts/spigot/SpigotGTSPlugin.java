@@ -1,10 +1,19 @@
 package me.nickimpact.gts.spigot;
 
 import me.nickimpact.gts.api.plugin.IGTSPlugin;
+import me.nickimpact.gts.pricing.PriceHistory;
+import me.nickimpact.gts.spigot.economy.VaultEconomyAdapter;
 import me.nickimpact.gts.spigot.tokens.TokenService;
+import me.nickimpact.gts.utils.NameCache;
 
 public interface SpigotGTSPlugin extends IGTSPlugin {
 
 	TokenService getTokenService();
 
+	NameCache getNameCache();
+
+	VaultEconomyAdapter getEconomyAdapter();
+
+	PriceHistory getPriceHistory();
+
 }
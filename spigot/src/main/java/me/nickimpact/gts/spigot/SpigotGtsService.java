@@ -2,9 +2,9 @@ package me.nickimpact.gts.spigot;
 
 import co.aikar.commands.CommandIssuer;
 import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Multimap;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSerializer;
@@ -13,6 +13,8 @@ import lombok.Setter;
 import me.nickimpact.gts.api.GtsService;
 import me.nickimpact.gts.api.deprecated.OldAdapter;
 import me.nickimpact.gts.api.enums.CommandResults;
+import me.nickimpact.gts.api.events.MarketEvent;
+import me.nickimpact.gts.api.events.MarketSubscription;
 import me.nickimpact.gts.api.holders.EntryClassification;
 import me.nickimpact.gts.api.holders.EntryRegistry;
 import me.nickimpact.gts.api.listings.ListingManager;
@@ -22,15 +24,19 @@ import me.nickimpact.gts.api.plugin.IGTSPlugin;
 import me.nickimpact.gts.api.searching.Searcher;
 import me.nickimpact.gts.api.storage.IGtsStorage;
 import me.nickimpact.gts.api.util.TriFunction;
+import me.nickimpact.gts.market.MarketEventBus;
+import me.nickimpact.gts.metrics.MetricsRegistry;
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 @Setter
 public class SpigotGtsService implements GtsService {
@@ -46,10 +52,15 @@ public class SpigotGtsService implements GtsService {
 	private GsonBuilder gson = new GsonBuilder().setPrettyPrinting();
 
 	private Map<String, Searcher> searcherMap = Maps.newHashMap();
-	private Multimap<Class<? extends Entry>, Function<?, Double>> minPriceExtras = ArrayListMultimap.create();
+	private ListMultimap<Class<? extends Entry>, Function<?, Double>> minPriceExtras = ArrayListMultimap.create();
+	private Map<Class<? extends Entry>, Predicate<?>> blacklists = Maps.newConcurrentMap();
+
+	private final MetricsRegistry metrics = new MetricsRegistry();
+	private final MarketEventBus events;
 
 	public SpigotGtsService(IGTSPlugin plugin) {
 		this.plugin = plugin;
+		this.events = new MarketEventBus(plugin, this.metrics);
 	}
 
 	@Override
@@ -122,11 +133,32 @@ public class SpigotGtsService implements GtsService {
 
 	@Override
 	public <T> List<Function<T, Double>> getMinPriceOptionsForEntryType(Class<? extends Entry<?, T, ?, ?, ?>> type) {
-		return this.minPriceExtras.entries().stream()
-				.filter(entry -> entry.getKey().equals(type))
-				.map(Map.Entry::getValue)
-				.map(function -> (Function<T, Double>) function)
-				.collect(Collectors.toList());
+		return (List<Function<T, Double>>) (List) Collections.unmodifiableList(this.minPriceExtras.get(type));
+	}
+
+	@Override
+	public <T> void registerBlacklist(Class<? extends Entry<?, T, ?, ?, ?>> type, Predicate<T> blacklist) {
+		this.blacklists.put(type, blacklist);
+	}
+
+	@Override
+	public <T> boolean isBlacklisted(Class<? extends Entry<?, T, ?, ?, ?>> type, T element) {
+		Predicate<T> blacklist = (Predicate<T>) this.blacklists.get(type);
+		return blacklist != null && blacklist.test(element);
+	}
+
+	@Override
+	public MetricsRegistry getMetrics() {
+		return this.metrics;
+	}
+
+	@Override
+	public MarketSubscription subscribe(Consumer<MarketEvent> consumer) {
+		return this.events.subscribe(consumer);
+	}
+
+	public MarketEventBus getEvents() {
+		return this.events;
 	}
 
 	public static class SpigotEntryClassification extends EntryClassification<CommandIssuer> {
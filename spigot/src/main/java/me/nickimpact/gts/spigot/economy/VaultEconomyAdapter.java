@@ -0,0 +1,80 @@
+package me.nickimpact.gts.spigot.economy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.Striped;
+import lombok.Getter;
+import me.nickimpact.gts.economy.EconomyAdapter;
+import me.nickimpact.gts.economy.EconomyTimings;
+import net.milkbowl.vault.economy.Economy;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Adapts a Vault {@link Economy}. Vault offers no conditional withdrawal, so balance checks and withdrawals
+ * made through this adapter are serialized per player. That keeps concurrent GTS transactions from spending
+ * the same funds twice.
+ */
+public class VaultEconomyAdapter implements EconomyAdapter {
+
+	@Getter private final Economy economy;
+	@Getter private final EconomyTimings timings;
+
+	private final Cache<UUID, OfflinePlayer> players = CacheBuilder.newBuilder()
+			.expireAfterAccess(10, TimeUnit.MINUTES)
+			.build();
+	private final Striped<Lock> locks = Striped.lock(64);
+
+	public VaultEconomyAdapter(Economy economy, EconomyTimings timings) {
+		this.economy = economy;
+		this.timings = timings;
+	}
+
+	public OfflinePlayer getPlayer(UUID uuid) {
+		try {
+			return this.players.get(uuid, () -> Bukkit.getOfflinePlayer(uuid));
+		} catch (ExecutionException e) {
+			return Bukkit.getOfflinePlayer(uuid);
+		}
+	}
+
+	public String format(double amount) {
+		return this.economy.format(amount);
+	}
+
+	@Override
+	public double getBalance(UUID uuid) {
+		return this.timings.time("balance", () -> this.economy.getBalance(this.getPlayer(uuid)));
+	}
+
+	@Override
+	public boolean withdrawIfSufficient(UUID uuid, double amount) {
+		OfflinePlayer player = this.getPlayer(uuid);
+		Lock lock = this.locks.get(uuid);
+		lock.lock();
+		try {
+			if(!this.timings.time("has", () -> this.economy.has(player, amount))) {
+				return false;
+			}
+
+			return this.timings.time("withdraw", () -> this.economy.withdrawPlayer(player, amount)).transactionSuccess();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean deposit(UUID uuid, double amount) {
+		return this.timings.time("deposit", () -> this.economy.depositPlayer(this.getPlayer(uuid), amount)).transactionSuccess();
+	}
+
+	@Override
+	public void invalidate(UUID uuid) {
+		this.players.invalidate(uuid);
+	}
+}
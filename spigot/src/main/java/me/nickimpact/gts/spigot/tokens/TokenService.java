@@ -8,13 +8,16 @@ import com.nickimpact.impactor.api.configuration.ConfigKey;
 import com.nickimpact.impactor.api.utilities.Time;
 import me.nickimpact.gts.api.listings.Listing;
 import me.nickimpact.gts.api.listings.prices.Price;
+import me.nickimpact.gts.api.metrics.Timer;
 import me.nickimpact.gts.api.plugin.PluginInstance;
 import me.nickimpact.gts.config.ConfigKeys;
 import me.nickimpact.gts.config.MsgConfigKeys;
+import me.nickimpact.gts.metrics.Tracer;
+import me.nickimpact.gts.pricing.PriceSummary;
 import me.nickimpact.gts.spigot.MoneyPrice;
 import me.nickimpact.gts.spigot.SpigotGTSPlugin;
 import me.nickimpact.gts.spigot.SpigotListing;
-import net.milkbowl.vault.economy.Economy;
+import me.nickimpact.gts.spigot.economy.VaultEconomyAdapter;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.OfflinePlayer;
@@ -27,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -39,8 +43,16 @@ public class TokenService {
 	private final SpigotGTSPlugin plugin;
 	private final Map<String, Translator> translators = Maps.newHashMap();
 
+	/** Times each template rendered, which happens for every line of every message and listing icon */
+	private final Timer renders;
+
 	public TokenService(SpigotGTSPlugin plugin) {
+		this(plugin, plugin.getAPIService().getMetrics().timer("templates.render"));
+	}
+
+	public TokenService(SpigotGTSPlugin plugin, Timer renders) {
 		this.plugin = plugin;
+		this.renders = renders;
 		translators.put("player", (p, v, m) -> {
 			if(p instanceof Player) {
 				return Optional.of(Bukkit.getPlayer(((Player) p).getUniqueId()).getDisplayName());
@@ -57,7 +69,7 @@ public class TokenService {
 			if(listing == null)
 				return Optional.empty();
 
-			return Optional.of(Bukkit.getOfflinePlayer(listing.getOwnerUUID()).getName());
+			return plugin.getNameCache().get(listing.getOwnerUUID());
 		});
 		translators.put("price", (p, v, m) -> {
 			SpigotListing listing = getListingFromVariableIfExists(m);
@@ -107,7 +119,36 @@ public class TokenService {
 
 			return translate.apply(listing.getName());
 		});
-		translators.put("gts_max_price", (p, v, m) -> Optional.of(Bukkit.getServicesManager().getRegistration(Economy.class).getProvider().format(PluginInstance.getInstance().getConfiguration().get(ConfigKeys.MAX_MONEY_PRICE))));
+		translators.put("gts_max_price", (p, v, m) -> Optional.of(plugin.getEconomyAdapter().format(PluginInstance.getInstance().getConfiguration().get(ConfigKeys.MAX_MONEY_PRICE))));
+		this.putPriceToken("gts_price_median", PriceSummary::getMedian);
+		this.putPriceToken("gts_price_average", PriceSummary::getAverage);
+		this.putPriceToken("gts_price_low", PriceSummary::getLow);
+		this.putPriceToken("gts_price_high", PriceSummary::getHigh);
+		translators.put("gts_price_sales", (p, v, m) -> {
+			SpigotListing listing = getListingFromVariableIfExists(m);
+			if(listing == null)
+				return Optional.empty();
+
+			return Optional.of("" + plugin.getPriceHistory().lookup(listing.getEntry().getPriceKeys()).map(PriceSummary::getSales).orElse(0L));
+		});
+	}
+
+	/**
+	 * Registers a token giving what the listing in context typically sells for, going by its price history. Prices
+	 * are tracked per unit, so are scaled up to the size of the listing.
+	 */
+	private void putPriceToken(String key, ToDoubleFunction<PriceSummary> stat) {
+		translators.put(key, (p, v, m) -> {
+			SpigotListing listing = getListingFromVariableIfExists(m);
+			if(listing == null)
+				return Optional.empty();
+
+			Optional<PriceSummary> summary = plugin.getPriceHistory().lookup(listing.getEntry().getPriceKeys());
+			if(!summary.isPresent())
+				return Optional.of("-");
+
+			return Optional.of(plugin.getEconomyAdapter().format(stat.applyAsDouble(summary.get()) * listing.getEntry().getPriceUnits()));
+		});
 	}
 
 	@SuppressWarnings("unchecked")
@@ -130,6 +171,10 @@ public class TokenService {
 	}
 
 	public String process(String input, CommandSender source, Map<String, Function<CommandSender, Optional<String>>> tokens, Map<String, Object> variables) {
+		return this.renders.time(() -> Tracer.active().phase("templates", () -> this.render(input, source, tokens, variables)));
+	}
+
+	private String render(String input, CommandSender source, Map<String, Function<CommandSender, Optional<String>>> tokens, Map<String, Object> variables) {
 		String reference = input;
 		List<String> arguments = Lists.newArrayList();
 		while(!reference.isEmpty()) {
@@ -221,9 +266,9 @@ public class TokenService {
 	}
 
 	private static String getBalance(CommandSender source) {
-		Economy economy = Bukkit.getServicesManager().getRegistration(Economy.class).getProvider();
+		VaultEconomyAdapter economy = ((SpigotGTSPlugin) PluginInstance.getInstance()).getEconomyAdapter();
 		if(source instanceof OfflinePlayer) {
-			return economy.format(economy.getBalance((OfflinePlayer) source));
+			return economy.format(economy.getBalance(((OfflinePlayer) source).getUniqueId()));
 		}
 
 		return economy.format(0.0);
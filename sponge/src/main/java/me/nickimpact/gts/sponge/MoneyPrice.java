@@ -3,9 +3,7 @@ package me.nickimpact.gts.sponge;
 import lombok.Setter;
 import me.nickimpact.gts.api.listings.prices.Price;
 import me.nickimpact.gts.api.plugin.PluginInstance;
-import me.nickimpact.gts.config.ConfigKeys;
-import org.spongepowered.api.Sponge;
-import org.spongepowered.api.service.economy.EconomyService;
+import me.nickimpact.gts.sponge.economy.SpongeEconomyAdapter;
 import org.spongepowered.api.text.Text;
 
 import java.math.BigDecimal;
@@ -13,7 +11,7 @@ import java.util.UUID;
 
 public class MoneyPrice implements Price<Text> {
 
-	@Setter private static EconomyService economy;
+	@Setter private static SpongeEconomyAdapter economy;
 	private BigDecimal price;
 
 	public MoneyPrice(double price) {
@@ -22,7 +20,7 @@ public class MoneyPrice implements Price<Text> {
 
 	@Override
 	public Text getText() {
-		return economy.getDefaultCurrency().format(price);
+		return economy.getCurrency().format(price);
 	}
 
 	@Override
@@ -32,24 +30,21 @@ public class MoneyPrice implements Price<Text> {
 
 	@Override
 	public boolean canPay(UUID uuid) {
-		return economy.getOrCreateAccount(uuid).get().getBalance(economy.getDefaultCurrency()).compareTo(price) >= 0;
+		return economy.getExactBalance(uuid).compareTo(price) >= 0;
 	}
 
 	@Override
 	public boolean pay(UUID uuid) {
-		if(this.canPay(uuid)) {
-			economy.getOrCreateAccount(uuid).get().withdraw(economy.getDefaultCurrency(), price, Sponge.getCauseStackManager().getCurrentCause());
-		}
-		return false;
+		return economy.withdrawIfSufficient(uuid, price);
 	}
 
 	@Override
 	public void reward(UUID uuid) {
-		economy.getOrCreateAccount(uuid).get().deposit(economy.getDefaultCurrency(), price, Sponge.getCauseStackManager().getCurrentCause());
+		economy.deposit(uuid, price);
 	}
 
 	@Override
 	public double calcTax() {
-		return price.doubleValue() * PluginInstance.getInstance().getConfiguration().get(ConfigKeys.TAX_MONEY_TAX);
+		return price.doubleValue() * ((SpongePlugin) PluginInstance.getInstance()).getSettings().getMoneyTax();
 	}
 }
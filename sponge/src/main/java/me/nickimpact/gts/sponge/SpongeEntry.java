@@ -6,6 +6,8 @@ import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.item.inventory.ItemStack;
 
+import java.util.concurrent.CompletableFuture;
+
 public abstract class SpongeEntry<T, D> extends Entry<T, D, Player, User, ItemStack> {
 
 	@Deprecated
@@ -14,4 +16,18 @@ public abstract class SpongeEntry<T, D> extends Entry<T, D, Player, User, ItemSt
 	public SpongeEntry(T element) {
 		super(element);
 	}
+
+	/**
+	 * Gives this entry to a user who is currently offline. Entries may override this to complete the delivery
+	 * on a later tick, such as to batch several deliveries to the same user together, and the returned future
+	 * may complete on any thread. The listing is kept off the market until it does. By default, the entry is
+	 * simply given via
+	 * {@link #giveEntry(Object)}.
+	 *
+	 * @param user The offline user to give the entry element to
+	 * @return A future completing with <code>true</code> if the entry was given successfully, <code>false</code> otherwise
+	 */
+	public CompletableFuture<Boolean> giveEntryOffline(User user) {
+		return CompletableFuture.completedFuture(this.giveEntry(user));
+	}
 }
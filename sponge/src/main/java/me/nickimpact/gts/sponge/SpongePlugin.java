@@ -1,6 +1,10 @@
 package me.nickimpact.gts.sponge;
 
 import me.nickimpact.gts.api.plugin.IGTSPlugin;
+import me.nickimpact.gts.config.ConfigSnapshot;
+import me.nickimpact.gts.pricing.PriceHistory;
+import me.nickimpact.gts.sponge.economy.SpongeEconomyAdapter;
+import me.nickimpact.gts.utils.NameCache;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.service.economy.EconomyService;
 
@@ -10,6 +14,35 @@ public interface SpongePlugin extends IGTSPlugin {
 
 	EconomyService getEconomy();
 
+	/**
+	 * Fetches the adapter wrapping the current economy service, which caches account handles and times
+	 * calls into the provider.
+	 *
+	 * @return The economy adapter
+	 */
+	SpongeEconomyAdapter getEconomyAdapter();
+
 	PluginContainer getPluginContainer();
 
+	/**
+	 * Fetches the settings snapshot built from the most recently loaded config.
+	 *
+	 * @return The current settings snapshot
+	 */
+	ConfigSnapshot getSettings();
+
+	/**
+	 * Fetches the cache used to resolve player names for listings, such as a listing's seller.
+	 *
+	 * @return The player name cache
+	 */
+	NameCache getNameCache();
+
+	/**
+	 * Fetches the record of what things have sold for.
+	 *
+	 * @return The price history
+	 */
+	PriceHistory getPriceHistory();
+
 }
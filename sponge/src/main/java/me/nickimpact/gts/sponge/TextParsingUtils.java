@@ -7,10 +7,10 @@ import io.github.nucleuspowered.nucleus.api.NucleusAPI;
 import io.github.nucleuspowered.nucleus.api.exceptions.NucleusException;
 import io.github.nucleuspowered.nucleus.api.text.NucleusTextTemplate;
 import me.nickimpact.gts.api.listings.prices.Price;
+import me.nickimpact.gts.metrics.Tracer;
+import me.nickimpact.gts.sponge.economy.SpongeEconomyAdapter;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.entity.living.player.User;
-import org.spongepowered.api.service.economy.EconomyService;
-import org.spongepowered.api.service.economy.account.UniqueAccount;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.serializer.TextSerializers;
 
@@ -60,7 +60,9 @@ public class TextParsingUtils {
 	}
 
 	public Text parse(NucleusTextTemplate template, CommandSource source, @Nullable Map<String, Function<CommandSource, Optional<Text>>> tokens, @Nullable Map<String, Object> variables) {
-		return template.getForCommandSource(source, tokens, variables);
+		return this.plugin.getAPIService().getMetrics().timer("templates.render").time(
+				() -> Tracer.active().phase("templates", () -> template.getForCommandSource(source, tokens, variables))
+		);
 	}
 
 	public List<Text> parse(List<NucleusTextTemplate> templates, CommandSource source, @Nullable Map<String, Function<CommandSource, Optional<Text>>> tokens, @Nullable Map<String, Object> variables) {
@@ -78,11 +80,8 @@ public class TextParsingUtils {
 
 	public Text getBalance(CommandSource source) {
 		if(source instanceof User) {
-			EconomyService econ = plugin.getEconomy();
-
-			Optional<UniqueAccount> acc = econ.getOrCreateAccount(((User) source).getUniqueId());
-			if(acc.isPresent())
-				return econ.getDefaultCurrency().format(acc.get().getBalance(econ.getDefaultCurrency()));
+			SpongeEconomyAdapter economy = plugin.getEconomyAdapter();
+			return economy.getCurrency().format(economy.getExactBalance(((User) source).getUniqueId()));
 		}
 
 		return Text.of(plugin.getEconomy().getDefaultCurrency().format(BigDecimal.ZERO));
@@ -0,0 +1,126 @@
+package me.nickimpact.gts.sponge.discord;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import me.nickimpact.gts.api.plugin.PluginInstance;
+import me.nickimpact.gts.discord.DiscordNotifier;
+import me.nickimpact.gts.discord.DiscordOption;
+import me.nickimpact.gts.sponge.SpongePlugin;
+import me.nickimpact.gts.sponge.TextParsingUtils;
+import me.nickimpact.gts.sponge.utils.MessageUtils;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.text.Text;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * An immutable snapshot of a market event destined for discord. When the event is built, on the server thread,
+ * each placeholder in the template is resolved once into a fixed piece of text, so it reflects the listing as it
+ * stood at the time of the event. The template itself is rendered from those tokens on the notification worker,
+ * which never touches a listing, entry or player.
+ */
+public class DiscordEvent {
+
+	private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{([^{}]+)}}");
+
+	private final DiscordOption option;
+	private final List<String> template;
+	private final Map<String, Text> tokens;
+
+	private DiscordEvent(DiscordEventBuilder builder) {
+		this.option = builder.option;
+		this.template = ImmutableList.copyOf(builder.template);
+		this.tokens = resolve(this.template, builder.tokens, builder.variables);
+	}
+
+	public String getContent() {
+		return render(this.template, this.tokens);
+	}
+
+	public CompletableFuture<Void> publish(DiscordNotifier notifier) {
+		return notifier.publish(this.option, this::getContent);
+	}
+
+	private static Map<String, Text> resolve(List<String> template, Map<String, Text> tokens, Map<String, Object> variables) {
+		TextParsingUtils parser = ((SpongePlugin) PluginInstance.getInstance()).getTextParsingUtils();
+		Map<String, Function<CommandSource, Optional<Text>>> supplied = wrap(tokens);
+
+		Map<String, Text> resolved = Maps.newHashMap(tokens);
+		for(String line : template) {
+			Matcher matcher = PLACEHOLDER.matcher(line);
+			while(matcher.find()) {
+				String key = matcher.group(1);
+				if(!resolved.containsKey(key)) {
+					resolved.put(key, parser.parse(matcher.group(), null, supplied, variables));
+				}
+			}
+		}
+
+		return ImmutableMap.copyOf(resolved);
+	}
+
+	private static String render(List<String> template, Map<String, Text> tokens) {
+		List<Text> output = ((SpongePlugin) PluginInstance.getInstance()).getTextParsingUtils().parse(template, null, wrap(tokens), null);
+		return MessageUtils.asSingleWithNewlines(output.stream().map(Text::toPlain).collect(Collectors.toList()));
+	}
+
+	private static Map<String, Function<CommandSource, Optional<Text>>> wrap(Map<String, Text> tokens) {
+		Map<String, Function<CommandSource, Optional<Text>>> wrapped = Maps.newHashMap();
+		tokens.forEach((key, value) -> wrapped.put(key, src -> Optional.of(value)));
+		return wrapped;
+	}
+
+	public static DiscordEventBuilder builder() {
+		return new DiscordEventBuilder();
+	}
+
+	public static class DiscordEventBuilder {
+
+		private DiscordOption option;
+		private List<String> template;
+		private Map<String, Text> tokens = Maps.newHashMap();
+		private Map<String, Object> variables = Maps.newHashMap();
+
+		public DiscordEventBuilder option(DiscordOption option) {
+			this.option = option;
+			return this;
+		}
+
+		public DiscordEventBuilder template(List<String> template) {
+			this.template = template;
+			return this;
+		}
+
+		public DiscordEventBuilder token(String key, Text value) {
+			this.tokens.put(key, value);
+			return this;
+		}
+
+		public DiscordEventBuilder token(String key, String value) {
+			return this.token(key, Text.of(value));
+		}
+
+		public DiscordEventBuilder variable(String key, Object value) {
+			this.variables.put(key, value);
+			return this;
+		}
+
+		/**
+		 * Resolves the placeholders of the template, which must be done on the server thread as they may read
+		 * game state. Rendering the template from them is left to whoever publishes the event.
+		 *
+		 * @return The event, ready to be published
+		 */
+		public DiscordEvent build() {
+			return new DiscordEvent(this);
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package me.nickimpact.gts.sponge.economy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Getter;
+import me.nickimpact.gts.economy.EconomyAdapter;
+import me.nickimpact.gts.economy.EconomyTimings;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.service.economy.Currency;
+import org.spongepowered.api.service.economy.EconomyService;
+import org.spongepowered.api.service.economy.account.UniqueAccount;
+import org.spongepowered.api.service.economy.transaction.ResultType;
+import org.spongepowered.api.service.economy.transaction.TransactionResult;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adapts a Sponge {@link EconomyService}. A new adapter should be created whenever the economy provider changes,
+ * as account handles cached by the old adapter belong to the old provider.
+ */
+public class SpongeEconomyAdapter implements EconomyAdapter {
+
+	@Getter private final EconomyService service;
+	@Getter private final Currency currency;
+	@Getter private final EconomyTimings timings;
+
+	private final Cache<UUID, UniqueAccount> accounts = CacheBuilder.newBuilder()
+			.expireAfterAccess(10, TimeUnit.MINUTES)
+			.build();
+
+	public SpongeEconomyAdapter(EconomyService service, EconomyTimings timings) {
+		this.service = service;
+		this.currency = service.getDefaultCurrency();
+		this.timings = timings;
+	}
+
+	public Optional<UniqueAccount> getAccount(UUID uuid) {
+		UniqueAccount account = this.accounts.getIfPresent(uuid);
+		if(account == null) {
+			account = this.timings.time("account", () -> this.service.getOrCreateAccount(uuid)).orElse(null);
+			if(account != null) {
+				this.accounts.put(uuid, account);
+			}
+		}
+
+		return Optional.ofNullable(account);
+	}
+
+	@Override
+	public double getBalance(UUID uuid) {
+		return this.getExactBalance(uuid).doubleValue();
+	}
+
+	/**
+	 * Fetches the balance of a player in the default currency, as held by the provider.
+	 *
+	 * @param uuid The UUID of the player
+	 * @return The player's balance
+	 */
+	public BigDecimal getExactBalance(UUID uuid) {
+		return this.getAccount(uuid)
+				.map(account -> this.timings.time("balance", () -> account.getBalance(this.currency)))
+				.orElse(BigDecimal.ZERO);
+	}
+
+	@Override
+	public boolean withdrawIfSufficient(UUID uuid, double amount) {
+		return this.withdrawIfSufficient(uuid, BigDecimal.valueOf(amount));
+	}
+
+	public boolean withdrawIfSufficient(UUID uuid, BigDecimal amount) {
+		// Sponge providers report ACCOUNT_NO_FUNDS rather than letting a balance go negative, so the withdrawal
+		// itself acts as the balance check.
+		return this.getAccount(uuid)
+				.map(account -> this.timings.time("withdraw", () -> account.withdraw(this.currency, amount, Sponge.getCauseStackManager().getCurrentCause())))
+				.map(TransactionResult::getResult)
+				.filter(result -> result == ResultType.SUCCESS)
+				.isPresent();
+	}
+
+	@Override
+	public boolean deposit(UUID uuid, double amount) {
+		return this.deposit(uuid, BigDecimal.valueOf(amount));
+	}
+
+	public boolean deposit(UUID uuid, BigDecimal amount) {
+		return this.getAccount(uuid)
+				.map(account -> this.timings.time("deposit", () -> account.deposit(this.currency, amount, Sponge.getCauseStackManager().getCurrentCause())))
+				.map(TransactionResult::getResult)
+				.filter(result -> result == ResultType.SUCCESS)
+				.isPresent();
+	}
+
+	@Override
+	public void invalidate(UUID uuid) {
+		this.accounts.invalidate(uuid);
+	}
+}
@@ -2,9 +2,9 @@ package me.nickimpact.gts.sponge.service;
 
 import co.aikar.commands.CommandIssuer;
 import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Multimap;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSerializer;
@@ -13,6 +13,8 @@ import lombok.Setter;
 import me.nickimpact.gts.api.GtsService;
 import me.nickimpact.gts.api.deprecated.OldAdapter;
 import me.nickimpact.gts.api.enums.CommandResults;
+import me.nickimpact.gts.api.events.MarketEvent;
+import me.nickimpact.gts.api.events.MarketSubscription;
 import me.nickimpact.gts.api.holders.EntryClassification;
 import me.nickimpact.gts.api.holders.EntryRegistry;
 import me.nickimpact.gts.api.listings.ListingManager;
@@ -22,17 +24,21 @@ import me.nickimpact.gts.api.plugin.IGTSPlugin;
 import me.nickimpact.gts.api.searching.Searcher;
 import me.nickimpact.gts.api.storage.IGtsStorage;
 import me.nickimpact.gts.api.util.TriFunction;
+import me.nickimpact.gts.market.MarketEventBus;
+import me.nickimpact.gts.metrics.MetricsRegistry;
 import me.nickimpact.gts.sponge.text.TokenHolder;
 import me.nickimpact.gts.sponge.text.TokenService;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.text.Text;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 @Setter
 public class SpongeGtsService implements ExtendedGtsService {
@@ -50,10 +56,15 @@ public class SpongeGtsService implements ExtendedGtsService {
 	private GsonBuilder gson = new GsonBuilder().setPrettyPrinting();
 
 	private Map<String, Searcher> searcherMap = Maps.newHashMap();
-	private Multimap<Class<? extends Entry>, Function<?, Double>> minPriceExtras = ArrayListMultimap.create();
+	private ListMultimap<Class<? extends Entry>, Function<?, Double>> minPriceExtras = ArrayListMultimap.create();
+	private Map<Class<? extends Entry>, Predicate<?>> blacklists = Maps.newConcurrentMap();
+
+	private final MetricsRegistry metrics = new MetricsRegistry();
+	private final MarketEventBus events;
 
 	public SpongeGtsService(IGTSPlugin plugin) {
 		this.plugin = plugin;
+		this.events = new MarketEventBus(plugin, this.metrics);
 	}
 
 	@Override
@@ -126,11 +137,18 @@ public class SpongeGtsService implements ExtendedGtsService {
 
 	@Override
 	public <T> List<Function<T, Double>> getMinPriceOptionsForEntryType(Class<? extends Entry<?, T, ?, ?, ?>> type) {
-		return this.minPriceExtras.entries().stream()
-				.filter(entry -> entry.getKey().equals(type))
-				.map(Map.Entry::getValue)
-				.map(function -> (Function<T, Double>) function)
-				.collect(Collectors.toList());
+		return (List<Function<T, Double>>) (List) Collections.unmodifiableList(this.minPriceExtras.get(type));
+	}
+
+	@Override
+	public <T> void registerBlacklist(Class<? extends Entry<?, T, ?, ?, ?>> type, Predicate<T> blacklist) {
+		this.blacklists.put(type, blacklist);
+	}
+
+	@Override
+	public <T> boolean isBlacklisted(Class<? extends Entry<?, T, ?, ?, ?>> type, T element) {
+		Predicate<T> blacklist = (Predicate<T>) this.blacklists.get(type);
+		return blacklist != null && blacklist.test(element);
 	}
 
 	@Override
@@ -138,6 +156,20 @@ public class SpongeGtsService implements ExtendedGtsService {
 		holder.getTokens().forEach((key, translator) -> tokenService.register(key, translator));
 	}
 
+	@Override
+	public MetricsRegistry getMetrics() {
+		return this.metrics;
+	}
+
+	@Override
+	public MarketSubscription subscribe(Consumer<MarketEvent> consumer) {
+		return this.events.subscribe(consumer);
+	}
+
+	public MarketEventBus getEvents() {
+		return this.events;
+	}
+
 	public static class SpongeEntryClassification extends EntryClassification<CommandIssuer> {
 		SpongeEntryClassification(Class<? extends Entry> classification, List<String> identifers, String itemRep, EntryUI ui, TriFunction<CommandIssuer, List<String>, Boolean, CommandResults> cmdHandler) {
 			super(classification, identifers, itemRep, ui, cmdHandler);
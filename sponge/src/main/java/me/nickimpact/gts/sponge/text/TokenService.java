@@ -10,13 +10,11 @@ import me.nickimpact.gts.api.listings.Listing;
 import me.nickimpact.gts.api.listings.prices.Price;
 import me.nickimpact.gts.config.ConfigKeys;
 import me.nickimpact.gts.config.MsgConfigKeys;
+import me.nickimpact.gts.pricing.PriceSummary;
 import me.nickimpact.gts.sponge.MoneyPrice;
 import me.nickimpact.gts.sponge.SpongePlugin;
 import me.nickimpact.gts.sponge.Translator;
-import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandSource;
-import org.spongepowered.api.entity.living.player.User;
-import org.spongepowered.api.service.user.UserStorageService;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.serializer.TextSerializers;
 
@@ -26,6 +24,7 @@ import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.ToDoubleFunction;
 
 public final class TokenService implements NucleusMessageTokenService.TokenParser {
 
@@ -52,7 +51,7 @@ public final class TokenService implements NucleusMessageTokenService.TokenParse
 			if(listing == null)
 				return Optional.of(Text.EMPTY);
 
-			return Optional.of(Text.of(Sponge.getServiceManager().provideUnchecked(UserStorageService.class).get(listing.getOwnerUUID()).map(User::getName).orElse("???")));
+			return Optional.of(Text.of(plugin.getNameCache().get(listing.getOwnerUUID(), "???")));
 		});
 		translatorMap.put("price", (p, v, m) -> {
 			Listing listing = getListingFromVaribleIfExists(m);
@@ -102,6 +101,17 @@ public final class TokenService implements NucleusMessageTokenService.TokenParse
 
 			return Optional.of(TextSerializers.FORMATTING_CODE.deserialize(listing.getName()));
 		});
+		this.putPriceToken("gts_price_median", PriceSummary::getMedian);
+		this.putPriceToken("gts_price_average", PriceSummary::getAverage);
+		this.putPriceToken("gts_price_low", PriceSummary::getLow);
+		this.putPriceToken("gts_price_high", PriceSummary::getHigh);
+		translatorMap.put("gts_price_sales", (p, v, m) -> {
+			Listing listing = getListingFromVaribleIfExists(m);
+			if(listing == null)
+				return Optional.empty();
+
+			return Optional.of(Text.of(plugin.getPriceHistory().lookup(listing.getEntry().getPriceKeys()).map(PriceSummary::getSales).orElse(0L)));
+		});
 
 		try {
 			NucleusAPI.getMessageTokenService().register(
@@ -114,6 +124,24 @@ public final class TokenService implements NucleusMessageTokenService.TokenParse
 		}
 	}
 
+	/**
+	 * Registers a token giving what the listing in context typically sells for, going by its price history. Prices
+	 * are tracked per unit, so are scaled up to the size of the listing.
+	 */
+	private void putPriceToken(String key, ToDoubleFunction<PriceSummary> stat) {
+		translatorMap.put(key, (p, v, m) -> {
+			Listing listing = getListingFromVaribleIfExists(m);
+			if(listing == null)
+				return Optional.empty();
+
+			Optional<PriceSummary> summary = plugin.getPriceHistory().lookup(listing.getEntry().getPriceKeys());
+			if(!summary.isPresent())
+				return Optional.of(Text.of("-"));
+
+			return Optional.of(new MoneyPrice(stat.applyAsDouble(summary.get()) * listing.getEntry().getPriceUnits()).getText());
+		});
+	}
+
 	public boolean register(String key, Translator translator) {
 		if(NucleusAPI.getMessageTokenService().registerPrimaryToken(key.toLowerCase(), plugin.getPluginContainer(), key.toLowerCase())) {
 			translatorMap.put(key, translator);